@@ -0,0 +1,98 @@
+package com.project.savingbee.productCompare.util;
+
+import com.project.savingbee.productCompare.util.CalcEngine.CalcResult;
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 실수령액 계산 - double 빠른 경로(원/bp)와 BigDecimal 기준 경로 비교
+ * <p>
+ * 카탈로그와 비슷한 분포의 입력(금리 1.00~6.00%, 기간 1~36개월, 단리/복리)을 고정 시드로 만들어 두 경로에 같은 순서로 넣는다.
+ * 실행: {@code ./gradlew jmh} (특정 벤치마크만: {@code ./gradlew jmh -Pjmh.includes=CalcEngineBenchmark})
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CalcEngineBenchmark {
+
+  private static final int CASES = 1024; // 2의 거듭제곱
+  private static final int[] TERMS = {1, 3, 6, 12, 24, 36};
+
+  private long[] depositAmounts;
+  private long[] savingsAmounts;
+  private int[] rateBps;
+  private int[] termMonths;
+  private String[] intrRateTypes;
+
+  // 기준 경로 입력 (변환 비용을 빼고 계산만 비교하도록 미리 만들어 둠)
+  private BigDecimal[] depositAmountDecimals;
+  private BigDecimal[] savingsAmountDecimals;
+  private BigDecimal[] rates;
+
+  private int cursor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    depositAmounts = new long[CASES];
+    savingsAmounts = new long[CASES];
+    rateBps = new int[CASES];
+    termMonths = new int[CASES];
+    intrRateTypes = new String[CASES];
+    depositAmountDecimals = new BigDecimal[CASES];
+    savingsAmountDecimals = new BigDecimal[CASES];
+    rates = new BigDecimal[CASES];
+
+    for (int i = 0; i < CASES; i++) {
+      depositAmounts[i] = random.nextLong(1_000_000L, 100_000_001L);
+      savingsAmounts[i] = random.nextLong(10_000L, 3_000_001L);
+      rateBps[i] = random.nextInt(100, 601);
+      termMonths[i] = TERMS[random.nextInt(TERMS.length)];
+      intrRateTypes[i] = random.nextBoolean() ? "S" : "M";
+      depositAmountDecimals[i] = BigDecimal.valueOf(depositAmounts[i]);
+      savingsAmountDecimals[i] = BigDecimal.valueOf(savingsAmounts[i]);
+      rates[i] = BigDecimal.valueOf(rateBps[i], 2);
+    }
+  }
+
+  @Benchmark
+  public CalcResult depositFast() {
+    int i = next();
+    return CalcEngine.deposit(depositAmounts[i], rateBps[i], termMonths[i], intrRateTypes[i]);
+  }
+
+  @Benchmark
+  public CalcResult depositExact() {
+    int i = next();
+    return CalcEngine.depositExact(depositAmountDecimals[i], rates[i], termMonths[i],
+        intrRateTypes[i]);
+  }
+
+  @Benchmark
+  public CalcResult savingsFast() {
+    int i = next();
+    return CalcEngine.savings(savingsAmounts[i], rateBps[i], termMonths[i], intrRateTypes[i]);
+  }
+
+  @Benchmark
+  public CalcResult savingsExact() {
+    int i = next();
+    return CalcEngine.savingsExact(savingsAmountDecimals[i], rates[i], termMonths[i],
+        intrRateTypes[i]);
+  }
+
+  private int next() {
+    int i = cursor;
+    cursor = (i + 1) & (CASES - 1);
+    return i;
+  }
+}
@@ -0,0 +1,238 @@
+package com.project.savingbee.catalog.index;
+
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.catalog.model.Suggestion;
+import com.project.savingbee.util.BasisPoints;
+import com.project.savingbee.util.HangulJamo;
+import com.project.savingbee.util.TextNormalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품명/금융회사명 접두사 자동완성 trie
+ * <p>
+ * 후보마다 자모열(카카오 -> ㅋㅏㅋㅏㅇㅗ)과 초성열(ㅋㅋㅇ)을 키로 넣으므로 완성된 음절, 입력 중인 음절, 초성 입력 모두 같은
+ * trie에서 찾는다. 각 노드에 금리 순 상위 {@value #MAX_SUGGESTIONS}개 후보를 미리 저장해 두어 조회는 접두사만큼 노드를
+ * 내려간 뒤 목록을 잘라 반환한다. 노드는 배열로 평탄화해 보관한다.
+ */
+@Slf4j
+@Component
+public class AutocompleteIndex implements CatalogIndex {
+
+  public static final int MAX_SUGGESTIONS = 20;
+
+  private final AtomicReference<Trie> trie = new AtomicReference<>(Trie.EMPTY);
+
+  @Override
+  public void rebuild(CatalogSnapshot snapshot) {
+    List<Entry> entries = collectEntries(snapshot);
+    Trie built = Trie.build(entries);
+    trie.set(built);
+    log.info("자동완성 trie 재구성 완료 - 후보: {}개, 노드: {}개", entries.size(), built.nodeCount());
+  }
+
+  /**
+   * 접두사로 시작하는 후보 (금리 높은 순, 최대 limit개)
+   */
+  public List<Suggestion> suggest(String prefix, int limit) {
+    String key = HangulJamo.decompose(TextNormalizer.normalize(prefix));
+    if (key.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+    return trie.get().lookup(key, Math.min(limit, MAX_SUGGESTIONS));
+  }
+
+  // 활성 상품과 금융회사를 후보로 변환 (금리 높은 순 → 이름 순)
+  private static List<Entry> collectEntries(CatalogSnapshot snapshot) {
+    List<Entry> entries = new ArrayList<>();
+    Map<String, int[]> companyBestBp = new LinkedHashMap<>();
+
+    for (CatalogProduct product : snapshot.getProducts()) {
+      if (!product.active() || product.finPrdtNm() == null) {
+        continue;
+      }
+      entries.add(new Entry(new Suggestion(product.finPrdtNm(), Suggestion.PRODUCT,
+          product.finPrdtCd(), product.kind().getType(), product.korCoNm(),
+          BasisPoints.toRate(product.maxRateBp())), product.finPrdtNm(), product.maxRateBp()));
+
+      if (product.korCoNm() != null) {
+        int[] best = companyBestBp.computeIfAbsent(product.korCoNm(),
+            name -> new int[]{BasisPoints.NONE});
+        best[0] = Math.max(best[0], product.maxRateBp());
+      }
+    }
+
+    companyBestBp.forEach((name, best) -> entries.add(new Entry(
+        new Suggestion(name, Suggestion.COMPANY, null, null, name, BasisPoints.toRate(best[0])),
+        name, best[0])));
+
+    entries.sort(Comparator.comparingInt(Entry::bp).reversed()
+        .thenComparing(Entry::name)
+        .thenComparing(entry -> entry.suggestion().type()));
+    return entries;
+  }
+
+  private record Entry(Suggestion suggestion, String name, int bp) {
+
+  }
+
+  private static final class Trie {
+
+    static final Trie EMPTY = new Trie(new char[1], new int[1], new int[1], new int[2],
+        new int[0], new Suggestion[0]);
+
+    // 노드 i의 자식은 [firstChild[i], firstChild[i] + childCount[i]) 구간에 글자 순으로 연속 배치
+    final char[] label;
+    final int[] firstChild;
+    final int[] childCount;
+    // 노드 i의 후보 id는 tops[topStart[i] .. topStart[i + 1])
+    final int[] topStart;
+    final int[] tops;
+    final Suggestion[] suggestions;
+
+    Trie(char[] label, int[] firstChild, int[] childCount, int[] topStart, int[] tops,
+        Suggestion[] suggestions) {
+      this.label = label;
+      this.firstChild = firstChild;
+      this.childCount = childCount;
+      this.topStart = topStart;
+      this.tops = tops;
+      this.suggestions = suggestions;
+    }
+
+    int nodeCount() {
+      return label.length;
+    }
+
+    List<Suggestion> lookup(String key, int limit) {
+      int node = 0;
+      for (int i = 0; i < key.length() && node >= 0; i++) {
+        node = child(node, key.charAt(i));
+      }
+      if (node < 0) {
+        return List.of();
+      }
+
+      int from = topStart[node];
+      int count = Math.min(limit, topStart[node + 1] - from);
+      Suggestion[] result = new Suggestion[count];
+      for (int i = 0; i < count; i++) {
+        result[i] = suggestions[tops[from + i]];
+      }
+      return Arrays.asList(result);
+    }
+
+    // 자식 노드 이진 탐색 (없으면 -1)
+    private int child(int node, char c) {
+      int low = firstChild[node];
+      int high = low + childCount[node] - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        char midLabel = label[mid];
+        if (midLabel < c) {
+          low = mid + 1;
+        } else if (midLabel > c) {
+          high = mid - 1;
+        } else {
+          return mid;
+        }
+      }
+      return -1;
+    }
+
+    // entries는 순위 순으로 정렬되어 있으므로 노드마다 먼저 도달한 후보부터 채우면 상위 목록이 된다
+    static Trie build(List<Entry> entries) {
+      BuildNode root = new BuildNode('\0');
+      Suggestion[] suggestions = new Suggestion[entries.size()];
+
+      for (int id = 0; id < entries.size(); id++) {
+        Entry entry = entries.get(id);
+        suggestions[id] = entry.suggestion();
+        String name = TextNormalizer.normalize(entry.name());
+        insert(root, HangulJamo.decompose(name), id);
+        insert(root, HangulJamo.chosung(name), id);
+      }
+
+      // 너비 우선으로 번호를 매겨 형제 노드를 연속 배치
+      List<BuildNode> order = new ArrayList<>();
+      ArrayDeque<BuildNode> queue = new ArrayDeque<>();
+      queue.add(root);
+      while (!queue.isEmpty()) {
+        BuildNode node = queue.poll();
+        order.add(node);
+        queue.addAll(node.children.values());
+      }
+
+      int size = order.size();
+      char[] label = new char[size];
+      int[] firstChild = new int[size];
+      int[] childCount = new int[size];
+      int[] topStart = new int[size + 1];
+      int totalTops = 0;
+      for (BuildNode node : order) {
+        totalTops += node.topCount;
+      }
+      int[] tops = new int[totalTops];
+
+      int nextChild = 1;
+      int topOffset = 0;
+      for (int i = 0; i < size; i++) {
+        BuildNode node = order.get(i);
+        label[i] = node.label;
+        firstChild[i] = nextChild;
+        childCount[i] = node.children.size();
+        nextChild += node.children.size();
+
+        topStart[i] = topOffset;
+        System.arraycopy(node.top, 0, tops, topOffset, node.topCount);
+        topOffset += node.topCount;
+      }
+      topStart[size] = topOffset;
+
+      return new Trie(label, firstChild, childCount, topStart, tops, suggestions);
+    }
+
+    private static void insert(BuildNode root, String key, int id) {
+      if (key.isEmpty()) {
+        return;
+      }
+      BuildNode node = root;
+      for (int i = 0; i < key.length(); i++) {
+        node = node.children.computeIfAbsent(key.charAt(i), BuildNode::new);
+        node.offer(id);
+      }
+    }
+  }
+
+  // trie 생성용 노드
+  private static final class BuildNode {
+
+    final char label;
+    final TreeMap<Character, BuildNode> children = new TreeMap<>();
+    final int[] top = new int[MAX_SUGGESTIONS];
+    int topCount;
+    int lastId = -1;
+
+    BuildNode(char label) {
+      this.label = label;
+    }
+
+    // 같은 후보의 자모열/초성열이 같은 노드를 지나도 한 번만 추가
+    void offer(int id) {
+      if (lastId != id && topCount < MAX_SUGGESTIONS) {
+        top[topCount++] = id;
+      }
+      lastId = id;
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.project.savingbee.catalog.index;
+
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+
+/**
+ * 카탈로그 스냅샷으로부터 만들어지는 인메모리 인덱스
+ * <p>
+ * 구현체는 rebuild에서 새 인덱스를 완성한 뒤 참조를 한 번에 교체해야 하며, 조회 중인 요청은 이전 인덱스를 계속 사용한다.
+ */
+public interface CatalogIndex {
+
+  void rebuild(CatalogSnapshot snapshot);
+}
@@ -0,0 +1,206 @@
+package com.project.savingbee.catalog.index;
+
+import com.project.savingbee.catalog.model.CatalogCompany;
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogRate;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.catalog.model.ProductKind;
+import com.project.savingbee.util.TextNormalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 비교 필터용 금리 인덱스
+ * <p>
+ * 금리 옵션을 (상품 종류, 저축기간, 이자율유형) 버킷으로 나누고, 버킷마다 적용 금리(bp) 내림차순 → 상품코드 순으로 미리 정렬한
+ * 기본형 배열(금리, 최소/최대 금액, 금융회사 순번)을 둔다. 정렬 순서가 곧 응답 순서라 조회 시 정렬 없이 앞에서부터 훑으면 되고,
+ * 최소 이자율보다 낮은 금리를 만나면 바로 멈춘다. 금융회사명 키워드는 요청마다 한 번 정규화된 금융회사명 색인에서 순번 비트맵으로
+ * 바꾸고, 금리 옵션은 순번 비트 확인만으로 거른다.
+ */
+@Slf4j
+@Component
+public class CompareRateIndex implements CatalogIndex {
+
+  private final AtomicReference<Index> index = new AtomicReference<>(Index.EMPTY);
+
+  @Override
+  public void rebuild(CatalogSnapshot snapshot) {
+    Index built = Index.build(snapshot);
+    index.set(built);
+    log.info("비교 금리 인덱스 재구성 완료 - 버킷: {}개, 금리 옵션: {}개, 금융회사: {}개",
+        built.buckets.size(), built.rateCount, built.companies.length);
+  }
+
+  /**
+   * 금융회사명 키워드(정규화 후 포함)에 맞는 금융회사와 순번 비트맵 (금융회사 고유번호 순)
+   */
+  public CompanyMatch matchCompanies(String keyword) {
+    Index current = index.get();
+    int[] ids = current.companyNames.search(TextNormalizer.normalize(keyword));
+
+    List<CatalogCompany> companies = new ArrayList<>(ids.length);
+    BitSet ordinals = new BitSet(current.companies.length);
+    for (int id : ids) {
+      companies.add(current.companies[id]);
+      ordinals.set(id);
+    }
+    return new CompanyMatch(companies, ordinals);
+  }
+
+  /**
+   * 조건에 맞는 금리 옵션 한 페이지와 전체 건수 (적용 금리 내림차순, 동률이면 상품코드 순)
+   *
+   * @param minRateBp  최소 적용 금리(bp)
+   * @param amountFloor 요청 금액의 원 단위 내림 값
+   * @param amountCeil  요청 금액의 원 단위 올림 값
+   * @param companies  금융회사 순번 제한 ({@link #matchCompanies}, null이면 제한 없음)
+   */
+  public Result search(ProductKind kind, int saveTrm, String intrRateType, int minRateBp,
+      long amountFloor, long amountCeil, BitSet companies, int offset, int limit) {
+    Bucket bucket = index.get().buckets.get(new Key(kind, saveTrm, normalizeType(intrRateType)));
+    if (bucket == null || (companies != null && companies.isEmpty())) {
+      return Result.EMPTY;
+    }
+    return bucket.search(minRateBp, amountFloor, amountCeil, companies, offset, limit);
+  }
+
+  private static String normalizeType(String intrRateType) {
+    return intrRateType == null ? null : intrRateType.trim().toUpperCase(Locale.ROOT);
+  }
+
+  /**
+   * 조회 결과
+   *
+   * @param hits  요청한 페이지의 (상품, 금리 옵션)
+   * @param total 조건에 맞는 전체 건수
+   */
+  public record Result(List<Hit> hits, int total) {
+
+    static final Result EMPTY = new Result(List.of(), 0);
+  }
+
+  public record Hit(CatalogProduct product, CatalogRate rate) {
+
+  }
+
+  /**
+   * 금융회사명 키워드 조회 결과
+   *
+   * @param companies 키워드를 포함하는 금융회사
+   * @param ordinals  금융회사 순번 비트맵 ({@link #search}의 금융회사 제한)
+   */
+  public record CompanyMatch(List<CatalogCompany> companies, BitSet ordinals) {
+
+  }
+
+  private record Key(ProductKind kind, int saveTrm, String intrRateType) {
+
+  }
+
+  private static final class Index {
+
+    static final Index EMPTY = new Index(Map.of(), 0, new CatalogCompany[0], GramPostings.EMPTY);
+
+    final Map<Key, Bucket> buckets;
+    final int rateCount;
+    final CatalogCompany[] companies; // 순번 -> 금융회사 (고유번호 순)
+    final GramPostings companyNames; // 정규화된 금융회사명
+
+    Index(Map<Key, Bucket> buckets, int rateCount, CatalogCompany[] companies,
+        GramPostings companyNames) {
+      this.buckets = buckets;
+      this.rateCount = rateCount;
+      this.companies = companies;
+      this.companyNames = companyNames;
+    }
+
+    static Index build(CatalogSnapshot snapshot) {
+      // 금융회사 순번 = 스냅샷 금융회사 목록 순서
+      CatalogCompany[] companies = snapshot.getCompanies().toArray(new CatalogCompany[0]);
+      String[] names = new String[companies.length];
+      Map<String, Integer> ordinals = new HashMap<>(companies.length * 2);
+      for (int i = 0; i < companies.length; i++) {
+        names[i] = companies[i].searchName();
+        ordinals.putIfAbsent(companies[i].finCoNo(), i);
+      }
+
+      // 비활성 상품도 비교 대상 (금리 테이블 기준 필터와 동일)
+      Map<Key, List<Hit>> grouped = new HashMap<>();
+      int rateCount = 0;
+      for (CatalogProduct product : snapshot.getProducts()) {
+        for (CatalogRate rate : product.rates()) {
+          if (rate.saveTrm() == null || rate.intrRateType() == null) {
+            continue;
+          }
+          Key key = new Key(product.kind(), rate.saveTrm(), normalizeType(rate.intrRateType()));
+          grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(new Hit(product, rate));
+          rateCount++;
+        }
+      }
+
+      Map<Key, Bucket> buckets = new HashMap<>(grouped.size() * 2);
+      grouped.forEach((key, hits) -> buckets.put(key, Bucket.of(hits, ordinals)));
+      return new Index(Map.copyOf(buckets), rateCount, companies, GramPostings.build(names));
+    }
+  }
+
+  // 적용 금리 내림차순으로 정렬된 열 배열
+  private static final class Bucket {
+
+    final Hit[] hits;
+    final int[] rateBp;
+    final long[] minAmount;
+    final long[] maxAmount;
+    final int[] company; // 금융회사 순번 (금융회사 목록에 없으면 -1)
+
+    private Bucket(Hit[] hits, Map<String, Integer> ordinals) {
+      this.hits = hits;
+      this.rateBp = new int[hits.length];
+      this.minAmount = new long[hits.length];
+      this.maxAmount = new long[hits.length];
+      this.company = new int[hits.length];
+      for (int i = 0; i < hits.length; i++) {
+        rateBp[i] = hits[i].rate().effectiveBp();
+        minAmount[i] = hits[i].rate().minAmount();
+        maxAmount[i] = hits[i].rate().maxAmount();
+        company[i] = ordinals.getOrDefault(hits[i].product().finCoNo(), -1);
+      }
+    }
+
+    // 상품 id는 종류 안에서 상품코드 순, 같은 상품의 옵션은 수집 순서 유지 (안정 정렬)
+    static Bucket of(List<Hit> hits, Map<String, Integer> ordinals) {
+      Hit[] sorted = hits.toArray(new Hit[0]);
+      Arrays.sort(sorted, Comparator.comparingInt((Hit h) -> h.rate().effectiveBp()).reversed()
+          .thenComparingInt(h -> h.product().id()));
+      return new Bucket(sorted, ordinals);
+    }
+
+    Result search(int minRateBp, long amountFloor, long amountCeil, BitSet companies,
+        int offset, int limit) {
+      List<Hit> page = new ArrayList<>(Math.min(limit, hits.length));
+      int total = 0;
+      for (int i = 0; i < hits.length && rateBp[i] >= minRateBp; i++) {
+        if (amountFloor < minAmount[i] || amountCeil > maxAmount[i]) {
+          continue;
+        }
+        if (companies != null && (company[i] < 0 || !companies.get(company[i]))) {
+          continue;
+        }
+        if (total >= offset && page.size() < limit) {
+          page.add(hits[i]);
+        }
+        total++;
+      }
+      return new Result(page, total);
+    }
+  }
+}
@@ -0,0 +1,234 @@
+package com.project.savingbee.catalog.index;
+
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.util.HangulJamo;
+import com.project.savingbee.util.TextNormalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오타 허용 상품명 검색용 BK-tree
+ * <p>
+ * 활성 상품명 전체와 공백/문자 종류(한글, 영문, 숫자)로 나눈 단어를 자모열로 분해해 BK-tree에 넣는다. 자모 단위 편집 거리를
+ * 쓰므로 "정기애금"(ㅐ/ㅖ)처럼 모음 하나를 잘못 친 경우도 거리 1이 된다. BK-tree는 삼각 부등식으로 가지를 잘라내므로 전체
+ * 용어를 선형 비교하지 않는다.
+ */
+@Slf4j
+@Component
+public class FuzzyNameIndex implements CatalogIndex {
+
+  // 자모 길이가 이보다 짧은 검색어는 오타 검색을 하지 않음 (후보가 지나치게 많아짐)
+  private static final int MIN_QUERY_LENGTH = 4;
+
+  private final AtomicReference<Index> index = new AtomicReference<>(Index.EMPTY);
+
+  @Override
+  public void rebuild(CatalogSnapshot snapshot) {
+    Index built = Index.build(snapshot);
+    index.set(built);
+    log.info("오타 허용 BK-tree 재구성 완료 - 용어: {}개", built.termCount);
+  }
+
+  /**
+   * 검색어와 편집 거리가 허용 범위 이내인 활성 상품 (거리 가까운 순 → 예금/적금, 상품코드 순)
+   */
+  public List<FuzzyMatch> search(String query) {
+    String term = HangulJamo.decompose(TextNormalizer.normalize(query));
+    if (term.length() < MIN_QUERY_LENGTH) {
+      return List.of();
+    }
+    return index.get().search(term, maxDistance(term));
+  }
+
+  // 자모 8글자(한글 약 3음절) 이하는 1, 그보다 길면 2까지 허용
+  static int maxDistance(String term) {
+    return term.length() <= 8 ? 1 : 2;
+  }
+
+  /**
+   * 오타 검색 결과
+   *
+   * @param product  상품
+   * @param distance 자모 단위 편집 거리
+   */
+  public record FuzzyMatch(CatalogProduct product, int distance) {
+
+  }
+
+  private static final class Index {
+
+    static final Index EMPTY = new Index(null, 0);
+
+    final Node root;
+    final int termCount;
+
+    Index(Node root, int termCount) {
+      this.root = root;
+      this.termCount = termCount;
+    }
+
+    static Index build(CatalogSnapshot snapshot) {
+      // 용어(자모열) -> 상품, 입력 순서(예금 → 적금, 상품코드 순) 유지
+      Map<String, Set<CatalogProduct>> terms = new LinkedHashMap<>();
+      for (CatalogProduct product : snapshot.getProducts()) {
+        if (!product.active() || product.finPrdtNm() == null) {
+          continue;
+        }
+        for (String term : terms(product.finPrdtNm(), product.searchName())) {
+          terms.computeIfAbsent(term, key -> new LinkedHashSet<>()).add(product);
+        }
+      }
+
+      Node root = null;
+      for (Map.Entry<String, Set<CatalogProduct>> entry : terms.entrySet()) {
+        Node node = new Node(entry.getKey(), List.copyOf(entry.getValue()));
+        if (root == null) {
+          root = node;
+        } else {
+          root.add(node);
+        }
+      }
+      return new Index(root, terms.size());
+    }
+
+    // 정규화된 상품명 전체와 단어 (WON플러스 예금 -> won플러스예금, won, 플러스, 예금)
+    private static Set<String> terms(String name, String searchName) {
+      Set<String> terms = new LinkedHashSet<>();
+      terms.add(HangulJamo.decompose(searchName));
+
+      StringBuilder word = new StringBuilder();
+      int wordType = -1;
+      for (int i = 0; i < name.length(); i++) {
+        char c = name.charAt(i);
+        int type = charType(c);
+        if (type != wordType && word.length() > 0) {
+          terms.add(HangulJamo.decompose(TextNormalizer.normalize(word.toString())));
+          word.setLength(0);
+        }
+        wordType = type;
+        if (type >= 0) {
+          word.append(c);
+        }
+      }
+      if (word.length() > 0) {
+        terms.add(HangulJamo.decompose(TextNormalizer.normalize(word.toString())));
+      }
+
+      terms.removeIf(String::isEmpty);
+      return terms;
+    }
+
+    // 단어 구분용 문자 종류 (-1: 구분자)
+    private static int charType(char c) {
+      if (c >= '가' && c <= '힣') {
+        return 0;
+      }
+      if (Character.isLetter(c)) {
+        return 1;
+      }
+      if (Character.isDigit(c)) {
+        return 2;
+      }
+      return -1;
+    }
+
+    List<FuzzyMatch> search(String term, int maxDistance) {
+      if (root == null) {
+        return List.of();
+      }
+
+      // 같은 상품이 여러 용어로 걸리면 가장 가까운 거리만 사용 (상품 id -> 결과)
+      Map<Integer, FuzzyMatch> best = new HashMap<>();
+      List<Node> stack = new ArrayList<>();
+      stack.add(root);
+      while (!stack.isEmpty()) {
+        Node node = stack.remove(stack.size() - 1);
+        int distance = Levenshtein.distance(term, node.term);
+        if (distance <= maxDistance) {
+          for (CatalogProduct product : node.products) {
+            FuzzyMatch previous = best.get(product.id());
+            if (previous == null || previous.distance() > distance) {
+              best.put(product.id(), new FuzzyMatch(product, distance));
+            }
+          }
+        }
+        // 삼각 부등식: |d(q, node) - d(node, child)| <= maxDistance 인 자식만 탐색
+        for (int d = Math.max(1, distance - maxDistance); d <= distance + maxDistance; d++) {
+          Node child = node.children.get(d);
+          if (child != null) {
+            stack.add(child);
+          }
+        }
+      }
+
+      List<FuzzyMatch> matches = new ArrayList<>(best.values());
+      matches.sort(Comparator.comparingInt(FuzzyMatch::distance)
+          .thenComparingInt(match -> match.product().id()));
+      return matches;
+    }
+  }
+
+  private static final class Node {
+
+    final String term;
+    final List<CatalogProduct> products;
+    final Map<Integer, Node> children = new HashMap<>();
+
+    Node(String term, List<CatalogProduct> products) {
+      this.term = term;
+      this.products = products;
+    }
+
+    void add(Node node) {
+      Node current = this;
+      while (true) {
+        int distance = Levenshtein.distance(node.term, current.term);
+        Node child = current.children.get(distance);
+        if (child == null) {
+          current.children.put(distance, node);
+          return;
+        }
+        current = child;
+      }
+    }
+  }
+
+  // 편집 거리 (삽입/삭제/치환 각 1)
+  static final class Levenshtein {
+
+    private Levenshtein() {
+    }
+
+    static int distance(String a, String b) {
+      int[] previous = new int[b.length() + 1];
+      int[] current = new int[b.length() + 1];
+      for (int j = 0; j <= b.length(); j++) {
+        previous[j] = j;
+      }
+
+      for (int i = 1; i <= a.length(); i++) {
+        current[0] = i;
+        char ca = a.charAt(i - 1);
+        for (int j = 1; j <= b.length(); j++) {
+          int cost = ca == b.charAt(j - 1) ? 0 : 1;
+          current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1),
+              previous[j - 1] + cost);
+        }
+        int[] swap = previous;
+        previous = current;
+        current = swap;
+      }
+      return previous[b.length()];
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package com.project.savingbee.catalog.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 글자 unigram/bigram 역색인
+ * <p>
+ * 문자열 배열의 순번(id)을 posting으로 저장하고, 검색어를 포함하는 id만 오름차순으로 돌려준다. bigram posting 교집합으로 후보를
+ * 좁힌 뒤 실제 포함 여부를 확인하므로 결과는 {@code String.contains}와 같다.
+ */
+final class GramPostings {
+
+  static final GramPostings EMPTY = new GramPostings(new String[0], Map.of());
+
+  private final String[] texts; // id -> 색인된 문자열
+  private final Map<Integer, int[]> postings; // gram -> 오름차순 id
+
+  private GramPostings(String[] texts, Map<Integer, int[]> postings) {
+    this.texts = texts;
+    this.postings = postings;
+  }
+
+  static GramPostings build(String[] texts) {
+    Map<Integer, IntList> lists = new HashMap<>();
+
+    for (int id = 0; id < texts.length; id++) {
+      String text = texts[id];
+      for (int i = 0; i < text.length(); i++) {
+        add(lists, unigram(text.charAt(i)), id);
+        if (i + 1 < text.length()) {
+          add(lists, bigram(text.charAt(i), text.charAt(i + 1)), id);
+        }
+      }
+    }
+
+    Map<Integer, int[]> postings = new HashMap<>(lists.size() * 2);
+    lists.forEach((gram, ids) -> postings.put(gram, ids.toArray()));
+    return new GramPostings(texts.clone(), postings);
+  }
+
+  int size() {
+    return texts.length;
+  }
+
+  int gramCount() {
+    return postings.size();
+  }
+
+  /**
+   * 검색어를 포함하는 id (오름차순). 빈 검색어는 전체
+   */
+  int[] search(String query) {
+    if (query.isEmpty()) {
+      int[] all = new int[texts.length];
+      Arrays.setAll(all, i -> i);
+      return all;
+    }
+
+    int[] candidates = query.length() == 1
+        ? postings.get(unigram(query.charAt(0)))
+        : intersectBigrams(query);
+
+    if (candidates == null || candidates.length == 0) {
+      return new int[0];
+    }
+    if (query.length() <= 2) {
+      return candidates;
+    }
+
+    // bigram이 모두 있어도 연속으로 이어지지 않을 수 있으므로 실제 포함 여부 확인
+    int[] out = new int[candidates.length];
+    int n = 0;
+    for (int id : candidates) {
+      if (texts[id].contains(query)) {
+        out[n++] = id;
+      }
+    }
+    return Arrays.copyOf(out, n);
+  }
+
+  // unigram: 글자 코드, bigram: 앞 글자 << 16 | 뒤 글자
+  private static int unigram(char c) {
+    return c;
+  }
+
+  private static int bigram(char first, char second) {
+    return (first << 16) | second;
+  }
+
+  // 같은 문자열에서 gram이 반복되면 한 번만 추가 (id 오름차순으로 추가되므로 마지막 값만 비교)
+  private static void add(Map<Integer, IntList> lists, int gram, int id) {
+    IntList ids = lists.computeIfAbsent(gram, key -> new IntList());
+    if (ids.size == 0 || ids.values[ids.size - 1] != id) {
+      ids.add(id);
+    }
+  }
+
+  // 검색어의 모든 bigram posting 교집합 (짧은 posting부터)
+  private int[] intersectBigrams(String q) {
+    int gramCount = q.length() - 1;
+    int[][] lists = new int[gramCount][];
+
+    for (int i = 0; i < gramCount; i++) {
+      int[] ids = postings.get(bigram(q.charAt(i), q.charAt(i + 1)));
+      if (ids == null) {
+        return null;
+      }
+      lists[i] = ids;
+    }
+
+    Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+
+    int[] result = lists[0];
+    for (int i = 1; i < lists.length && result.length > 0; i++) {
+      result = intersect(result, lists[i]);
+    }
+    return result;
+  }
+
+  private static int[] intersect(int[] a, int[] b) {
+    int[] out = new int[Math.min(a.length, b.length)];
+    int i = 0;
+    int j = 0;
+    int n = 0;
+    while (i < a.length && j < b.length) {
+      if (a[i] == b[j]) {
+        out[n++] = a[i];
+        i++;
+        j++;
+      } else if (a[i] < b[j]) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return Arrays.copyOf(out, n);
+  }
+
+  // posting 생성용 가변 int 배열
+  private static final class IntList {
+
+    int[] values = new int[4];
+    int size;
+
+    void add(int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    int[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.project.savingbee.catalog.index;
+
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.util.HangulJamo;
+import com.project.savingbee.util.TextNormalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품명/금융회사명 초성·자모 역색인
+ * <p>
+ * 재구성 시 활성 상품의 "상품명 + 금융회사명"을 초성열과 자모열로 미리 분해해 둔다. 자음만 입력한 검색어(ㅋㅋㅇㅂㅋ)는 초성열에서,
+ * 그 외 검색어(카카ㅇ, 칵)는 자모열로 분해해 자모열에서 찾으므로 입력 중인 음절도 바로 매칭된다.
+ */
+@Slf4j
+@Component
+public class ProductJamoIndex implements CatalogIndex {
+
+  // 상품명과 금융회사명 경계 - 검색어가 두 이름에 걸쳐 매칭되지 않도록 사용
+  private static final char FIELD_SEPARATOR = '\u0000';
+
+  private final AtomicReference<Index> index = new AtomicReference<>(Index.EMPTY);
+
+  @Override
+  public void rebuild(CatalogSnapshot snapshot) {
+    Index built = Index.build(snapshot);
+    index.set(built);
+    log.info("초성/자모 인덱스 재구성 완료 - 상품: {}개, 초성 gram: {}개, 자모 gram: {}개",
+        built.products.length, built.chosung.gramCount(), built.jamo.gramCount());
+  }
+
+  /**
+   * 상품명 또는 금융회사명이 검색어(초성/자모)와 매칭되는 활성 상품 (예금 → 적금, 상품코드 순)
+   */
+  public List<CatalogProduct> search(String query) {
+    return index.get().search(query);
+  }
+
+  private static final class Index {
+
+    static final Index EMPTY =
+        new Index(new CatalogProduct[0], GramPostings.EMPTY, GramPostings.EMPTY);
+
+    final CatalogProduct[] products; // posting id -> 상품
+    final GramPostings chosung; // 초성열
+    final GramPostings jamo; // 자모열
+
+    Index(CatalogProduct[] products, GramPostings chosung, GramPostings jamo) {
+      this.products = products;
+      this.chosung = chosung;
+      this.jamo = jamo;
+    }
+
+    static Index build(CatalogSnapshot snapshot) {
+      List<CatalogProduct> active = new ArrayList<>();
+      for (CatalogProduct product : snapshot.getProducts()) {
+        if (product.active()) {
+          active.add(product);
+        }
+      }
+
+      CatalogProduct[] products = active.toArray(new CatalogProduct[0]);
+      String[] chosungTexts = new String[products.length];
+      String[] jamoTexts = new String[products.length];
+
+      for (int id = 0; id < products.length; id++) {
+        CatalogProduct product = products[id];
+        // 수집 시 정규화된 이름 사용 (공백, 문장부호 제거)
+        chosungTexts[id] = HangulJamo.chosung(product.searchName()) + FIELD_SEPARATOR
+            + HangulJamo.chosung(product.searchCompany());
+        jamoTexts[id] = HangulJamo.decompose(product.searchName()) + FIELD_SEPARATOR
+            + HangulJamo.decompose(product.searchCompany());
+      }
+
+      return new Index(products, GramPostings.build(chosungTexts),
+          GramPostings.build(jamoTexts));
+    }
+
+    List<CatalogProduct> search(String rawQuery) {
+      String query = TextNormalizer.normalize(rawQuery);
+      int[] ids;
+      if (HangulJamo.isChosungOnly(query)) {
+        ids = chosung.search(HangulJamo.chosung(query));
+      } else {
+        String decomposed = HangulJamo.decompose(query);
+        // 공백만 입력한 경우 전체가 아닌 빈 결과
+        ids = decomposed.isEmpty() ? new int[0] : jamo.search(decomposed);
+      }
+
+      List<CatalogProduct> results = new ArrayList<>(ids.length);
+      for (int id : ids) {
+        results.add(products[id]);
+      }
+      return results;
+    }
+  }
+}
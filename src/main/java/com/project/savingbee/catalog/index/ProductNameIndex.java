@@ -0,0 +1,78 @@
+package com.project.savingbee.catalog.index;
+
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.util.TextNormalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품명 n-gram 역색인
+ * <p>
+ * 활성 상품명을 정규화({@link TextNormalizer})한 뒤 글자 단위 unigram/bigram마다 상품 id 목록(posting)을 만든다. 한글은 한 음절이 한 글자라
+ * 음절 bigram만으로도 후보가 충분히 좁혀진다. 검색어의 bigram posting을 교집합한 뒤 실제 포함 여부를 확인하므로 결과는
+ * {@code LIKE '%검색어%'}(대소문자, 공백, 문장부호 무시)와 같다.
+ */
+@Slf4j
+@Component
+public class ProductNameIndex implements CatalogIndex {
+
+  private final AtomicReference<Index> index = new AtomicReference<>(Index.EMPTY);
+
+  @Override
+  public void rebuild(CatalogSnapshot snapshot) {
+    Index built = Index.build(snapshot);
+    index.set(built);
+    log.info("상품명 n-gram 인덱스 재구성 완료 - 상품: {}개, gram: {}개",
+        built.products.length, built.names.gramCount());
+  }
+
+  /**
+   * 상품명에 검색어가 포함된 활성 상품 (예금 → 적금, 상품코드 순)
+   */
+  public List<CatalogProduct> search(String query) {
+    return index.get().search(query);
+  }
+
+  private static final class Index {
+
+    static final Index EMPTY = new Index(new CatalogProduct[0], GramPostings.EMPTY);
+
+    final CatalogProduct[] products; // posting id -> 상품
+    final GramPostings names; // 정규화된 상품명
+
+    Index(CatalogProduct[] products, GramPostings names) {
+      this.products = products;
+      this.names = names;
+    }
+
+    static Index build(CatalogSnapshot snapshot) {
+      List<CatalogProduct> active = new ArrayList<>();
+      for (CatalogProduct product : snapshot.getProducts()) {
+        if (product.active()) {
+          active.add(product);
+        }
+      }
+
+      CatalogProduct[] products = active.toArray(new CatalogProduct[0]);
+      String[] names = new String[products.length];
+      for (int id = 0; id < products.length; id++) {
+        names[id] = products[id].searchName(); // 수집 시 정규화
+      }
+      return new Index(products, GramPostings.build(names));
+    }
+
+    List<CatalogProduct> search(String query) {
+      int[] ids = names.search(TextNormalizer.normalize(query));
+
+      List<CatalogProduct> results = new ArrayList<>(ids.length);
+      for (int id : ids) {
+        results.add(products[id]);
+      }
+      return results;
+    }
+  }
+}
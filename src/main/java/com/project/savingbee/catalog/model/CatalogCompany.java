@@ -0,0 +1,17 @@
+package com.project.savingbee.catalog.model;
+
+import com.project.savingbee.util.TextNormalizer;
+
+/**
+ * 카탈로그 금융회사
+ *
+ * @param finCoNo    금융회사 고유번호
+ * @param korCoNm    금융회사명
+ * @param searchName 정규화된 금융회사명 (검색/비교용)
+ */
+public record CatalogCompany(String finCoNo, String korCoNm, String searchName) {
+
+  public static CatalogCompany of(String finCoNo, String korCoNm) {
+    return new CatalogCompany(finCoNo, korCoNm, TextNormalizer.normalize(korCoNm));
+  }
+}
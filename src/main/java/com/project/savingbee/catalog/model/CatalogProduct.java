@@ -0,0 +1,45 @@
+package com.project.savingbee.catalog.model;
+
+import com.project.savingbee.util.BasisPoints;
+import com.project.savingbee.util.TextNormalizer;
+import java.util.List;
+
+/**
+ * 카탈로그 상품 - 수집(ingest) 시점에 한 번 만들어지는 읽기 전용 상품 정보
+ *
+ * @param id             스냅샷 내 순번 (예금 → 적금, 상품코드 순)
+ * @param kind           상품 종류
+ * @param finPrdtCd      금융상품코드
+ * @param finPrdtNm      금융상품명
+ * @param finCoNo        금융회사 고유번호
+ * @param korCoNm        금융회사명
+ * @param active         활성 상태
+ * @param maxPrefRateBp  최고 우대금리(bp) - 우대금리만 대상
+ * @param maxBaseRateBp  최고 기본금리(bp)
+ * @param maxRateBp      최고 적용 금리(bp) - 우대금리가 없으면 기본금리
+ * @param rates          금리 옵션
+ * @param searchName     정규화된 상품명 (검색/비교용)
+ * @param searchCompany  정규화된 금융회사명 (검색/비교용)
+ */
+public record CatalogProduct(int id, ProductKind kind, String finPrdtCd, String finPrdtNm,
+                             String finCoNo, String korCoNm, boolean active,
+                             int maxPrefRateBp, int maxBaseRateBp, int maxRateBp,
+                             List<CatalogRate> rates, String searchName,
+                             String searchCompany) {
+
+  public static CatalogProduct of(int id, ProductKind kind, String finPrdtCd, String finPrdtNm,
+      String finCoNo, String korCoNm, Boolean isActive, List<CatalogRate> rates) {
+    int maxPref = BasisPoints.NONE;
+    int maxBase = BasisPoints.NONE;
+    int maxRate = BasisPoints.NONE;
+    for (CatalogRate rate : rates) {
+      maxPref = Math.max(maxPref, rate.intrRate2Bp());
+      maxBase = Math.max(maxBase, rate.intrRateBp());
+      maxRate = Math.max(maxRate, rate.effectiveBp());
+    }
+
+    return new CatalogProduct(id, kind, finPrdtCd, finPrdtNm, finCoNo, korCoNm,
+        Boolean.TRUE.equals(isActive), maxPref, maxBase, maxRate, List.copyOf(rates),
+        TextNormalizer.normalize(finPrdtNm), TextNormalizer.normalize(korCoNm));
+  }
+}
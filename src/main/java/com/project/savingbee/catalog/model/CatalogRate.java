@@ -0,0 +1,78 @@
+package com.project.savingbee.catalog.model;
+
+import com.project.savingbee.common.entity.DepositInterestRates;
+import com.project.savingbee.common.entity.SavingsInterestRates;
+import com.project.savingbee.util.BasisPoints;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 카탈로그 금리 옵션 (금리는 bp 정수, 금액은 원 단위 정수)
+ *
+ * @param intrRateType 이자율유형(S:단리, M:복리)
+ * @param rsrvType     적립유형(S:정액적립식, F:자유적립식) - 예금은 null
+ * @param saveTrm      저축기간(월)
+ * @param intrRateBp   기본금리(bp)
+ * @param intrRate2Bp  최고우대금리(bp)
+ * @param minAmount    가입 가능 최소 금액 (예금: 최소 가입금액, 적금: 최소 월 납입금액) - 없으면 Long.MIN_VALUE
+ * @param maxAmount    가입 가능 최대 금액 (예금: 최고한도, 적금: 최대 월 납입금액) - 없으면 Long.MAX_VALUE
+ */
+public record CatalogRate(String intrRateType, String rsrvType, Integer saveTrm,
+                          int intrRateBp, int intrRate2Bp, long minAmount, long maxAmount) {
+
+  private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+  private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+  // 금액 범위 제한 없음
+  public CatalogRate(String intrRateType, String rsrvType, Integer saveTrm,
+      int intrRateBp, int intrRate2Bp) {
+    this(intrRateType, rsrvType, saveTrm, intrRateBp, intrRate2Bp, Long.MIN_VALUE,
+        Long.MAX_VALUE);
+  }
+
+  // 예금 금액 범위는 상품 단위라 상품을 읽은 뒤 withAmountRange로 채움
+  public static CatalogRate from(DepositInterestRates rate) {
+    return new CatalogRate(rate.getIntrRateType(), null, rate.getSaveTrm(),
+        BasisPoints.toBp(rate.getIntrRate()), BasisPoints.toBp(rate.getIntrRate2()));
+  }
+
+  public static CatalogRate from(SavingsInterestRates rate) {
+    return new CatalogRate(rate.getIntrRateType(), rate.getRsrvType(), rate.getSaveTrm(),
+        BasisPoints.toBp(rate.getIntrRate()), BasisPoints.toBp(rate.getIntrRate2()),
+        minAmountOf(rate.getMonthlyLimitMin()), maxAmountOf(rate.getMonthlyLimitMax()));
+  }
+
+  /**
+   * 금액 범위를 바꾼 금리 옵션 (null이면 제한 없음)
+   */
+  public CatalogRate withAmountRange(BigDecimal min, BigDecimal max) {
+    return new CatalogRate(intrRateType, rsrvType, saveTrm, intrRateBp, intrRate2Bp,
+        minAmountOf(min), maxAmountOf(max));
+  }
+
+  // 적용 금리: 우대금리가 있으면 우대금리, 없으면 기본금리
+  public int effectiveBp() {
+    return BasisPoints.isPresent(intrRate2Bp) ? intrRate2Bp : intrRateBp;
+  }
+
+  // 요청 금액의 원 단위 내림/올림 값 - 금액 범위(minAmount <= 금액 <= maxAmount) 비교용
+  public static long floorAmount(BigDecimal amount) {
+    return clamp(amount.setScale(0, RoundingMode.FLOOR));
+  }
+
+  public static long ceilAmount(BigDecimal amount) {
+    return clamp(amount.setScale(0, RoundingMode.CEILING));
+  }
+
+  private static long minAmountOf(BigDecimal amount) {
+    return amount == null ? Long.MIN_VALUE : ceilAmount(amount);
+  }
+
+  private static long maxAmountOf(BigDecimal amount) {
+    return amount == null ? Long.MAX_VALUE : floorAmount(amount);
+  }
+
+  private static long clamp(BigDecimal won) {
+    return won.max(LONG_MIN).min(LONG_MAX).longValueExact();
+  }
+}
@@ -0,0 +1,55 @@
+package com.project.savingbee.catalog.model;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.Getter;
+
+/**
+ * 상품 카탈로그 스냅샷 - 생성 후 변경되지 않으며, 수집이 끝날 때마다 새 스냅샷으로 통째로 교체된다.
+ */
+@Getter
+public final class CatalogSnapshot {
+
+  public static final CatalogSnapshot EMPTY = new CatalogSnapshot(0L, null, List.of(), List.of());
+
+  private final long version; // 스냅샷 버전 (재구성할 때마다 증가)
+  private final LocalDateTime builtAt; // 생성 시각
+  private final List<CatalogProduct> products; // id 순
+  private final List<CatalogCompany> companies; // 금융회사 고유번호 순
+
+  private final Map<String, CatalogProduct> byCode;
+
+  public CatalogSnapshot(long version, LocalDateTime builtAt, List<CatalogProduct> products) {
+    this(version, builtAt, products, List.of());
+  }
+
+  public CatalogSnapshot(long version, LocalDateTime builtAt, List<CatalogProduct> products,
+      List<CatalogCompany> companies) {
+    this.version = version;
+    this.builtAt = builtAt;
+    this.products = List.copyOf(products);
+    this.companies = List.copyOf(companies);
+
+    Map<String, CatalogProduct> codes = new HashMap<>(products.size() * 2);
+    for (CatalogProduct product : products) {
+      codes.putIfAbsent(product.finPrdtCd(), product);
+    }
+    this.byCode = Map.copyOf(codes);
+  }
+
+  // 상품코드로 조회
+  public Optional<CatalogProduct> find(String finPrdtCd) {
+    return finPrdtCd == null ? Optional.empty() : Optional.ofNullable(byCode.get(finPrdtCd));
+  }
+
+  public CatalogProduct get(int id) {
+    return products.get(id);
+  }
+
+  public int size() {
+    return products.size();
+  }
+}
@@ -0,0 +1,20 @@
+package com.project.savingbee.catalog.model;
+
+import lombok.Getter;
+
+/**
+ * 카탈로그 상품 종류
+ */
+@Getter
+public enum ProductKind {
+
+  DEPOSIT("deposit"),
+  SAVING("saving");
+
+  // 응답에 표시되는 상품 타입 (ProductSummaryResponse.productType)
+  private final String type;
+
+  ProductKind(String type) {
+    this.type = type;
+  }
+}
@@ -0,0 +1,25 @@
+package com.project.savingbee.catalog.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigDecimal;
+
+/**
+ * 자동완성 후보 - 카탈로그 재구성 시 한 번 만들어 요청 간에 공유한다
+ *
+ * @param text        표시 문자열 (상품명 또는 금융회사명)
+ * @param type        후보 종류 (product / company)
+ * @param finPrdtCd   금융상품코드 (금융회사 후보는 null)
+ * @param productType 상품 종류 (deposit / saving, 금융회사 후보는 null)
+ * @param korCoNm     금융회사명
+ * @param maxIntrRate 최고 금리 (금융회사 후보는 소속 상품 중 최고)
+ */
+public record Suggestion(String text,
+                         String type,
+                         @JsonProperty("fin_prdt_cd") String finPrdtCd,
+                         @JsonProperty("product_type") String productType,
+                         @JsonProperty("kor_co_nm") String korCoNm,
+                         @JsonProperty("max_intr_rate") BigDecimal maxIntrRate) {
+
+  public static final String PRODUCT = "product";
+  public static final String COMPANY = "company";
+}
@@ -0,0 +1,343 @@
+package com.project.savingbee.catalog.service;
+
+import com.project.savingbee.common.entity.ProductPopularity;
+import com.project.savingbee.common.repository.ProductPopularityRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 상품 인기도 추적 (조회 + 검색 노출, 시간 감쇠)
+ * <p>
+ * 모든 이벤트는 count-min sketch에 기록하고, 점수가 높은 상품 {@value #CAPACITY}개 안팎만 후보 맵에서 정확히 센다. 카운터는
+ * {@link DoubleAdder}라 요청 스레드 간 경합이 없다. 감쇠는 forward decay 방식으로, 이벤트 가중치를 기준 시각부터
+ * 반감기마다 두 배로 키워 기록하므로 기록 시 기존 값을 건드리지 않는다. 가중치가 커지면 주기 작업에서 기준 시각을 옮긴다.
+ */
+@Slf4j
+@Service
+public class PopularityTracker {
+
+  public static final double VIEW_WEIGHT = 1.0;
+  public static final double SEARCH_HIT_WEIGHT = 0.2;
+
+  static final int CAPACITY = 512;
+  // 정리 주기 사이에 늘어날 수 있는 후보 수 상한
+  private static final int MAX_CANDIDATES = CAPACITY * 2;
+  static final long HALF_LIFE_MILLIS = Duration.ofHours(6).toMillis();
+
+  private static final int SKETCH_DEPTH = 4;
+  private static final int SKETCH_WIDTH = 1024; // 2의 거듭제곱
+  // 행마다 다른 시드로 64비트 해시를 섞어 행 간 인덱스가 서로 독립이 되도록 함
+  private static final long[] SKETCH_SEEDS = {
+      0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+  // 가중치 지수가 이 값을 넘으면 기준 시각 재조정 (가중치 2^64 이하 유지)
+  private static final double RESCALE_EXPONENT = 64;
+
+  private final ProductPopularityRepository productPopularityRepository;
+  private final LongSupplier clock;
+  private final AtomicReference<State> state;
+
+  // 후보가 가득 찼을 때 새 상품이 들어오기 위한 최소 점수 (현재 기준 시각의 가중 점수)
+  private volatile double admissionThreshold;
+
+  @Autowired
+  public PopularityTracker(ProductPopularityRepository productPopularityRepository) {
+    this(productPopularityRepository, System::currentTimeMillis);
+  }
+
+  PopularityTracker(ProductPopularityRepository productPopularityRepository, LongSupplier clock) {
+    this.productPopularityRepository = productPopularityRepository;
+    this.clock = clock;
+    this.state = new AtomicReference<>(new State(clock.getAsLong()));
+  }
+
+  /**
+   * 상품 상세 조회
+   */
+  public void recordView(String productCode) {
+    record(productCode, VIEW_WEIGHT);
+  }
+
+  /**
+   * 검색 결과 노출
+   */
+  public void recordSearchHit(String productCode) {
+    record(productCode, SEARCH_HIT_WEIGHT);
+  }
+
+  void record(String productCode, double weight) {
+    if (productCode == null || productCode.isBlank()) {
+      return;
+    }
+
+    State current = state.get();
+    double scaled = weight * current.weightAt(clock.getAsLong());
+    current.sketch.add(productCode, scaled);
+
+    DoubleAdder counter = current.candidates.get(productCode);
+    if (counter != null) {
+      counter.add(scaled);
+      return;
+    }
+
+    // 후보가 아니면 스케치 추정치(이전 누적분 포함)로 진입 여부 판단
+    double estimate = current.sketch.estimate(productCode);
+    int size = current.candidates.size();
+    if (size < CAPACITY || (size < MAX_CANDIDATES && estimate > admissionThreshold)) {
+      DoubleAdder seeded = adderOf(estimate);
+      DoubleAdder existing = current.candidates.putIfAbsent(productCode, seeded);
+      if (existing != null) {
+        // 다른 스레드가 먼저 후보로 올린 경우 이번 이벤트만 더함
+        existing.add(scaled);
+      }
+    }
+  }
+
+  /**
+   * 인기 상위 k개 (점수 높은 순, 점수는 현재 시각 기준으로 감쇠 반영)
+   */
+  public List<PopularProduct> topK(int k) {
+    if (k <= 0) {
+      return List.of();
+    }
+
+    State current = state.get();
+    PriorityQueue<PopularProduct> heap =
+        new PriorityQueue<>(k, Comparator.comparingDouble(PopularProduct::score));
+    for (Map.Entry<String, DoubleAdder> entry : current.candidates.entrySet()) {
+      double score = entry.getValue().sum();
+      if (heap.size() < k) {
+        heap.add(new PopularProduct(entry.getKey(), score));
+      } else if (score > heap.peek().score()) {
+        heap.poll();
+        heap.add(new PopularProduct(entry.getKey(), score));
+      }
+    }
+
+    double weight = current.weightAt(clock.getAsLong());
+    List<PopularProduct> result = new ArrayList<>(heap.size());
+    while (!heap.isEmpty()) {
+      PopularProduct top = heap.poll();
+      result.add(new PopularProduct(top.finPrdtCd(), top.score() / weight));
+    }
+    result.sort(Comparator.comparingDouble(PopularProduct::score).reversed());
+    return result;
+  }
+
+  /**
+   * 상품의 현재 인기도 점수 (후보가 아니면 0)
+   */
+  public double scoreOf(String productCode) {
+    State current = state.get();
+    DoubleAdder counter = productCode != null ? current.candidates.get(productCode) : null;
+    if (counter == null) {
+      return 0;
+    }
+    return counter.sum() / current.weightAt(clock.getAsLong());
+  }
+
+  /**
+   * 1분마다 후보 정리 - 기준 시각 재조정, 용량 초과분 제거, 진입 기준 갱신
+   */
+  @Scheduled(fixedDelay = 60_000)
+  public void maintain() {
+    long now = clock.getAsLong();
+    State current = state.get();
+
+    if (current.exponentAt(now) > RESCALE_EXPONENT) {
+      current = rescale(current, now);
+    }
+
+    List<Map.Entry<String, Double>> scores = new ArrayList<>(current.candidates.size());
+    current.candidates.forEach((code, adder) -> scores.add(Map.entry(code, adder.sum())));
+
+    if (scores.size() < CAPACITY) {
+      admissionThreshold = 0;
+      return;
+    }
+
+    scores.sort(Map.Entry.comparingByValue());
+    int excess = scores.size() - CAPACITY;
+    for (int i = 0; i < excess; i++) {
+      current.candidates.remove(scores.get(i).getKey());
+    }
+    admissionThreshold = scores.get(excess).getValue();
+  }
+
+  /**
+   * 10분마다 인기도 스냅샷 저장
+   */
+  @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+  @Transactional
+  public void persistSnapshot() {
+    LocalDateTime savedAt = LocalDateTime.ofInstant(
+        Instant.ofEpochMilli(clock.getAsLong()), ZoneId.systemDefault());
+    List<ProductPopularity> snapshot = topK(CAPACITY).stream()
+        .map(product -> ProductPopularity.builder()
+            .finPrdtCd(product.finPrdtCd())
+            .score(product.score())
+            .savedAt(savedAt)
+            .build())
+        .toList();
+
+    productPopularityRepository.deleteAllInBatch();
+    productPopularityRepository.saveAll(snapshot);
+    log.debug("인기도 스냅샷 저장 완료 - {}개", snapshot.size());
+  }
+
+  /**
+   * 서버 시작 시 마지막 스냅샷 복원 - 저장 이후 흐른 시간만큼 감쇠하고 점수 높은 순으로 {@value #CAPACITY}개까지
+   */
+  @PostConstruct
+  public void restoreSnapshot() {
+    try {
+      long now = clock.getAsLong();
+      List<Map.Entry<String, Double>> scores = new ArrayList<>();
+      for (ProductPopularity popularity : productPopularityRepository.findAll()) {
+        if (popularity.getFinPrdtCd() == null || popularity.getScore() == null) {
+          continue;
+        }
+        scores.add(Map.entry(popularity.getFinPrdtCd(),
+            popularity.getScore() * decaySince(popularity.getSavedAt(), now)));
+      }
+      scores.sort(Map.Entry.<String, Double>comparingByValue().reversed());
+
+      State current = state.get();
+      double weight = current.weightAt(now);
+      int restored = Math.min(scores.size(), CAPACITY);
+      for (Map.Entry<String, Double> entry : scores.subList(0, restored)) {
+        double scaled = entry.getValue() * weight;
+        current.sketch.add(entry.getKey(), scaled);
+        current.candidates.put(entry.getKey(), adderOf(scaled));
+      }
+      log.info("인기도 스냅샷 복원 완료 - {}개", restored);
+    } catch (Exception e) {
+      log.warn("인기도 스냅샷 복원 실패 - 빈 상태로 시작: {}", e.getMessage());
+    }
+  }
+
+  // 저장 시각부터 now까지의 감쇠 배수 (저장 시각이 없으면 감쇠 없음)
+  private static double decaySince(LocalDateTime savedAt, long now) {
+    if (savedAt == null) {
+      return 1;
+    }
+    long elapsed = now - savedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    return elapsed <= 0 ? 1 : Math.pow(2, -(double) elapsed / HALF_LIFE_MILLIS);
+  }
+
+  // 기준 시각을 now로 옮기고 후보 점수를 새 기준으로 환산 (재조정 중 기록된 소수 이벤트는 유실될 수 있음)
+  private State rescale(State current, long now) {
+    State next = new State(now);
+    double factor = current.weightAt(now);
+    current.candidates.forEach((code, adder) -> {
+      double scaled = adder.sum() / factor;
+      next.sketch.add(code, scaled);
+      next.candidates.put(code, adderOf(scaled));
+    });
+    state.set(next);
+    log.info("인기도 기준 시각 재조정 - 후보: {}개", next.candidates.size());
+    return next;
+  }
+
+  private static DoubleAdder adderOf(double initial) {
+    DoubleAdder adder = new DoubleAdder();
+    adder.add(initial);
+    return adder;
+  }
+
+  /**
+   * 인기 상품
+   *
+   * @param finPrdtCd 금융상품코드
+   * @param score     감쇠가 반영된 점수 (조회 1회 = 1, 반감기 6시간)
+   */
+  public record PopularProduct(String finPrdtCd, double score) {
+
+  }
+
+  // 기준 시각, 스케치, 후보를 한 번에 교체하기 위한 묶음
+  private static final class State {
+
+    final long landmarkMillis;
+    final CountMinSketch sketch = new CountMinSketch();
+    final Map<String, DoubleAdder> candidates = new ConcurrentHashMap<>();
+
+    State(long landmarkMillis) {
+      this.landmarkMillis = landmarkMillis;
+    }
+
+    double exponentAt(long now) {
+      return (double) (now - landmarkMillis) / HALF_LIFE_MILLIS;
+    }
+
+    // 기준 시각 이후 반감기마다 두 배
+    double weightAt(long now) {
+      return Math.pow(2, exponentAt(now));
+    }
+  }
+
+  private static final class CountMinSketch {
+
+    private final DoubleAdder[] cells = new DoubleAdder[SKETCH_DEPTH * SKETCH_WIDTH];
+
+    CountMinSketch() {
+      for (int i = 0; i < cells.length; i++) {
+        cells[i] = new DoubleAdder();
+      }
+    }
+
+    void add(String key, double value) {
+      long hash = hash64(key);
+      for (int row = 0; row < SKETCH_DEPTH; row++) {
+        cells[row * SKETCH_WIDTH + index(hash, row)].add(value);
+      }
+    }
+
+    double estimate(String key) {
+      long hash = hash64(key);
+      double min = Double.MAX_VALUE;
+      for (int row = 0; row < SKETCH_DEPTH; row++) {
+        min = Math.min(min, cells[row * SKETCH_WIDTH + index(hash, row)].sum());
+      }
+      return min;
+    }
+
+    // FNV-1a 64비트 - String.hashCode()가 같은 키도 구분
+    private static long hash64(String key) {
+      long h = 0xCBF29CE484222325L;
+      for (int i = 0; i < key.length(); i++) {
+        h ^= key.charAt(i);
+        h *= 0x100000001B3L;
+      }
+      return h;
+    }
+
+    // 행 시드와 섞은 뒤 murmur3 fmix64로 비트를 고르게 퍼뜨림
+    private static int index(long hash, int row) {
+      long h = hash ^ SKETCH_SEEDS[row];
+      h ^= h >>> 33;
+      h *= 0xFF51AFD7ED558CCDL;
+      h ^= h >>> 33;
+      h *= 0xC4CEB9FE1A85EC53L;
+      h ^= h >>> 33;
+      return (int) h & (SKETCH_WIDTH - 1);
+    }
+  }
+}
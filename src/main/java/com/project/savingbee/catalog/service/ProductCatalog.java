@@ -0,0 +1,131 @@
+package com.project.savingbee.catalog.service;
+
+import com.project.savingbee.catalog.index.CatalogIndex;
+import com.project.savingbee.catalog.model.CatalogCompany;
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogRate;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.catalog.model.ProductKind;
+import com.project.savingbee.common.entity.DepositInterestRates;
+import com.project.savingbee.common.entity.DepositProducts;
+import com.project.savingbee.common.entity.FinancialCompanies;
+import com.project.savingbee.common.entity.SavingsInterestRates;
+import com.project.savingbee.common.entity.SavingsProducts;
+import com.project.savingbee.common.repository.DepositInterestRatesRepository;
+import com.project.savingbee.common.repository.DepositProductsRepository;
+import com.project.savingbee.common.repository.FinancialCompaniesRepository;
+import com.project.savingbee.common.repository.SavingsInterestRatesRepository;
+import com.project.savingbee.common.repository.SavingsProductsRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 인메모리 상품 카탈로그
+ * <p>
+ * 금융 상품 수집(SchedulingConfig)이 끝날 때마다 refresh()로 DB 전체를 한 번 읽어 스냅샷과 인덱스를 다시 만들고, 참조를 원자적으로
+ * 교체한다. 검색/자동완성 등 읽기 트래픽은 DB 대신 현재 스냅샷을 사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductCatalog {
+
+  private final DepositProductsRepository depositProductsRepository;
+  private final DepositInterestRatesRepository depositInterestRatesRepository;
+  private final SavingsProductsRepository savingsProductsRepository;
+  private final SavingsInterestRatesRepository savingsInterestRatesRepository;
+  private final FinancialCompaniesRepository financialCompaniesRepository;
+  private final List<CatalogIndex> indexes;
+
+  private final AtomicReference<CatalogSnapshot> current =
+      new AtomicReference<>(CatalogSnapshot.EMPTY);
+  private final AtomicLong versionSequence = new AtomicLong();
+
+  /**
+   * 현재 스냅샷
+   */
+  public CatalogSnapshot current() {
+    return current.get();
+  }
+
+  /**
+   * 상품 디렉터리 - 상품코드로 종류(예금/적금), 활성 여부, 금융회사, 금리 요약을 DB 조회 없이 확인
+   */
+  public Optional<CatalogProduct> find(String finPrdtCd) {
+    return current.get().find(finPrdtCd);
+  }
+
+  /**
+   * DB에서 카탈로그를 다시 읽어 스냅샷과 인덱스 재구성
+   */
+  @Transactional(readOnly = true)
+  public synchronized CatalogSnapshot refresh() {
+    long startedAt = System.currentTimeMillis();
+
+    // 금융회사명 (정규화된 이름 포함)
+    Map<String, String> companyNames = new HashMap<>();
+    List<CatalogCompany> companies = new ArrayList<>();
+    for (FinancialCompanies company : financialCompaniesRepository.findAll(Sort.by("finCoNo"))) {
+      companyNames.put(company.getFinCoNo(), company.getKorCoNm());
+      companies.add(CatalogCompany.of(company.getFinCoNo(), company.getKorCoNm()));
+    }
+
+    // 금리 옵션 (상품코드별)
+    Map<String, List<CatalogRate>> depositRates = new HashMap<>();
+    for (DepositInterestRates rate : depositInterestRatesRepository.findAll()) {
+      depositRates.computeIfAbsent(rate.getFinPrdtCd(), code -> new ArrayList<>())
+          .add(CatalogRate.from(rate));
+    }
+    Map<String, List<CatalogRate>> savingRates = new HashMap<>();
+    for (SavingsInterestRates rate : savingsInterestRatesRepository.findAll()) {
+      savingRates.computeIfAbsent(rate.getFinPrdtCd(), code -> new ArrayList<>())
+          .add(CatalogRate.from(rate));
+    }
+
+    // 상품 (예금 → 적금, 상품코드 순)
+    Sort byCode = Sort.by("finPrdtCd");
+    List<CatalogProduct> products = new ArrayList<>();
+
+    for (DepositProducts product : depositProductsRepository.findAll(byCode)) {
+      // 예금 가입금액 범위는 상품 단위 (최소 가입금액 ~ 최고한도)
+      List<CatalogRate> rates = depositRates.getOrDefault(product.getFinPrdtCd(), List.of())
+          .stream()
+          .map(rate -> rate.withAmountRange(product.getMinAmount(), product.getMaxLimit()))
+          .toList();
+      products.add(CatalogProduct.of(products.size(), ProductKind.DEPOSIT,
+          product.getFinPrdtCd(), product.getFinPrdtNm(), product.getFinCoNo(),
+          companyNames.get(product.getFinCoNo()), product.getIsActive(), rates));
+    }
+    for (SavingsProducts product : savingsProductsRepository.findAll(byCode)) {
+      products.add(CatalogProduct.of(products.size(), ProductKind.SAVING,
+          product.getFinPrdtCd(), product.getFinPrdtNm(), product.getFinCoNo(),
+          companyNames.get(product.getFinCoNo()), product.getIsActive(),
+          savingRates.getOrDefault(product.getFinPrdtCd(), List.of())));
+    }
+
+    CatalogSnapshot snapshot = new CatalogSnapshot(versionSequence.incrementAndGet(),
+        LocalDateTime.now(), products, companies);
+
+    // 인덱스를 먼저 재구성한 뒤 스냅샷 교체
+    for (CatalogIndex index : indexes) {
+      index.rebuild(snapshot);
+    }
+    current.set(snapshot);
+
+    log.info("상품 카탈로그 재구성 완료 - 버전: {}, 상품: {}개, 소요: {}ms",
+        snapshot.getVersion(), snapshot.size(), System.currentTimeMillis() - startedAt);
+
+    return snapshot;
+  }
+}
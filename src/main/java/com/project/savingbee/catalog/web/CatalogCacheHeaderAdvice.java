@@ -0,0 +1,48 @@
+package com.project.savingbee.catalog.web;
+
+import java.time.LocalDateTime;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * {@link CatalogETagInterceptor}를 거친 요청의 정상(2xx) 응답에만 ETag와 Cache-Control을 붙인다 (오류 응답은 캐시되지 않도록)
+ */
+@ControllerAdvice
+public class CatalogCacheHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+  @Override
+  public boolean supports(MethodParameter returnType,
+      Class<? extends HttpMessageConverter<?>> converterType) {
+    return true;
+  }
+
+  @Override
+  public Object beforeBodyWrite(Object body, MethodParameter returnType,
+      MediaType selectedContentType, Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      ServerHttpRequest request, ServerHttpResponse response) {
+    if (!(request instanceof ServletServerHttpRequest servletRequest)
+        || !(response instanceof ServletServerHttpResponse servletResponse)) {
+      return body;
+    }
+
+    Object etag = servletRequest.getServletRequest()
+        .getAttribute(CatalogETagInterceptor.ETAG_ATTRIBUTE);
+    Object cacheControl = servletRequest.getServletRequest()
+        .getAttribute(CatalogETagInterceptor.CACHE_CONTROL_ATTRIBUTE);
+    int status = servletResponse.getServletResponse().getStatus();
+    if (etag != null && status >= 200 && status < 300) {
+      response.getHeaders().set(HttpHeaders.ETAG, etag.toString());
+      response.getHeaders().set(HttpHeaders.CACHE_CONTROL, cacheControl != null
+          ? cacheControl.toString() : CatalogETagInterceptor.cacheControl(LocalDateTime.now()));
+    }
+    return body;
+  }
+}
@@ -0,0 +1,151 @@
+package com.project.savingbee.catalog.web;
+
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.catalog.service.PopularityTracker;
+import com.project.savingbee.catalog.service.ProductCatalog;
+import com.project.savingbee.config.SchedulingConfig;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 상품 조회 API 조건부 요청 처리 (ETag = 카탈로그 버전 + 요청 경로/파라미터)
+ * <p>
+ * 상품 데이터는 수집 후 카탈로그가 재구성될 때만 바뀌므로 같은 카탈로그의 같은 요청은 같은 응답이다. If-None-Match가 현재 ETag와
+ * 같으면 컨트롤러를 호출하지 않고 304로 끝낸다. 정상 응답의 ETag/Cache-Control은 {@link CatalogCacheHeaderAdvice}가 붙인다.
+ * 상품 상세({@code productId} 경로 변수)는 조회수 집계 대상이라 브라우저가 매번 재검증하게 하고(no-cache), 304로 끝낼 때도
+ * 조회를 인기도에 반영한다. 검색 노출을 집계하는 검색 API는 등록 경로에서 제외한다.
+ */
+@RequiredArgsConstructor
+public class CatalogETagInterceptor implements HandlerInterceptor {
+
+  static final String ETAG_ATTRIBUTE = CatalogETagInterceptor.class.getName() + ".etag";
+  static final String CACHE_CONTROL_ATTRIBUTE =
+      CatalogETagInterceptor.class.getName() + ".cacheControl";
+
+  // 조회수 집계 대상 응답 - 캐시는 하되 매번 재검증
+  static final String NO_CACHE = "no-cache";
+
+  private static final String PRODUCT_ID_VARIABLE = "productId";
+
+  // 다음 수집 전이라도 재시작/수동 수집을 반영하도록 최대 1시간
+  static final long MAX_AGE_SECONDS = 3_600;
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private static final CronExpression INGEST_SCHEDULE =
+      CronExpression.parse(SchedulingConfig.INGEST_CRON);
+
+  private final ProductCatalog productCatalog;
+  private final PopularityTracker popularityTracker;
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) {
+    if (!HttpMethod.GET.matches(request.getMethod())
+        && !HttpMethod.HEAD.matches(request.getMethod())) {
+      return true;
+    }
+
+    CatalogSnapshot snapshot = productCatalog.current();
+    if (snapshot.getBuiltAt() == null) {
+      return true; // 카탈로그 구성 전에는 캐시하지 않음
+    }
+
+    String etag = etagOf(snapshot, request);
+    String viewed = viewedProductCode(request);
+    String cacheControl = viewed != null ? NO_CACHE : cacheControl(LocalDateTime.now());
+    request.setAttribute(ETAG_ATTRIBUTE, etag);
+    request.setAttribute(CACHE_CONTROL_ATTRIBUTE, cacheControl);
+
+    if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+      if (viewed != null) {
+        // 컨트롤러를 거치지 않으므로 상세 조회와 같이 활성 상품만 조회수 반영
+        productCatalog.find(viewed)
+            .filter(CatalogProduct::active)
+            .ifPresent(product -> popularityTracker.recordView(product.finPrdtCd()));
+      }
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      response.setHeader(HttpHeaders.ETAG, etag);
+      response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+      return false;
+    }
+    return true;
+  }
+
+  // 상품 상세 요청이면 상품코드 (핸들러 매핑이 채운 경로 변수)
+  static String viewedProductCode(HttpServletRequest request) {
+    Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+    if (variables instanceof Map<?, ?> map
+        && map.get(PRODUCT_ID_VARIABLE) instanceof String productCode) {
+      return productCode;
+    }
+    return null;
+  }
+
+  /**
+   * 강한 ETag - 카탈로그 버전/생성 시각(재시작 구분)과 경로, 정렬된 파라미터의 64비트 해시
+   */
+  static String etagOf(CatalogSnapshot snapshot, HttpServletRequest request) {
+    long hash = FNV_OFFSET;
+    hash = mix(hash, String.valueOf(snapshot.getBuiltAt()));
+    hash = mix(hash, request.getRequestURI());
+    for (Map.Entry<String, String[]> parameter :
+        new TreeMap<>(request.getParameterMap()).entrySet()) {
+      hash = mix(hash, parameter.getKey());
+      for (String value : parameter.getValue()) {
+        hash = mix(hash, value);
+      }
+    }
+    return "\"v" + snapshot.getVersion() + "-" + Long.toHexString(hash) + "\"";
+  }
+
+  /**
+   * 다음 정기 수집까지 (최대 {@value #MAX_AGE_SECONDS}초) 캐시 후 재검증
+   */
+  static String cacheControl(LocalDateTime now) {
+    LocalDateTime nextIngest = INGEST_SCHEDULE.next(now);
+    long untilIngest = nextIngest == null ? 0 : Duration.between(now, nextIngest).toSeconds();
+    long maxAge = Math.max(0, Math.min(MAX_AGE_SECONDS, untilIngest));
+    return "max-age=" + maxAge + ", must-revalidate";
+  }
+
+  // If-None-Match 값 목록 중 하나라도 같으면 (GET은 약한 비교)
+  static boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if (tag.equals("*") || tag.equals(etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // FNV-1a, 값 사이 구분자 포함
+  private static long mix(long hash, String value) {
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= FNV_PRIME;
+    }
+    hash ^= 0xff;
+    return hash * FNV_PRIME;
+  }
+}
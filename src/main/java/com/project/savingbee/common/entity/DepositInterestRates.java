@@ -27,7 +27,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class DepositInterestRates {
+public class DepositInterestRates implements RateOption {
 
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
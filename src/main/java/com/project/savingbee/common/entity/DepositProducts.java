@@ -28,7 +28,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class DepositProducts {
+public class DepositProducts implements FinancialProduct {
 
   @Id
   private String finPrdtCd; // 금융상품코드
@@ -0,0 +1,28 @@
+package com.project.savingbee.common.entity;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 예금/적금 상품 공통 모델 - 필터링, 검색 등 상품 종류와 무관한 로직에서 사용
+ */
+public interface FinancialProduct {
+
+  String getFinPrdtCd(); // 금융상품코드
+
+  String getFinPrdtNm(); // 금융상품명
+
+  String getFinCoNo(); // 금융회사 고유번호
+
+  FinancialCompanies getFinancialCompany(); // 금융회사
+
+  String getJoinDeny(); // 가입제한 구분
+
+  String getSpclCnd(); // 우대조건
+
+  BigDecimal getMaxLimit(); // 예금: 최고한도, 적금: 월 가입한도
+
+  Boolean getIsActive(); // 활성 상태
+
+  List<? extends RateOption> getInterestRates(); // 금리 옵션들
+}
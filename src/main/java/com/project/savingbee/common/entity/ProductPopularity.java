@@ -0,0 +1,59 @@
+package com.project.savingbee.common.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 상품 인기도 스냅샷 엔터티 - 서버 재시작 시 인기도 복원용
+ * <p>
+ * 식별자(상품코드)를 직접 지정하므로 {@link Persistable}로 새 엔터티임을 알려 저장 시 merge 조회 없이 insert 한다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductPopularity implements Persistable<String> {
+
+  @Id
+  private String finPrdtCd; // 금융상품코드
+
+  private Double score; // 저장 시점 기준 감쇠가 반영된 인기도 점수
+
+  private LocalDateTime savedAt; // 저장 시각
+
+  @Transient
+  @Builder.Default
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private boolean newEntity = true; // 아직 저장되지 않은 엔터티 여부
+
+  @Override
+  public String getId() {
+    return finPrdtCd;
+  }
+
+  @Override
+  public boolean isNew() {
+    return newEntity;
+  }
+
+  // 조회되었거나 저장된 엔터티는 이후 merge 대상
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.newEntity = false;
+  }
+}
@@ -0,0 +1,19 @@
+package com.project.savingbee.common.entity;
+
+import java.math.BigDecimal;
+
+/**
+ * 예금/적금 금리 옵션 공통 모델
+ */
+public interface RateOption {
+
+  String getFinPrdtCd(); // 금융상품 코드
+
+  String getIntrRateType(); // 이자율유형(S:단리, M:복리)
+
+  Integer getSaveTrm(); // 저축기간(월)
+
+  BigDecimal getIntrRate(); // 기본금리(%)
+
+  BigDecimal getIntrRate2(); // 최고우대금리(%)
+}
@@ -27,7 +27,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class SavingsInterestRates {
+public class SavingsInterestRates implements RateOption {
 
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
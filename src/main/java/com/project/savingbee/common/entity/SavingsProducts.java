@@ -28,7 +28,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class SavingsProducts {
+public class SavingsProducts implements FinancialProduct {
 
   @Id
   private String finPrdtCd; // 금융상품코드
@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,6 +22,9 @@ public interface DepositInterestRatesRepository extends JpaRepository<DepositInt
   // 해당 상품의 금리 옵션 찾기
   List<DepositInterestRates> findByFinPrdtCd(String finPrdtCd);
 
+  // 여러 상품의 금리 옵션 한 번에 조회 (목록 화면 N+1 방지)
+  List<DepositInterestRates> findByFinPrdtCdIn(Collection<String> finPrdtCds);
+
   // 예치 기간 + 이자계산방식 필터링 후 최고 금리
   Optional<DepositInterestRates>
   findTopByFinPrdtCdAndSaveTrmAndIntrRateTypeInOrderByIntrRate2DescIntrRateDesc(
@@ -51,10 +55,13 @@ public interface DepositInterestRatesRepository extends JpaRepository<DepositInt
   List<DepositInterestRates> findTopRatesByProductCodes(
       @Param("productCodes") List<String> productCodes);
 
-  // 예치 기간이 일치한 금리 정보 조회(상품코드 순)
-  List<DepositInterestRates> findAllBySaveTrmOrderByFinPrdtCd(Integer saveTrm);
-
-  // 상품코드 + 이자계산방식 + 기간으로 두 상품의 금리 정보 조회(상품 비교용)
+  // 상품코드 + 이자계산방식 + 기간으로 선택한 상품들의 금리 정보 조회(상품 비교용, 상품/금융회사 함께 조회)
+  @EntityGraph(attributePaths = {"depositProduct", "depositProduct.financialCompany"})
   List<DepositInterestRates> findAllByFinPrdtCdInAndIntrRateTypeAndSaveTrm(
       List<String> finPrdtCd, String intrRateType, Integer saveTrm);
-}
\ No newline at end of file
+
+  // 상품코드 + 이자계산방식으로 선택한 상품들의 모든 기간 금리 정보 조회(금액 x 기간 비교표용, 상품/금융회사 함께 조회)
+  @EntityGraph(attributePaths = {"depositProduct", "depositProduct.financialCompany"})
+  List<DepositInterestRates> findWithProductByFinPrdtCdInAndIntrRateType(
+      Collection<String> finPrdtCds, String intrRateType);
+}
@@ -0,0 +1,10 @@
+package com.project.savingbee.common.repository;
+
+import com.project.savingbee.common.entity.ProductPopularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProductPopularityRepository extends JpaRepository<ProductPopularity, String> {
+
+}
@@ -4,6 +4,7 @@ import com.project.savingbee.common.entity.SavingsProducts;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
@@ -18,8 +19,9 @@ public interface SavingsProductsRepository extends JpaRepository<SavingsProducts
   // 금융상품코드 목록에 해당하는 상품 조회(금리 옵션 정보만 변경된 상품을 코드로 가져온 뒤 조회)
   List<SavingsProducts> findByFinPrdtCdIn(Collection<String> codes);
 
-  // 상품명으로 검색 - 가입 가능 상품만
-  List<SavingsProducts> findByFinPrdtNmContainingIgnoreCaseAndIsActiveTrue(String finPrdtNm);
+  // 상세 조회용 - 금리 옵션과 금융회사를 함께 조회 (상품 상세 일괄 조회)
+  @EntityGraph(attributePaths = {"interestRates", "financialCompany"})
+  List<SavingsProducts> findWithDetailsByFinPrdtCdIn(Collection<String> codes);
 
   // 활성 상품을 최신 등록순으로 조회
   List<SavingsProducts> findByIsActiveTrueOrderByCreatedAtDesc();
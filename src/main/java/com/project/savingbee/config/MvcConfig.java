@@ -1,9 +1,33 @@
 package com.project.savingbee.config;
 
+import com.project.savingbee.catalog.service.PopularityTracker;
+import com.project.savingbee.catalog.service.ProductCatalog;
+import com.project.savingbee.catalog.web.CatalogETagInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class MvcConfig implements WebMvcConfigurer {
   // CORS 설정은 SecurityConfig에서 통합 관리
-}
\ No newline at end of file
+
+  // 컨트롤러 슬라이스 테스트(@WebMvcTest)에는 카탈로그가 없으므로 있을 때만 등록
+  private final ObjectProvider<ProductCatalog> productCatalog;
+  private final ObjectProvider<PopularityTracker> popularityTracker;
+
+  /**
+   * 상품 조회 API - 카탈로그 버전 기반 조건부 요청(ETag/304)
+   * <p>
+   * 필터+검색 API는 검색 결과 노출을 인기도에 반영하므로 제외 (304나 브라우저 캐시로 끝나면 집계가 빠짐)
+   */
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    productCatalog.ifAvailable(catalog -> registry
+        .addInterceptor(new CatalogETagInterceptor(catalog, popularityTracker.getObject()))
+        .addPathPatterns("/products/**", "/api/compare/**")
+        .excludePathPatterns("/products/filter/**"));
+  }
+}
@@ -1,5 +1,6 @@
 package com.project.savingbee.config;
 
+import com.project.savingbee.catalog.service.ProductCatalog;
 import com.project.savingbee.connectApi.service.DepositConnectApi;
 import com.project.savingbee.connectApi.service.SavingConnectApi;
 import lombok.extern.slf4j.Slf4j;
@@ -14,12 +15,18 @@ import jakarta.annotation.PostConstruct;
 @Slf4j
 public class SchedulingConfig {
 
+  // 금융 상품 정기 수집 시각 (매일 새벽 3시) - 상품 API 캐시 만료 계산에도 사용
+  public static final String INGEST_CRON = "0 0 3 * * *";
+
   private final DepositConnectApi depositConnectApi;
   private final SavingConnectApi savingConnectApi;
+  private final ProductCatalog productCatalog;
 
-  public SchedulingConfig(DepositConnectApi depositConnectApi, SavingConnectApi savingConnectApi) {
+  public SchedulingConfig(DepositConnectApi depositConnectApi, SavingConnectApi savingConnectApi,
+      ProductCatalog productCatalog) {
     this.depositConnectApi = depositConnectApi;
     this.savingConnectApi = savingConnectApi;
+    this.productCatalog = productCatalog;
   }
 
   /**
@@ -45,12 +52,15 @@ public class SchedulingConfig {
       log.error("서버 시작 시 API 연동 중 오류 발생 + 서버 진행 계속", e);
 
     }
+
+    // 연동 성공 여부와 관계없이 DB 기준으로 카탈로그 구성
+    refreshCatalog();
   }
 
   /**
    * 매일 새벽 3시에 API 데이터 업데이트 실행 cron: 초(0) 분(0) 시간(3) 일(*) 월(*) 요일(*)
    */
-  @Scheduled(cron = "0 0 3 * * *")
+  @Scheduled(cron = INGEST_CRON)
   public void updateApiDataDaily() {
     log.info("=== 매일 새벽 3시 금융 상품 데이터 업데이트 시작 ===");
     try {
@@ -69,5 +79,18 @@ public class SchedulingConfig {
     } catch (Exception e) {
       log.error("매일 새벽 3시 API 업데이트 중 오류 발생", e);
     }
+
+    refreshCatalog();
+  }
+
+  /**
+   * 인메모리 상품 카탈로그/인덱스 재구성 - 실패 시 이전 스냅샷 유지
+   */
+  private void refreshCatalog() {
+    try {
+      productCatalog.refresh();
+    } catch (Exception e) {
+      log.error("상품 카탈로그 재구성 중 오류 발생 - 이전 카탈로그 유지", e);
+    }
   }
 }
\ No newline at end of file
@@ -1,5 +1,9 @@
 package com.project.savingbee.domain.cart.service;
 
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogRate;
+import com.project.savingbee.catalog.model.ProductKind;
+import com.project.savingbee.catalog.service.ProductCatalog;
 import com.project.savingbee.common.entity.Cart;
 import com.project.savingbee.common.entity.DepositInterestRates;
 import com.project.savingbee.common.entity.DepositProducts;
@@ -13,8 +17,11 @@ import com.project.savingbee.common.repository.SavingsProductsRepository;
 import com.project.savingbee.domain.cart.dto.CartPageResponseDTO;
 import com.project.savingbee.domain.cart.dto.CartRequestDTO;
 import com.project.savingbee.domain.cart.dto.CartResponseDTO;
+import com.project.savingbee.util.BasisPoints;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +45,7 @@ public class CartService {
   private final SavingsProductsRepository savingsRepository;
   private final DepositInterestRatesRepository depositRatesRepository;
   private final SavingsInterestRatesRepository savingsRatesRepository;
+  private final ProductCatalog productCatalog;
 
   /**
    * 1. 목록조회 (필터/페이징): 사용자의 장바구니 상품 목록 조회 - 은행명 필터링 지원 - 페이징 처리
@@ -161,6 +169,15 @@ public class CartService {
 
   // 헬퍼 메서드들
   private ProductInfo getProductInfo(String productCode, Cart.ProductType productType) {
+    // 상품 디렉터리에 같은 종류로 있으면 DB 조회 없이 구성 (없거나 종류가 다르면 기존 조회)
+    ProductKind kind = productType == Cart.ProductType.DEPOSIT
+        ? ProductKind.DEPOSIT : ProductKind.SAVING;
+    Optional<CatalogProduct> cataloged = productCatalog.find(productCode)
+        .filter(product -> product.kind() == kind);
+    if (cataloged.isPresent()) {
+      return fromCatalog(cataloged.get());
+    }
+
     if (productType == Cart.ProductType.DEPOSIT) {
       DepositProducts product = depositRepository.findById(productCode)
           .orElseThrow(() -> new IllegalArgumentException("예금 상품을 찾을 수 없습니다."));
@@ -201,6 +218,19 @@ public class CartService {
     }
   }
 
+  private ProductInfo fromCatalog(CatalogProduct product) {
+    BigDecimal maxRate = BasisPoints.isPresent(product.maxRateBp())
+        ? BasisPoints.toRate(product.maxRateBp()) : BigDecimal.ZERO;
+
+    // 대표 기간 (첫 금리 옵션, 없으면 12개월)
+    Integer termMonths = product.rates().stream()
+        .map(CatalogRate::saveTrm)
+        .filter(Objects::nonNull)
+        .findFirst()
+        .orElse(12);
+
+    return new ProductInfo(product.korCoNm(), product.finPrdtNm(), maxRate, termMonths);
+  }
 
   // 내부 클래스
   @lombok.Getter
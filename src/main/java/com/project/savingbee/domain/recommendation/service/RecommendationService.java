@@ -6,6 +6,8 @@ import com.project.savingbee.domain.cart.dto.CartComparisonDTO;
 import com.project.savingbee.domain.cart.dto.CartResponseDTO;
 import com.project.savingbee.domain.notification.dto.MaturityNotificationDTO;
 import com.project.savingbee.domain.recommendation.dto.*;
+import com.project.savingbee.util.BasisPoints;
+import com.project.savingbee.util.TopK;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -53,12 +55,11 @@ public class RecommendationService {
       allRecommendations.addAll(productRecommendations);
     }
 
-    // 우선순위별 정렬 및 중복 제거
-    return allRecommendations.stream()
-        .sorted(Comparator.comparing(RecommendationResponseDTO::getPriority)
-            .thenComparing(RecommendationResponseDTO::getRateDifference, Comparator.reverseOrder()))
-        .limit(10) // 상위 10개만
-        .collect(Collectors.toList());
+    // 우선순위별 정렬 - 상위 10개만 선택
+    return TopK.first(allRecommendations,
+        Comparator.comparing(RecommendationResponseDTO::getPriority)
+            .thenComparing(RecommendationResponseDTO::getRateDifference, Comparator.reverseOrder()),
+        10);
   }
 
   /**
@@ -150,86 +151,91 @@ public class RecommendationService {
   private List<RecommendationResponseDTO> findBetterDepositProducts(UserProduct userProduct) {
     // 활성 예금 상품 중 더 높은 금리의 상품들 조회
     List<DepositProducts> activeProducts = depositRepository.findByIsActiveTrue();
-    List<RecommendationResponseDTO> recommendations = new ArrayList<>();
+    List<DepositInterestRates> rates = activeProducts.isEmpty()
+        ? Collections.emptyList()
+        : depositRatesRepository.findByFinPrdtCdIn(productCodes(activeProducts));
 
-    for (DepositProducts product : activeProducts) {
-      Optional<BigDecimal> maxRate = depositRatesRepository
-          .findMaxInterestRateByProductCode(product.getFinPrdtCd());
-
-      if (maxRate.isPresent() &&
-          maxRate.get().compareTo(userProduct.getInterestRate()) > 0) {
-
-        BigDecimal rateDiff = maxRate.get().subtract(userProduct.getInterestRate());
-        BigDecimal estimatedExtra = calculateExtraInterest(
-            userProduct.getDepositAmount(), rateDiff);
-
-        RecommendationResponseDTO recommendation = RecommendationResponseDTO.builder()
-            .productCode(product.getFinPrdtCd())
-            .productName(product.getFinPrdtNm())
-            .bankName(product.getFinancialCompany().getKorCoNm())
-            .productType("DEPOSIT")
-            .maxInterestRate(maxRate.get())
-            .rateDifference(rateDiff)
-            .estimatedExtraInterest(estimatedExtra)
-            .reason(String.format("현재 상품보다 %.2f%% 더 높은 금리", rateDiff.doubleValue()))
-            .priority(calculatePriority(rateDiff, estimatedExtra))
-            .baseProductName(userProduct.getProductName())
-            .baseInterestRate(userProduct.getInterestRate())
-            .baseDepositAmount(userProduct.getDepositAmount())
-            .build();
-
-        recommendations.add(recommendation);
-      }
-    }
-
-    return recommendations.stream()
-        .sorted(Comparator.comparing(RecommendationResponseDTO::getRateDifference,
-            Comparator.reverseOrder()))
-        .limit(5)
-        .collect(Collectors.toList());
+    return findHigherRateProducts(userProduct, activeProducts, rates, "DEPOSIT");
   }
 
   private List<RecommendationResponseDTO> findBetterSavingsProducts(UserProduct userProduct) {
     List<SavingsProducts> activeProducts = savingsRepository.findByIsActiveTrue();
-    List<RecommendationResponseDTO> recommendations = new ArrayList<>();
+    List<SavingsInterestRates> rates = activeProducts.isEmpty()
+        ? Collections.emptyList()
+        : savingsRatesRepository.findByFinPrdtCdIn(productCodes(activeProducts));
 
-    for (SavingsProducts product : activeProducts) {
-      Optional<BigDecimal> maxRate = savingsRatesRepository
-          .findMaxInterestRateByProductCode(product.getFinPrdtCd());
-
-      if (maxRate.isPresent() &&
-          maxRate.get().compareTo(userProduct.getInterestRate()) > 0) {
-
-        BigDecimal rateDiff = maxRate.get().subtract(userProduct.getInterestRate());
-        BigDecimal estimatedExtra = calculateExtraInterest(
-            userProduct.getDepositAmount(), rateDiff);
-
-        RecommendationResponseDTO recommendation = RecommendationResponseDTO.builder()
-            .productCode(product.getFinPrdtCd())
-            .productName(product.getFinPrdtNm())
-            .bankName(product.getFinancialCompany().getKorCoNm())
-            .productType("SAVINGS")
-            .maxInterestRate(maxRate.get())
-            .rateDifference(rateDiff)
-            .estimatedExtraInterest(estimatedExtra)
-            .reason(String.format("현재 상품보다 %.2f%% 더 높은 금리", rateDiff.doubleValue()))
-            .priority(calculatePriority(rateDiff, estimatedExtra))
-            .baseProductName(userProduct.getProductName())
-            .baseInterestRate(userProduct.getInterestRate())
-            .baseDepositAmount(userProduct.getDepositAmount())
-            .build();
-
-        recommendations.add(recommendation);
+    return findHigherRateProducts(userProduct, activeProducts, rates, "SAVINGS");
+  }
+
+  /**
+   * 보유 상품보다 최고 금리가 높은 상품 상위 5개
+   * 금리 비교/정렬은 bp 정수로 하고, 최종 5개만 BigDecimal 응답으로 변환
+   */
+  private List<RecommendationResponseDTO> findHigherRateProducts(UserProduct userProduct,
+      List<? extends FinancialProduct> activeProducts, List<? extends RateOption> rates,
+      String productType) {
+    if (userProduct.getInterestRate() == null) {
+      return Collections.emptyList();
+    }
+
+    // 상품별 최고 금리(bp) - 금리 옵션 목록을 한 번만 순회
+    Map<String, Integer> maxRateBps = new HashMap<>();
+    for (RateOption rate : rates) {
+      int bp = BasisPoints.effective(rate);
+      if (BasisPoints.isPresent(bp)) {
+        maxRateBps.merge(rate.getFinPrdtCd(), bp, Math::max);
+      }
+    }
+
+    // 보유 금리보다 높은 상품만 (정수 bp > 보유 금리 ⇔ bp > floor(보유 금리 bp))
+    int userRateBp = BasisPoints.toBpFloor(userProduct.getInterestRate());
+    List<RateCandidate> candidates = new ArrayList<>();
+    for (FinancialProduct product : activeProducts) {
+      Integer maxRateBp = maxRateBps.get(product.getFinPrdtCd());
+      if (maxRateBp != null && maxRateBp > userRateBp) {
+        candidates.add(new RateCandidate(product, maxRateBp));
       }
     }
 
-    return recommendations.stream()
-        .sorted(Comparator.comparing(RecommendationResponseDTO::getRateDifference,
-            Comparator.reverseOrder()))
-        .limit(5)
+    // 금리 차이 내림차순 = 최고 금리 내림차순, 상위 5개만 선택
+    return TopK.largest(candidates, RateCandidate::maxRateBp, 5).stream()
+        .map(candidate -> toRecommendation(userProduct, candidate, productType))
         .collect(Collectors.toList());
   }
 
+  private RecommendationResponseDTO toRecommendation(UserProduct userProduct,
+      RateCandidate candidate, String productType) {
+    FinancialProduct product = candidate.product();
+    BigDecimal maxRate = BasisPoints.toRate(candidate.maxRateBp());
+    BigDecimal rateDiff = maxRate.subtract(userProduct.getInterestRate());
+    BigDecimal estimatedExtra = calculateExtraInterest(
+        userProduct.getDepositAmount(), rateDiff);
+
+    return RecommendationResponseDTO.builder()
+        .productCode(product.getFinPrdtCd())
+        .productName(product.getFinPrdtNm())
+        .bankName(product.getFinancialCompany().getKorCoNm())
+        .productType(productType)
+        .maxInterestRate(maxRate)
+        .rateDifference(rateDiff)
+        .estimatedExtraInterest(estimatedExtra)
+        .reason(String.format("현재 상품보다 %.2f%% 더 높은 금리", rateDiff.doubleValue()))
+        .priority(calculatePriority(rateDiff, estimatedExtra))
+        .baseProductName(userProduct.getProductName())
+        .baseInterestRate(userProduct.getInterestRate())
+        .baseDepositAmount(userProduct.getDepositAmount())
+        .build();
+  }
+
+  private static List<String> productCodes(List<? extends FinancialProduct> products) {
+    return products.stream().map(FinancialProduct::getFinPrdtCd).collect(Collectors.toList());
+  }
+
+  // 추천 후보 (상품, 최고 금리 bp)
+  private record RateCandidate(FinancialProduct product, int maxRateBp) {
+
+  }
+
   private CartComparisonDTO compareCartItemWithUserProducts(Cart cartItem,
       List<UserProduct> userProducts) {
     // 같은 타입의 보유 상품 중 가장 유사한 것 찾기
@@ -0,0 +1,35 @@
+package com.project.savingbee.filtering.controller;
+
+import com.project.savingbee.filtering.dto.AutocompleteResponse;
+import com.project.savingbee.filtering.service.AutocompleteService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/products")
+@RequiredArgsConstructor
+public class AutocompleteController {
+
+  private final AutocompleteService autocompleteService;
+
+  /**
+   * 상품명/금융회사명 자동완성 (초성, 입력 중인 음절 포함)
+   */
+  @GetMapping("/autocomplete")
+  public ResponseEntity<AutocompleteResponse> autocomplete(
+      @RequestParam(required = false) String q,
+      @RequestParam(required = false) Integer limit) {
+    try {
+      return ResponseEntity.ok(autocompleteService.autocomplete(q, limit));
+    } catch (IllegalArgumentException e) {
+      log.warn("잘못된 자동완성 요청: {}", e.getMessage());
+      return ResponseEntity.badRequest().build();
+    }
+  }
+}
@@ -3,14 +3,19 @@ package com.project.savingbee.filtering.controller;
 import com.project.savingbee.filtering.dto.DepositFilterRequest;
 import com.project.savingbee.filtering.dto.ProductSummaryResponse;
 import com.project.savingbee.filtering.dto.SortFilter;
+import com.project.savingbee.filtering.enums.ExportFormat;
 import com.project.savingbee.filtering.service.DepositFilterService;
+import com.project.savingbee.filtering.service.ProductExportService;
 import com.project.savingbee.filtering.util.FilterMappingUtil;
 import com.project.savingbee.filtering.util.FilterParsingUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -27,6 +32,8 @@ public class DepositFilterController {
 
   private final DepositFilterService depositFilterService;
 
+  private final ProductExportService productExportService;
+
   @GetMapping("deposit")
   public ResponseEntity<Page<ProductSummaryResponse>> filterDepositProducts(
       @RequestParam(required = false) String finCoType,      // finCoType
@@ -73,6 +80,51 @@ public class DepositFilterController {
     }
   }
 
+  /**
+   * 예금 필터 결과 전체 내보내기 (format: ndjson | csv)
+   * 페이지 구분 없이 한 번의 요청으로 스트리밍하며, 상품코드 오름차순으로 정렬된다.
+   */
+  @GetMapping("deposit/export")
+  public ResponseEntity<StreamingResponseBody> exportDepositProducts(
+      @RequestParam(required = false) String finCoType,
+      @RequestParam(required = false) String joinWay,
+      @RequestParam(required = false) String joinDeny,
+      @RequestParam(required = false) String saveTrm,
+      @RequestParam(required = false) String intrRateType,
+      @RequestParam(required = false) BigDecimal intrRateMin,
+      @RequestParam(required = false) BigDecimal intrRateMax,
+      @RequestParam(required = false) BigDecimal intrRate2Min,
+      @RequestParam(required = false) BigDecimal intrRate2Max,
+      @RequestParam(required = false) BigDecimal maxLimitMin,
+      @RequestParam(required = false) BigDecimal maxLimitMax,
+      @RequestParam(defaultValue = "ndjson") String format) {
+
+    log.info("예금 필터 결과 내보내기 요청 - 형식: {}", format);
+
+    try {
+      ExportFormat exportFormat = ExportFormat.from(format);
+      DepositFilterRequest request = buildFilterRequest(
+          finCoType, joinWay, joinDeny, saveTrm, intrRateType,
+          intrRateMin, intrRateMax, intrRate2Min, intrRate2Max,
+          maxLimitMin, maxLimitMax, null, null, 1, 10);
+
+      StreamingResponseBody body = out -> {
+        long count = productExportService.exportDeposit(request, exportFormat, out);
+        log.info("예금 필터 결과 내보내기 - {}개 상품 전송", count);
+      };
+
+      return ResponseEntity.ok()
+          .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+          .header(HttpHeaders.CONTENT_DISPOSITION,
+              "attachment; filename=\"deposit-products." + exportFormat.getExtension() + "\"")
+          .body(body);
+
+    } catch (IllegalArgumentException e) {
+      log.error("잘못된 요청 파라미터: {}", e.getMessage());
+      return ResponseEntity.badRequest().build();
+    }
+  }
+
   /**
    * 파라미터를 DepositFilterRequest 객체로 변환
    */
@@ -1,7 +1,9 @@
 package com.project.savingbee.filtering.controller;
 
+import com.project.savingbee.filtering.dto.ProductDetailBatchResponse;
 import com.project.savingbee.filtering.dto.ProductDetailResponse;
 import com.project.savingbee.filtering.service.DetailService;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -9,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -19,6 +22,23 @@ public class DetailController {
 
   private final DetailService detailService;
 
+  /**
+   * 상품 상세 일괄 조회 (예: /products/batch?codes=A,B) - 요청 순서대로 반환, 없는 상품은 unknown_codes
+   */
+  @GetMapping("/batch")
+  public ResponseEntity<ProductDetailBatchResponse> getProductDetails(
+      @RequestParam List<String> codes) {
+    try {
+      ProductDetailBatchResponse response = detailService.getProductDetails(codes);
+      return ResponseEntity.ok(response);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(null); // 400 - 잘못된 요청
+    } catch (Exception e) {
+      log.error("상품 상세 일괄 조회 중 예외 발생 - codes: {}, error: {}", codes, e.getMessage());
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null); // 500 - 서버 오류
+    }
+  }
+
   /**
    * 상품 상세 조회
    */
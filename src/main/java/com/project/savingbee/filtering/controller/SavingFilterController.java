@@ -3,6 +3,8 @@ package com.project.savingbee.filtering.controller;
 import com.project.savingbee.filtering.dto.ProductSummaryResponse;
 import com.project.savingbee.filtering.dto.SavingFilterRequest;
 import com.project.savingbee.filtering.dto.SortFilter;
+import com.project.savingbee.filtering.enums.ExportFormat;
+import com.project.savingbee.filtering.service.ProductExportService;
 import com.project.savingbee.filtering.service.SavingFilterService;
 import com.project.savingbee.filtering.util.FilterMappingUtil;
 import com.project.savingbee.filtering.util.FilterParsingUtil;
@@ -11,11 +13,14 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * 적금 상품 필터링 Controller
@@ -28,6 +33,8 @@ public class SavingFilterController {
 
   private final SavingFilterService savingFilterService;
 
+  private final ProductExportService productExportService;
+
   @GetMapping("saving")
   public ResponseEntity<Page<ProductSummaryResponse>> filterSavingProducts(
       @RequestParam(required = false) String finCoType,
@@ -73,6 +80,52 @@ public class SavingFilterController {
     }
   }
 
+  /**
+   * 적금 필터 결과 전체 내보내기 (format: ndjson | csv)
+   * 페이지 구분 없이 한 번의 요청으로 스트리밍하며, 상품코드 오름차순으로 정렬된다.
+   */
+  @GetMapping("saving/export")
+  public ResponseEntity<StreamingResponseBody> exportSavingProducts(
+      @RequestParam(required = false) String finCoType,
+      @RequestParam(required = false) String joinWay,
+      @RequestParam(required = false) String joinDeny,
+      @RequestParam(required = false) String saveTrm,
+      @RequestParam(required = false) String intrRateType,
+      @RequestParam(required = false) String rsrvType,        // 적금 고유
+      @RequestParam(required = false) Integer monthlyMaxLimit, // 적금 고유
+      @RequestParam(required = false) Integer totalMaxLimit,   // 적금 고유
+      @RequestParam(required = false) BigDecimal intrRateMin,
+      @RequestParam(required = false) BigDecimal intrRateMax,
+      @RequestParam(required = false) BigDecimal intrRate2Min,
+      @RequestParam(required = false) BigDecimal intrRate2Max,
+      @RequestParam(defaultValue = "ndjson") String format) {
+
+    log.info("적금 필터 결과 내보내기 요청 - 형식: {}", format);
+
+    try {
+      ExportFormat exportFormat = ExportFormat.from(format);
+      SavingFilterRequest request = buildSavingFilterRequest(
+          finCoType, joinWay, joinDeny, saveTrm, intrRateType, rsrvType,
+          monthlyMaxLimit, totalMaxLimit, intrRateMin, intrRateMax,
+          intrRate2Min, intrRate2Max, null, null, 1, 10);
+
+      StreamingResponseBody body = out -> {
+        long count = productExportService.exportSaving(request, exportFormat, out);
+        log.info("적금 필터 결과 내보내기 - {}개 상품 전송", count);
+      };
+
+      return ResponseEntity.ok()
+          .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+          .header(HttpHeaders.CONTENT_DISPOSITION,
+              "attachment; filename=\"saving-products." + exportFormat.getExtension() + "\"")
+          .body(body);
+
+    } catch (IllegalArgumentException e) {
+      log.error("잘못된 요청 파라미터: {}", e.getMessage());
+      return ResponseEntity.badRequest().build();
+    }
+  }
+
   /**
    * 파라미터를 SavingFilterRequest 객체로 변환
    */
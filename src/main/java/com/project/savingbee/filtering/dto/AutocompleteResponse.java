@@ -0,0 +1,16 @@
+package com.project.savingbee.filtering.dto;
+
+import com.project.savingbee.catalog.model.Suggestion;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 자동완성 응답 DTO
+ */
+@Data
+@Builder
+public class AutocompleteResponse {
+  private String query;
+  private List<Suggestion> suggestions;
+}
@@ -17,6 +17,9 @@ public abstract class BaseFilterRequest {
   private Integer size;
   private String q;
 
+  // 상품별 필터 조건 (예금/적금 요청에서 구현)
+  public abstract CommonFilters getFilters();
+
   // 공통 편의 메서드들
   // 기본 정렬 설정 메서드
   public void setDefaultValues() {
@@ -0,0 +1,23 @@
+package com.project.savingbee.filtering.dto;
+
+import java.util.List;
+
+/**
+ * 예금/적금 필터의 공통 조건 - 상품별 고유 조건은 각 Filters 클래스에만 존재
+ */
+public interface CommonFilters {
+
+  List<String> getOrgTypeCode();         // 금융회사 번호들
+
+  List<String> getJoinWay();             // 우대조건들
+
+  List<String> getJoinDeny();            // 가입제한
+
+  List<Integer> getSaveTrm();            // 저축기간
+
+  List<String> getIntrRateType();        // 이자율 유형 (단리, 복리)
+
+  RangeFilter getIntrRate();             // 기본금리 범위
+
+  RangeFilter getIntrRate2();            // 최고금리 범위
+}
@@ -0,0 +1,26 @@
+package com.project.savingbee.filtering.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 상세 일괄 조회 응답
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDetailBatchResponse {
+
+  // 상품 상세 정보 (요청 순서, 중복 제외)
+  @JsonProperty("products")
+  private List<ProductDetailResponse> products;
+
+  // 존재하지 않는 상품 코드 (요청 순서)
+  @JsonProperty("unknown_codes")
+  private List<String> unknownCodes;
+}
@@ -13,6 +13,8 @@ public class ProductSearchResponse {
   private List<ProductSummaryResponse> products;
   private List<ProductSummaryResponse> popularProducts;
   private Integer totalCount;
+  private Integer page;
+  private Integer size;
   private String searchTerm;
   private String message;
 }
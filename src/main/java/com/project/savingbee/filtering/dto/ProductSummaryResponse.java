@@ -1,6 +1,9 @@
 package com.project.savingbee.filtering.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.util.BasisPoints;
 import java.math.BigDecimal;
 import lombok.*;
 
@@ -33,4 +36,28 @@ public class ProductSummaryResponse {
   // 기본 금리
   @JsonProperty("base_intr_rate")
   private BigDecimal baseIntrRate;
+
+  // 상품명 검색 매칭 방식 (exact: 일치, fuzzy: 오타 허용) - 검색 결과에만 포함
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("match_type")
+  private String matchType;
+
+  public static final String MATCH_EXACT = "exact";
+  public static final String MATCH_FUZZY = "fuzzy";
+
+  // 카탈로그 상품 -> 응답 (최고 우대 금리는 우대금리 기준, 정보가 없으면 0)
+  public static ProductSummaryResponse fromCatalog(CatalogProduct product) {
+    return ProductSummaryResponse.builder()
+        .finPrdtCd(product.finPrdtCd())
+        .finPrdtNm(product.finPrdtNm() != null ? product.finPrdtNm() : "상품명 정보없음")
+        .korCoNm(product.korCoNm() != null ? product.korCoNm() : "정보없음")
+        .productType(product.kind().getType())
+        .maxIntrRate(rateOrZero(product.maxPrefRateBp()))
+        .baseIntrRate(rateOrZero(product.maxBaseRateBp()))
+        .build();
+  }
+
+  private static BigDecimal rateOrZero(int bp) {
+    return BasisPoints.isPresent(bp) ? BasisPoints.toRate(bp) : BigDecimal.ZERO;
+  }
 }
@@ -23,7 +23,7 @@ public class SavingFilterRequest extends BaseFilterRequest {
   @Builder
   @NoArgsConstructor
   @AllArgsConstructor
-  public static class Filters {
+  public static class Filters implements CommonFilters {
 
     private List<String> orgTypeCode;           // 금융회사 번호들
     private List<String> joinWay;           // 우대조건들
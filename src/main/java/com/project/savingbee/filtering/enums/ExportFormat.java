@@ -0,0 +1,34 @@
+package com.project.savingbee.filtering.enums;
+
+import java.util.Locale;
+import lombok.Getter;
+
+/**
+ * 필터 결과 내보내기 형식
+ */
+@Getter
+public enum ExportFormat {
+
+  NDJSON("application/x-ndjson", "ndjson"),
+  CSV("text/csv; charset=UTF-8", "csv");
+
+  private final String contentType;
+  private final String extension;
+
+  ExportFormat(String contentType, String extension) {
+    this.contentType = contentType;
+    this.extension = extension;
+  }
+
+  // 요청 파라미터(ndjson/csv, 대소문자 무관) -> 형식
+  public static ExportFormat from(String value) {
+    if (value == null || value.isBlank()) {
+      return NDJSON;
+    }
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.project.savingbee.filtering.service;
+
+import com.project.savingbee.catalog.index.AutocompleteIndex;
+import com.project.savingbee.filtering.dto.AutocompleteResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상품명/금융회사명 자동완성 - 카탈로그 trie에서 조회하므로 DB를 사용하지 않는다
+ */
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+  public static final int DEFAULT_LIMIT = 10;
+
+  private final AutocompleteIndex autocompleteIndex;
+
+  public AutocompleteResponse autocomplete(String query, Integer limit) {
+    int size = limit != null ? limit : DEFAULT_LIMIT;
+    if (size < 1 || size > AutocompleteIndex.MAX_SUGGESTIONS) {
+      throw new IllegalArgumentException(
+          "limit은 1~" + AutocompleteIndex.MAX_SUGGESTIONS + " 사이여야 합니다: " + size);
+    }
+
+    String q = query != null ? query : "";
+    return AutocompleteResponse.builder()
+        .query(q)
+        .suggestions(autocompleteIndex.suggest(q, size))
+        .build();
+  }
+}
@@ -4,6 +4,7 @@ import com.project.savingbee.filtering.dto.DepositFilterRequest;
 import com.project.savingbee.filtering.dto.ProductSearchResponse;
 import com.project.savingbee.filtering.dto.ProductSummaryResponse;
 import com.project.savingbee.filtering.util.KoreanParsing;
+import com.project.savingbee.util.TextNormalizer;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -37,13 +38,23 @@ public class DepositFilterSearchService {
     }
     // 검색어만 있을 때
     else if (request.hasOnlySearchTerm()) {
+      // 관련도 순으로 요청 페이지만 조회 (페이지 크기는 검색 최대 크기까지)
+      int page = Math.max(1, request.getPageNumber());
+      int size = Math.min(Math.max(1, request.getPageSize()), SearchService.MAX_PAGE_SIZE);
       ResponseEntity<ProductSearchResponse> searchResult = searchService.searchProduct(
-          request.getQ());
+          request.getQ(), page, size);
       ProductSearchResponse response = searchResult.getBody();
-      List<ProductSummaryResponse> products = response.getProducts();
+      Pageable pageable = PageRequest.of(page - 1, size);
+
+      // 검색어가 너무 짧은 경우 등 검색 실패 - 빈 결과 반환
+      if (!searchResult.getStatusCode().is2xxSuccessful() || response == null
+          || response.getProducts() == null) {
+        return new PageImpl<>(Collections.emptyList(), pageable, 0);
+      }
 
-      Pageable pageable = PageRequest.of(request.getPageNumber() - 1, request.getPageSize());
-      return new PageImpl<>(products, pageable, products.size());
+      List<ProductSummaryResponse> products = response.getProducts();
+      long total = response.getTotalCount() != null ? response.getTotalCount() : products.size();
+      return new PageImpl<>(products, pageable, total);
     }
     // 기존 필터링 수행 (검색어 제외)
     DepositFilterRequest filterOnlyRequest = createFilterOnlyRequest(request);
@@ -92,9 +103,10 @@ public class DepositFilterSearchService {
   private List<ProductSummaryResponse> findProductsContainingSearchTerm(
       List<ProductSummaryResponse> products, String searchTerm) {
 
+    // 검색어는 한 번만 정규화, 상품명은 재사용 버퍼에서 정규화해 비교
+    String query = TextNormalizer.normalize(searchTerm);
     return products.stream()
-        .filter(product -> product.getFinPrdtNm() != null &&
-            product.getFinPrdtNm().toLowerCase().contains(searchTerm.toLowerCase()))
+        .filter(product -> TextNormalizer.contains(product.getFinPrdtNm(), query))
         .collect(Collectors.toList());
   }
 }
\ No newline at end of file
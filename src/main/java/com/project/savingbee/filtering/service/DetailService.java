@@ -1,16 +1,27 @@
 package com.project.savingbee.filtering.service;
 
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.ProductKind;
+import com.project.savingbee.catalog.service.ProductCatalog;
 import com.project.savingbee.common.entity.DepositProducts;
 import com.project.savingbee.common.entity.SavingsProducts;
 import com.project.savingbee.common.repository.DepositProductsRepository;
 import com.project.savingbee.common.repository.SavingsProductsRepository;
+import com.project.savingbee.filtering.dto.ProductDetailBatchResponse;
 import com.project.savingbee.filtering.dto.ProductDetailResponse;
 import com.project.savingbee.filtering.dto.ProductDetailResponse.InterestRateOption;
+import com.project.savingbee.filtering.service.ProductDetailCache.CachedDetail;
 import com.project.savingbee.filtering.util.FilterMappingUtil;
 import java.math.BigDecimal;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,9 +38,14 @@ public class DetailService {
   private final DepositProductsRepository depositProductsRepository;
   private final SavingsProductsRepository savingsProductsRepository;
   private final SearchService searchService;
+  private final ProductCatalog productCatalog;
+  private final ProductDetailCache productDetailCache;
 
   private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
+  // 일괄 조회 최대 상품 수
+  static final int MAX_BATCH_SIZE = 50;
+
   /**
    * 상품 상세 정보 조회
    */
@@ -41,41 +57,126 @@ public class DetailService {
       throw new IllegalArgumentException("상품 코드가 유효하지 않습니다.");
     }
 
-    // 예금 상품에서 먼저 찾기
-    Optional<DepositProducts> depositOpt = depositProductsRepository.findById(productId);
-    if (depositOpt.isPresent()) {
-      DepositProducts deposit = depositOpt.get();
+    // 캐시 미스일 때만 DB 조회 (동시 미스는 한 번만 조회)
+    CachedDetail detail = productDetailCache.get(productId, this::loadProductDetail);
+
+    // 조회수 증가 - 캐시 적중 여부와 관계없이 요청마다
+    if (detail.active()) {
+      addToViewedProductsCache(productId);
+    }
+    return detail.response();
+  }
+
+  /**
+   * 상품 상세 정보 일괄 조회 (비교, 장바구니 등 여러 상품 화면용) - 조회수는 증가시키지 않음
+   */
+  public ProductDetailBatchResponse getProductDetails(List<String> productIds) {
+    if (productIds == null || productIds.isEmpty()) {
+      throw new IllegalArgumentException("상품 코드가 유효하지 않습니다.");
+    }
+
+    // 공백 제거, 중복 제외 (요청 순서 유지)
+    Set<String> codes = new LinkedHashSet<>();
+    for (String productId : productIds) {
+      if (productId != null && !productId.isBlank()) {
+        codes.add(productId.trim());
+      }
+    }
+    if (codes.isEmpty()) {
+      throw new IllegalArgumentException("상품 코드가 유효하지 않습니다.");
+    }
+    if (codes.size() > MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException("한 번에 조회할 수 있는 상품은 최대 " + MAX_BATCH_SIZE + "개입니다.");
+    }
+
+    Map<String, CachedDetail> details = productDetailCache.getAll(codes, this::loadProductDetails);
+
+    List<ProductDetailResponse> products = new ArrayList<>(details.size());
+    List<String> unknownCodes = new ArrayList<>();
+    for (String code : codes) {
+      CachedDetail detail = details.get(code);
+      if (detail != null) {
+        products.add(detail.response());
+      } else {
+        unknownCodes.add(code);
+      }
+    }
+
+    log.info("상품 상세 일괄 조회 완료 - 요청: {}개, 조회: {}개, 없음: {}개",
+        codes.size(), products.size(), unknownCodes.size());
 
-      // 조회수 증가
-//      addToViewedProductsCache(productId);
+    return ProductDetailBatchResponse.builder()
+        .products(products)
+        .unknownCodes(unknownCodes)
+        .build();
+  }
 
-      if (Boolean.TRUE.equals(deposit.getIsActive())) {
-        addToViewedProductsCache(productId);
+  /**
+   * DB에서 여러 상품 상세 정보 조회 - 테이블별 IN 조회 한 번씩 (금리 옵션, 금융회사 포함)
+   */
+  private Map<String, CachedDetail> loadProductDetails(Collection<String> productIds) {
+    // 상품 디렉터리로 종류를 나눔 (카탈로그에 아직 없는 상품은 두 테이블 모두 조회)
+    List<String> depositCodes = new ArrayList<>();
+    List<String> savingsCodes = new ArrayList<>();
+    for (String productId : productIds) {
+      ProductKind kind = productCatalog.find(productId).map(CatalogProduct::kind).orElse(null);
+      if (kind != ProductKind.SAVING) {
+        depositCodes.add(productId);
+      }
+      if (kind != ProductKind.DEPOSIT) {
+        savingsCodes.add(productId);
       }
+    }
+
+    Map<String, CachedDetail> loaded = new HashMap<>();
+    if (!depositCodes.isEmpty()) {
+      for (DepositProducts deposit :
+          depositProductsRepository.findWithDetailsByFinPrdtCdIn(depositCodes)) {
+        loaded.put(deposit.getFinPrdtCd(), new CachedDetail(convertDepositToResponse(deposit),
+            Boolean.TRUE.equals(deposit.getIsActive())));
+      }
+    }
+    if (!savingsCodes.isEmpty()) {
+      for (SavingsProducts saving :
+          savingsProductsRepository.findWithDetailsByFinPrdtCdIn(savingsCodes)) {
+        loaded.putIfAbsent(saving.getFinPrdtCd(), new CachedDetail(convertSavingsToResponse(saving),
+            Boolean.TRUE.equals(saving.getIsActive())));
+      }
+    }
+    return loaded;
+  }
+
+  /**
+   * DB에서 상품 상세 정보 조회
+   */
+  private CachedDetail loadProductDetail(String productId) {
+    // 상품 디렉터리에서 종류를 확인해 해당 테이블만 조회 (카탈로그에 아직 없는 상품은 두 테이블 모두 확인)
+    ProductKind kind = productCatalog.find(productId).map(CatalogProduct::kind).orElse(null);
+
+    // 예금 상품에서 찾기
+    Optional<DepositProducts> depositOpt = kind != ProductKind.SAVING
+        ? depositProductsRepository.findById(productId) : Optional.empty();
+    if (depositOpt.isPresent()) {
+      DepositProducts deposit = depositOpt.get();
 
       log.info("예금 상품 조회 완료 - 상품코드:{}", deposit.getFinPrdtNm());
-      return convertDepositToResponse(deposit);
+      return new CachedDetail(convertDepositToResponse(deposit),
+          Boolean.TRUE.equals(deposit.getIsActive()));
     }
 
     // 적금 상품에서 찾기
-    Optional<SavingsProducts> savingsOpt = savingsProductsRepository.findById(productId);
+    Optional<SavingsProducts> savingsOpt = kind != ProductKind.DEPOSIT
+        ? savingsProductsRepository.findById(productId) : Optional.empty();
     if (savingsOpt.isPresent()) {
       SavingsProducts saving = savingsOpt.get();
 
-      // 조회수 증가
-//      addToViewedProductsCache(productId);
-
-      if (Boolean.TRUE.equals(saving.getIsActive())) {
-        addToViewedProductsCache(productId);
-      }
-
       log.info("적금 상품 조회 완료 -상품코드:{}", saving.getFinPrdtNm());
-      return convertSavingsToResponse(saving);
+      return new CachedDetail(convertSavingsToResponse(saving),
+          Boolean.TRUE.equals(saving.getIsActive()));
     }
 
     // 상품 바놘 실패
     throw new IllegalArgumentException("존재하지 않는 상품입니다: " + productId);
-
   }
 
   /**
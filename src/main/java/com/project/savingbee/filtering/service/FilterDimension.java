@@ -0,0 +1,76 @@
+package com.project.savingbee.filtering.service;
+
+import com.project.savingbee.filtering.dto.BaseFilterRequest;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.function.Function;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 상품 종류별 고유 필터 조건 - 예금(maxLimit), 적금(monthlyMaxLimit, rsrvType, totalMaxLimit) 등
+ * <p>
+ * 상품 테이블에 걸리는 조건(onProduct)과 금리 옵션 JOIN에 걸리는 조건(onRate)으로 나뉜다.
+ */
+public final class FilterDimension<P, F extends BaseFilterRequest> {
+
+  private final String name;
+  private final java.util.function.Predicate<F> requested;
+  private final Function<F, Specification<P>> productCondition;
+  private final RateCondition<P, F> rateCondition;
+
+  private FilterDimension(String name, java.util.function.Predicate<F> requested,
+      Function<F, Specification<P>> productCondition, RateCondition<P, F> rateCondition) {
+    this.name = name;
+    this.requested = requested;
+    this.productCondition = productCondition;
+    this.rateCondition = rateCondition;
+  }
+
+  /**
+   * 상품 테이블 조건
+   */
+  public static <P, F extends BaseFilterRequest> FilterDimension<P, F> onProduct(String name,
+      java.util.function.Predicate<F> requested, Function<F, Specification<P>> condition) {
+    return new FilterDimension<>(name, requested, condition, null);
+  }
+
+  /**
+   * 금리 옵션 JOIN 조건
+   */
+  public static <P, F extends BaseFilterRequest> FilterDimension<P, F> onRate(String name,
+      java.util.function.Predicate<F> requested, RateCondition<P, F> condition) {
+    return new FilterDimension<>(name, requested, null, condition);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  // 요청에 해당 조건이 포함되어 있는지 확인
+  public boolean isRequested(F request) {
+    return request.getFilters() != null && requested.test(request);
+  }
+
+  public boolean isRateDimension() {
+    return rateCondition != null;
+  }
+
+  Specification<P> toProductSpecification(F request) {
+    return productCondition.apply(request);
+  }
+
+  Predicate toRatePredicate(F request, Root<P> root, Join<P, ?> rates, CriteriaQuery<?> query,
+      CriteriaBuilder cb) {
+    return rateCondition.toPredicate(request, root, rates, query, cb);
+  }
+
+  @FunctionalInterface
+  public interface RateCondition<P, F> {
+
+    Predicate toPredicate(F request, Root<P> root, Join<P, ?> rates, CriteriaQuery<?> query,
+        CriteriaBuilder cb);
+  }
+}
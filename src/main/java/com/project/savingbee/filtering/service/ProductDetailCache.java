@@ -0,0 +1,321 @@
+package com.project.savingbee.filtering.service;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.project.savingbee.catalog.service.ProductCatalog;
+import com.project.savingbee.filtering.dto.ProductDetailResponse;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 상세 응답 캐시 (상품코드 + 카탈로그 버전)
+ * <p>
+ * 카탈로그가 재구성되면(수집 후) 버전이 바뀌어 이전 항목은 자동으로 무효가 된다. 같은 상품의 캐시 미스가 동시에 몰리면 첫 요청만
+ * DB에서 불러오고 나머지는 그 결과를 기다린다(single-flight). 존재하지 않는 상품코드도 같은 버전 안에서 잠시(1분) 기억해
+ * 반복 요청이 DB에 닿지 않게 한다. 항목 수가 {@value #MAX_ENTRIES}개를 넘으면 CLOCK 방식으로 최근 조회되지 않은 항목부터
+ * 정리하며, 바늘은 지난 정리에서 멈춘 위치부터 이어서 돈다. 조회 경로에는 락이 없다. 캐시된 응답은 여러 요청이 공유하므로 읽기
+ * 전용으로 사용한다. 응답 JSON도 항목별로 한 번만 만들어 재사용한다 ({@link ProductJsonFragmentModule}).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductDetailCache {
+
+  static final int MAX_ENTRIES = 2_000;
+  // 정리 후 남길 항목 수
+  private static final int EVICT_TARGET = MAX_ENTRIES * 9 / 10;
+  // 존재하지 않는 상품코드를 기억하는 시간
+  private static final long MISSING_TTL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  private final ProductCatalog productCatalog;
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<Entry>> loading = new ConcurrentHashMap<>();
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  // CLOCK 바늘 (evictionLock 안에서만 사용)
+  private Iterator<Entry> hand;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder loadFailures = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * 캐시된 상세 정보, 없거나 카탈로그 버전이 바뀌었으면 loader로 불러와 저장 (loader 예외는 그대로 전달하고, 존재하지 않는
+   * 상품({@link IllegalArgumentException})만 기억)
+   */
+  public CachedDetail get(String productCode, Function<String, CachedDetail> loader) {
+    long version = productCatalog.current().getVersion();
+    Entry entry = entries.get(productCode);
+    if (entry != null && entry.isValid(version, System.nanoTime())) {
+      entry.referenced = true;
+      hits.increment();
+      if (entry.detail == null) {
+        throw notFound(productCode);
+      }
+      return entry.detail;
+    }
+
+    misses.increment();
+    return load(productCode, version, loader);
+  }
+
+  private CachedDetail load(String productCode, long version,
+      Function<String, CachedDetail> loader) {
+    CompletableFuture<Entry> created = new CompletableFuture<>();
+    CompletableFuture<Entry> inFlight = loading.putIfAbsent(productCode, created);
+    if (inFlight != null) {
+      // 다른 요청이 같은 상품을 불러오는 중 - 결과를 함께 사용
+      return await(inFlight).detail;
+    }
+
+    try {
+      Entry loaded = new Entry(loader.apply(productCode), version);
+      entries.put(productCode, loaded);
+      created.complete(loaded);
+      evictIfNeeded();
+      return loaded.detail;
+    } catch (IllegalArgumentException e) {
+      // 존재하지 않는 상품 - 같은 버전 안에서 잠시 기억
+      entries.put(productCode, Entry.missing(version));
+      created.completeExceptionally(e);
+      evictIfNeeded();
+      throw e;
+    } catch (RuntimeException e) {
+      loadFailures.increment();
+      created.completeExceptionally(e);
+      throw e;
+    } finally {
+      loading.remove(productCode, created);
+    }
+  }
+
+  /**
+   * 여러 상품 일괄 조회 - 캐시에 없는 상품만 bulkLoader로 한 번에 불러온다. 다른 요청이 불러오는 중인 상품은 그 결과를 기다린다.
+   * bulkLoader 결과에 없는 상품은 존재하지 않는 상품으로 보고 반환 맵에서 빠진다 (입력 순서 유지).
+   */
+  public Map<String, CachedDetail> getAll(Collection<String> productCodes,
+      Function<Collection<String>, Map<String, CachedDetail>> bulkLoader) {
+    long version = productCatalog.current().getVersion();
+    long now = System.nanoTime();
+    Map<String, CachedDetail> results = new LinkedHashMap<>();
+    Map<String, CompletableFuture<Entry>> owned = new LinkedHashMap<>();
+    Map<String, CompletableFuture<Entry>> waiting = new LinkedHashMap<>();
+
+    for (String productCode : productCodes) {
+      Entry entry = entries.get(productCode);
+      if (entry != null && entry.isValid(version, now)) {
+        entry.referenced = true;
+        hits.increment();
+        results.put(productCode, entry.detail); // 존재하지 않는 상품은 null로 남아 마지막에 빠짐
+        continue;
+      }
+
+      misses.increment();
+      results.put(productCode, null); // 순서 유지용 자리
+      CompletableFuture<Entry> created = new CompletableFuture<>();
+      CompletableFuture<Entry> inFlight = loading.putIfAbsent(productCode, created);
+      if (inFlight == null) {
+        owned.put(productCode, created);
+      } else {
+        waiting.put(productCode, inFlight);
+      }
+    }
+
+    if (!owned.isEmpty()) {
+      try {
+        Map<String, CachedDetail> loaded = bulkLoader.apply(owned.keySet());
+        owned.forEach((productCode, future) -> {
+          CachedDetail detail = loaded.get(productCode);
+          if (detail == null) {
+            // 단건 조회와 같은 예외로 대기 중인 요청에 전달
+            entries.put(productCode, Entry.missing(version));
+            future.completeExceptionally(notFound(productCode));
+            return;
+          }
+          Entry entry = new Entry(detail, version);
+          entries.put(productCode, entry);
+          future.complete(entry);
+          results.put(productCode, detail);
+        });
+        evictIfNeeded();
+      } catch (RuntimeException e) {
+        loadFailures.increment();
+        owned.values().forEach(future -> future.completeExceptionally(e));
+        throw e;
+      } finally {
+        owned.forEach(loading::remove);
+      }
+    }
+
+    waiting.forEach((productCode, future) -> {
+      try {
+        results.put(productCode, await(future).detail);
+      } catch (IllegalArgumentException e) {
+        // 다른 요청에서 존재하지 않는 상품으로 확인됨
+      }
+    });
+
+    results.values().removeIf(Objects::isNull);
+    return results;
+  }
+
+  /**
+   * 캐시에 있는 응답 객체이면 JSON 직렬화 결과를 처음 한 번만 encoder로 만들어 재사용 (캐시된 객체가 아니면 null)
+   */
+  public SerializableString jsonOf(ProductDetailResponse response,
+      Function<ProductDetailResponse, String> encoder) {
+    Entry entry = response.getFinPrdtCd() != null ? entries.get(response.getFinPrdtCd()) : null;
+    if (entry == null || entry.detail == null || entry.detail.response() != response) {
+      return null;
+    }
+
+    SerializedString json = entry.json;
+    if (json == null) {
+      String encoded = encoder.apply(response);
+      if (encoded == null) {
+        return null;
+      }
+      json = new SerializedString(encoded);
+      json.asUnquotedUTF8(); // 이후 요청은 UTF-8 바이트를 그대로 복사
+      entry.json = json; // 동시에 만들어도 결과가 같으므로 마지막 값 사용
+    }
+    return json;
+  }
+
+  private static IllegalArgumentException notFound(String productCode) {
+    return new IllegalArgumentException("존재하지 않는 상품입니다: " + productCode);
+  }
+
+  private static Entry await(CompletableFuture<Entry> inFlight) {
+    try {
+      return inFlight.join();
+    } catch (CompletionException e) {
+      // 불러온 쪽과 같은 예외(존재하지 않는 상품 등)를 전달
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  // CLOCK: 이전 버전/만료 항목이거나 바늘이 지난번에 지나간 뒤 조회되지 않은 항목 제거, 나머지는 참조 표시만 지움
+  private void evictIfNeeded() {
+    if (entries.size() <= MAX_ENTRIES || !evictionLock.tryLock()) {
+      return;
+    }
+    try {
+      long version = productCatalog.current().getVersion();
+      long now = System.nanoTime();
+      // 두 바퀴 안에 참조 표시가 모두 지워지므로 목표 크기에 도달
+      int budget = entries.size() * 2;
+      while (entries.size() > EVICT_TARGET && budget-- > 0) {
+        if (hand == null || !hand.hasNext()) {
+          hand = entries.values().iterator(); // 한 바퀴 끝 - 처음부터
+          if (!hand.hasNext()) {
+            break;
+          }
+        }
+        Entry entry = hand.next();
+        if (!entry.isValid(version, now) || !entry.referenced) {
+          hand.remove();
+          evictions.increment();
+        } else {
+          entry.referenced = false;
+        }
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /**
+   * 전체 비우기
+   */
+  public void clear() {
+    entries.clear();
+  }
+
+  /**
+   * 캐시 지표
+   */
+  public CacheStats stats() {
+    return new CacheStats(entries.size(), hits.sum(), misses.sum(), loadFailures.sum(),
+        evictions.sum());
+  }
+
+  /**
+   * 10분마다 캐시 지표 기록
+   */
+  @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+  public void logStats() {
+    CacheStats stats = stats();
+    if (stats.hits() + stats.misses() > 0) {
+      log.info("상품 상세 캐시 - 항목: {}개, 적중: {}, 미스: {}, 적중률: {}%, 로드 실패: {}, 정리: {}",
+          stats.size(), stats.hits(), stats.misses(), Math.round(stats.hitRate() * 100),
+          stats.loadFailures(), stats.evictions());
+    }
+  }
+
+  /**
+   * 캐시된 상세 정보
+   *
+   * @param response 상세 응답
+   * @param active   활성 상품 여부 (조회수 집계 대상)
+   */
+  public record CachedDetail(ProductDetailResponse response, boolean active) {
+
+  }
+
+  /**
+   * 캐시 지표 (서버 시작 이후 누적)
+   */
+  public record CacheStats(int size, long hits, long misses, long loadFailures, long evictions) {
+
+    public double hitRate() {
+      long requests = hits + misses;
+      return requests == 0 ? 0 : (double) hits / requests;
+    }
+  }
+
+  private static final class Entry {
+
+    final CachedDetail detail; // null이면 존재하지 않는 상품
+    final long version;
+    final long expiresAt; // 존재하지 않는 상품만 사용 (System.nanoTime 기준)
+    volatile boolean referenced = true;
+    volatile SerializedString json; // 직렬화 결과 (처음 응답할 때 생성)
+
+    Entry(CachedDetail detail, long version) {
+      this(detail, version, 0);
+    }
+
+    private Entry(CachedDetail detail, long version, long expiresAt) {
+      this.detail = detail;
+      this.version = version;
+      this.expiresAt = expiresAt;
+    }
+
+    static Entry missing(long version) {
+      return new Entry(null, version, System.nanoTime() + MISSING_TTL_NANOS);
+    }
+
+    boolean isValid(long version, long now) {
+      return this.version == version && (detail != null || now - expiresAt < 0);
+    }
+  }
+}
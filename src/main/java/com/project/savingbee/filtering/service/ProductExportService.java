@@ -0,0 +1,117 @@
+package com.project.savingbee.filtering.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.savingbee.filtering.dto.BaseFilterRequest;
+import com.project.savingbee.filtering.dto.DepositFilterRequest;
+import com.project.savingbee.filtering.dto.ProductSummaryResponse;
+import com.project.savingbee.filtering.dto.SavingFilterRequest;
+import com.project.savingbee.filtering.enums.ExportFormat;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 예금/적금 필터 결과 전체 내보내기 (NDJSON / CSV)
+ * <p>
+ * 필터 엔진에서 batch 단위로 읽은 상품을 곧바로 출력 스트림에 기록하므로 결과 전체를 메모리에 올리지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductExportService {
+
+  private static final int BATCH_SIZE = 500;
+
+  private static final String CSV_HEADER =
+      "fin_prdt_cd,fin_prdt_nm,kor_co_nm,product_type,max_intr_rate,base_intr_rate\n";
+
+  // 엑셀에서 한글이 깨지지 않도록 CSV 앞에 BOM 기록
+  private static final char UTF8_BOM = '\uFEFF';
+
+  // CSV 셀 수식 실행 방지 대상 첫 글자
+  private static final String FORMULA_PREFIXES = "=+-@";
+
+  private final DepositFilterService depositFilterService;
+  private final SavingFilterService savingFilterService;
+  private final ObjectMapper objectMapper;
+
+  public long exportDeposit(DepositFilterRequest request, ExportFormat format, OutputStream out)
+      throws IOException {
+    return export(depositFilterService, request, format, out);
+  }
+
+  public long exportSaving(SavingFilterRequest request, ExportFormat format, OutputStream out)
+      throws IOException {
+    return export(savingFilterService, request, format, out);
+  }
+
+  private <F extends BaseFilterRequest> long export(ProductFilterEngine<?, F> engine, F request,
+      ExportFormat format, OutputStream out) throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+    if (format == ExportFormat.CSV) {
+      writer.write(UTF8_BOM);
+      writer.write(CSV_HEADER);
+    }
+
+    long count;
+    try {
+      count = engine.forEachFiltered(request, BATCH_SIZE, row -> writeRow(writer, row, format));
+    } catch (UncheckedIOException e) {
+      // 클라이언트 연결 종료 등 출력 실패
+      throw e.getCause();
+    }
+
+    writer.flush();
+    return count;
+  }
+
+  private void writeRow(Writer writer, ProductSummaryResponse row, ExportFormat format) {
+    try {
+      if (format == ExportFormat.CSV) {
+        writer.write(csv(row.getFinPrdtCd()));
+        writer.write(',');
+        writer.write(csv(row.getFinPrdtNm()));
+        writer.write(',');
+        writer.write(csv(row.getKorCoNm()));
+        writer.write(',');
+        writer.write(csv(row.getProductType()));
+        writer.write(',');
+        writer.write(rate(row.getMaxIntrRate()));
+        writer.write(',');
+        writer.write(rate(row.getBaseIntrRate()));
+      } else {
+        writer.write(objectMapper.writeValueAsString(row));
+      }
+      writer.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // CSV 필드 이스케이프 (쉼표, 따옴표, 줄바꿈 포함 시 따옴표로 감쌈)
+  // 스프레드시트가 수식으로 해석하는 문자(=, +, -, @)로 시작하면 앞에 '를 붙여 따옴표로 감쌈
+  private static String csv(String value) {
+    if (value == null) {
+      return "";
+    }
+    boolean formula = !value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0;
+    if (!formula && value.indexOf(',') < 0 && value.indexOf('"') < 0
+        && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + (formula ? "'" : "") + value.replace("\"", "\"\"") + '"';
+  }
+
+  private static String rate(BigDecimal value) {
+    return value != null ? value.toPlainString() : "";
+  }
+}
@@ -0,0 +1,598 @@
+package com.project.savingbee.filtering.service;
+
+import com.project.savingbee.common.entity.FinancialCompanies;
+import com.project.savingbee.common.entity.FinancialProduct;
+import com.project.savingbee.common.entity.RateOption;
+import com.project.savingbee.common.repository.FinancialCompaniesRepository;
+import com.project.savingbee.filtering.dto.BaseFilterRequest;
+import com.project.savingbee.filtering.dto.CommonFilters;
+import com.project.savingbee.filtering.dto.ProductSummaryResponse;
+import com.project.savingbee.filtering.enums.PreConMapping;
+import com.project.savingbee.util.BasisPoints;
+import com.project.savingbee.util.TopK;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 예금/적금 공통 필터 엔진
+ * <p>
+ * 공통 조건(금융회사, 가입제한, 우대조건, 저축기간, 이자계산방식, 금리 범위), 금리 정렬, 중복 제거, DTO 변환은 이 클래스에서
+ * 한 번만 구현하고, 상품 종류별 고유 조건은 {@link FilterDimension}으로 선언한다.
+ */
+@Slf4j
+public abstract class ProductFilterEngine<P extends FinancialProduct, F extends BaseFilterRequest>
+    extends BaseFilterService<P, F> {
+
+  private static final String UNKNOWN_COMPANY = "정보없음";
+  private static final String UNKNOWN_PRODUCT_NAME = "상품명 정보없음";
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  // 내보내기 batch용 읽기 전용 트랜잭션
+  private TransactionTemplate readOnlyTransaction;
+
+  @Autowired
+  void setTransactionManager(PlatformTransactionManager transactionManager) {
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  /**
+   * 상품 조회용 Repository
+   */
+  protected abstract JpaSpecificationExecutor<P> productRepository();
+
+  /**
+   * 금융회사 조회용 Repository
+   */
+  protected abstract FinancialCompaniesRepository financialCompaniesRepository();
+
+  /**
+   * 상품코드 목록의 금리 옵션 조회
+   */
+  protected abstract List<? extends RateOption> findRatesByProductCodes(Collection<String> codes);
+
+  /**
+   * 응답에 표시할 상품 타입 (deposit / saving)
+   */
+  protected abstract String productType();
+
+  /**
+   * 로그 표시용 상품명 (예금 / 적금)
+   */
+  protected abstract String productLabel();
+
+  /**
+   * 상품 종류별 고유 필터 조건
+   */
+  protected abstract List<FilterDimension<P, F>> dimensions();
+
+  /**
+   * 필터링 실행 - 금리 정렬은 서비스 레벨, 그 외 정렬은 DB 레벨에서 처리
+   */
+  public Page<ProductSummaryResponse> filter(F request) {
+    log.info("{} 필터링 시작 - 조건: {}", productLabel(), request);
+
+    if (request == null) {
+      throw new IllegalArgumentException("필터링 요청이 null입니다.");
+    }
+    request.setDefaultValues();
+
+    if (isInterestRateSort(request)) {
+      return filterWithRateSort(request);
+    }
+    return filterWithBasicSort(request);
+  }
+
+  /**
+   * 필터 결과 전체를 상품코드 순으로 batchSize씩 읽어 sink로 전달 (내보내기용)
+   * <p>
+   * 마지막 상품코드 이후를 조회하는 keyset 방식이라 count 쿼리/offset 스캔이 없고, batch마다 읽기 전용 트랜잭션 안에서
+   * 조회/변환 후 영속성 컨텍스트를 비워 결과 크기와 무관하게 메모리 사용량이 일정하다. sink 호출은 트랜잭션 밖에서 한다.
+   * 정렬 조건은 무시하고 상품코드 오름차순으로 내보낸다.
+   *
+   * @return 전달한 상품 수
+   */
+  public long forEachFiltered(F request, int batchSize, Consumer<ProductSummaryResponse> sink) {
+    if (request == null) {
+      throw new IllegalArgumentException("필터링 요청이 null입니다.");
+    }
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("batchSize는 1 이상이어야 합니다.");
+    }
+    request.setDefaultValues();
+
+    Specification<P> spec = buildFilterSpecification(request).and(distinctProducts());
+    Sort byProductCode = Sort.by(Sort.Direction.ASC, "finPrdtCd");
+
+    String lastCode = null;
+    long exported = 0;
+
+    while (true) {
+      // batch마다 읽기 전용 트랜잭션 (스트리밍 응답 스레드에는 트랜잭션이 없음)
+      String after = lastCode;
+      List<ProductSummaryResponse> rows = readOnlyTransaction.execute(
+          status -> loadBatch(spec, after, byProductCode, batchSize));
+
+      if (rows == null || rows.isEmpty()) {
+        break;
+      }
+
+      // 출력은 트랜잭션 밖에서 (느린 클라이언트가 DB 커넥션을 붙잡지 않도록)
+      rows.forEach(sink);
+
+      exported += rows.size();
+      lastCode = rows.get(rows.size() - 1).getFinPrdtCd();
+
+      if (rows.size() < batchSize) {
+        break;
+      }
+    }
+
+    log.info("{} 필터 결과 내보내기 완료 - {}개 상품", productLabel(), exported);
+    return exported;
+  }
+
+  // lastCode 이후 batchSize개를 읽어 DTO로 변환한 뒤 1차 캐시 비우기 (heap 일정 유지)
+  private List<ProductSummaryResponse> loadBatch(Specification<P> spec, String lastCode,
+      Sort byProductCode, int batchSize) {
+    Specification<P> batchSpec = lastCode == null ? spec : spec.and(productCodeAfter(lastCode));
+    List<P> batch = productRepository().findBy(batchSpec,
+        query -> query.sortBy(byProductCode).limit(batchSize).all());
+    if (batch.isEmpty()) {
+      return List.of();
+    }
+
+    Map<String, List<RateOption>> ratesByCode = loadRates(batch);
+    Map<String, FinancialCompanies> companies = loadCompanies(batch);
+
+    List<ProductSummaryResponse> rows = new ArrayList<>(batch.size());
+    for (P product : batch) {
+      rows.add(toProductSummaryResponse(product,
+          ratesByCode.getOrDefault(product.getFinPrdtCd(), List.of()),
+          product.getFinCoNo() != null ? companies.get(product.getFinCoNo()) : null));
+    }
+
+    entityManager.clear();
+    return rows;
+  }
+
+  /**
+   * 서비스에서 금리 정렬 처리
+   */
+  private Page<ProductSummaryResponse> filterWithRateSort(F request) {
+    log.debug("{} 서비스 레벨 금리 정렬 처리 시작", productLabel());
+
+    // 1. 필터링 조건만 적용하여 모든 데이터 조회 - 정렬 없이
+    Specification<P> spec = buildFilterSpecification(request);
+    List<P> allProducts = productRepository().findAll((root, query, cb) -> {
+      root.fetch("interestRates", JoinType.LEFT);
+      root.fetch("financialCompany", JoinType.LEFT);
+      return spec.toPredicate(root, query, cb);
+    });
+
+    // 2. 중복 제거
+    List<P> distinctProducts = removeDuplicates(allProducts);
+
+    // 3. 페이징 범위 계산
+    int pageNumber = Math.max(0, request.getPageNumber() - 1);
+    int pageSize = request.getPageSize();
+    int total = distinctProducts.size();
+    int start = (int) Math.min((long) pageNumber * pageSize, total);
+    int end = (int) Math.min((long) start + pageSize, total);
+
+    // 4. 서비스 레벨에서 금리 기준 정렬 - 요청 페이지 끝까지만 상위 선택
+    List<P> topProducts = topByInterestRate(distinctProducts, request, end);
+    List<P> pagedProducts = topProducts.subList(start, end);
+
+    // 5. DTO 변환 (fetch join으로 금리 옵션/금융회사가 이미 로딩됨)
+    List<ProductSummaryResponse> responses = pagedProducts.stream()
+        .map(product -> toProductSummaryResponse(
+            product, product.getInterestRates(), product.getFinancialCompany()))
+        .collect(Collectors.toList());
+
+    // 6. Page 객체 생성
+    Pageable pageable = PageRequest.of(pageNumber, pageSize);
+
+    log.info("{} 서비스 레벨 정렬 결과: 총 {}개 상품 중 {}개 반환 (페이지: {}/{})",
+        productLabel(), total, responses.size(),
+        pageNumber + 1, (total + pageSize - 1) / pageSize);
+
+    return new PageImpl<>(responses, pageable, total);
+  }
+
+  /**
+   * 상품명 정렬 처리
+   */
+  private Page<ProductSummaryResponse> filterWithBasicSort(F request) {
+    log.debug("{} DB 레벨 정렬 처리 시작", productLabel());
+
+    // 1. 필터링 조건 생성
+    Specification<P> spec = buildFilterSpecification(request);
+
+    // 2. 페이징 및 정렬 설정
+    Pageable pageable = createPageableForDbSort(request);
+
+    // 3. 쿼리 실행 - 페이지 단위로 조회 (컬렉션 fetch join은 메모리 페이징을 유발하므로 사용하지 않음)
+    Page<P> products = productRepository().findAll(spec, pageable);
+
+    // 4. 중복 제거
+    Page<P> distinctProducts = removeDuplicatesFromPage(products);
+
+    log.info("{} DB 레벨 정렬 결과: 총 {}개 상품 중 {}개 반환 (페이지: {}/{})",
+        productLabel(), distinctProducts.getTotalElements(),
+        distinctProducts.getNumberOfElements(),
+        distinctProducts.getNumber() + 1, distinctProducts.getTotalPages());
+
+    // 5. 페이지 상품의 금리 옵션, 금융회사를 한 번에 조회한 뒤 DTO 변환
+    Map<String, List<RateOption>> ratesByCode = loadRates(distinctProducts.getContent());
+    Map<String, FinancialCompanies> companies = loadCompanies(distinctProducts.getContent());
+
+    return distinctProducts.map(product -> toProductSummaryResponse(product,
+        ratesByCode.getOrDefault(product.getFinPrdtCd(), List.of()),
+        product.getFinCoNo() != null ? companies.get(product.getFinCoNo()) : null));
+  }
+
+  /**
+   * 필터링 조건만 생성
+   */
+  protected Specification<P> buildFilterSpecification(F request) {
+    Specification<P> spec = isActiveProduct();
+
+    // 필터가 없으면 JOIN 없이 기본 조건만 반환
+    CommonFilters filters = request.getFilters();
+    if (filters == null) {
+      return spec;
+    }
+
+    // 금융회사 번호 필터
+    if (hasValues(filters.getOrgTypeCode())) {
+      spec = spec.and(filterFinCoNum(filters.getOrgTypeCode()));
+    }
+
+    // 가입제한 필터
+    if (hasValues(filters.getJoinDeny())) {
+      spec = spec.and(filterJoinDeny(filters.getJoinDeny()));
+    }
+
+    // 상품 종류별 고유 조건 (상품 테이블)
+    for (FilterDimension<P, F> dimension : dimensions()) {
+      if (!dimension.isRateDimension() && dimension.isRequested(request)) {
+        spec = spec.and(dimension.toProductSpecification(request));
+      }
+    }
+
+    // 우대조건 필터
+    if (hasValues(filters.getJoinWay())) {
+      spec = spec.and(hasPreferentialConditions(filters.getJoinWay()));
+    }
+
+    // 마지막에 금리 관련 필터만 JOIN으로 처리
+    if (hasInterestRateFilters(request)) {
+      spec = spec.and(filterInterestRate(request));
+    }
+
+    return spec;
+  }
+
+  /**
+   * 서비스 레벨에서 금리 기준 정렬한 상위 limit개 (동률이면 조회 순서 유지)
+   */
+  private List<P> topByInterestRate(List<P> products, F request, int limit) {
+    // 최고 금리 정렬
+    String sortField = request.hasSort() ? request.getSort().getField() : "intr_rate2";
+    boolean isDescending = request.hasSort() ? request.getSort().isDescending() : true;
+
+    ToIntFunction<List<? extends RateOption>> rateKey;
+
+    switch (sortField) {
+      case "intr_rate2", "max_intr_rate" -> rateKey = BasisPoints::maxEffective;
+      case "intr_rate", "base_intr_rate" -> rateKey = BasisPoints::maxBase;
+      default -> {
+        log.warn("지원하지 않는 금리 정렬 필드: {}, 최고금리로 대체", sortField);
+        rateKey = BasisPoints::maxEffective;
+      }
+    }
+
+    // 상품별 정렬 키(bp)는 한 번만 계산
+    ToIntFunction<P> bp = product -> BasisPoints.orZero(rateKey.applyAsInt(product.getInterestRates()));
+
+    // 정렬 방향 적용
+    return isDescending
+        ? TopK.largest(products, bp, limit)
+        : TopK.smallest(products, bp, limit);
+  }
+
+  /**
+   * 금리 옵션 JOIN으로 인한 중복 행 제거
+   */
+  private Specification<P> distinctProducts() {
+    return (root, query, cb) -> {
+      query.distinct(true);
+      return cb.conjunction();
+    };
+  }
+
+  /**
+   * keyset 페이징 - 마지막으로 읽은 상품코드 이후
+   */
+  private Specification<P> productCodeAfter(String lastCode) {
+    return (root, query, cb) -> cb.greaterThan(root.<String>get("finPrdtCd"), lastCode);
+  }
+
+  /**
+   * 활성상품인지 확인
+   */
+  private Specification<P> isActiveProduct() {
+    return (root, query, cb) -> {
+      if (root == null) {
+        return cb.conjunction(); // root가 없으면 무조건 true
+      }
+      return cb.equal(root.get("isActive"), true);
+    };
+  }
+
+  /**
+   * 금융회사 번호 필터
+   */
+  private Specification<P> filterFinCoNum(List<String> orgTypeCode) {
+    return (root, query, cb) -> {
+      Subquery<String> subquery = query.subquery(String.class);
+      Root<FinancialCompanies> fcRoot = subquery.from(FinancialCompanies.class);
+      subquery.select(fcRoot.get("finCoNo"))
+          .where(fcRoot.get("orgTypeCode").in(orgTypeCode));
+
+      return root.get("finCoNo").in(subquery);
+    };
+  }
+
+  /**
+   * 가입 제한 필터
+   */
+  private Specification<P> filterJoinDeny(List<String> joinDenyTypes) {
+    return (root, query, cb) -> root.get("joinDeny").in(joinDenyTypes);
+  }
+
+  /**
+   * 금리 관련 필터가 있는지 확인
+   */
+  private boolean hasInterestRateFilters(F request) {
+    CommonFilters filters = request.getFilters();
+
+    boolean common = hasValues(filters.getSaveTrm()) ||
+        hasValues(filters.getIntrRateType()) ||
+        (filters.getIntrRate() != null && filters.getIntrRate().hasAnyValue()) ||
+        (filters.getIntrRate2() != null && filters.getIntrRate2().hasAnyValue());
+
+    return common || dimensions().stream()
+        .anyMatch(dimension -> dimension.isRateDimension() && dimension.isRequested(request));
+  }
+
+  /**
+   * 금리 관련 필터
+   */
+  private Specification<P> filterInterestRate(F request) {
+    return (root, query, cb) -> {
+      // 금리 조건 적용
+      Join<P, ?> interestRatesJoin = root.join("interestRates", JoinType.LEFT);
+
+      return conditionInterestRate(request, root, interestRatesJoin, query, cb);
+    };
+  }
+
+  /**
+   * 금리, 저축 기간 조건 + 상품 종류별 금리 옵션 조건
+   */
+  private Predicate conditionInterestRate(F request, Root<P> root, Join<P, ?> interestRatesJoin,
+      CriteriaQuery<?> query, CriteriaBuilder cb) {
+    CommonFilters filters = request.getFilters();
+    List<Predicate> predicates = new ArrayList<>();
+
+    // 저축기간 조건
+    if (hasValues(filters.getSaveTrm())) {
+      predicates.add(interestRatesJoin.get("saveTrm").in(filters.getSaveTrm()));
+    }
+
+    // 이자계산방식 조건
+    if (hasValues(filters.getIntrRateType())) {
+      predicates.add(interestRatesJoin.get("intrRateType").in(filters.getIntrRateType()));
+    }
+
+    // 기본 금리 범위
+    if (filters.getIntrRate() != null) {
+      if (filters.getIntrRate().hasMinValue()) {
+        predicates.add(cb.greaterThanOrEqualTo(
+            interestRatesJoin.get("intrRate"), filters.getIntrRate().getMin()));
+      }
+      if (filters.getIntrRate().hasMaxValue()) {
+        predicates.add(cb.lessThanOrEqualTo(
+            interestRatesJoin.get("intrRate"), filters.getIntrRate().getMax()));
+      }
+    }
+
+    // 우대금리 범위
+    if (filters.getIntrRate2() != null) {
+      if (filters.getIntrRate2().hasMinValue()) {
+        predicates.add(cb.greaterThanOrEqualTo(
+            interestRatesJoin.get("intrRate2"), filters.getIntrRate2().getMin()));
+      }
+      if (filters.getIntrRate2().hasMaxValue()) {
+        predicates.add(cb.lessThanOrEqualTo(
+            interestRatesJoin.get("intrRate2"), filters.getIntrRate2().getMax()));
+      }
+    }
+
+    // 상품 종류별 고유 조건 (금리 옵션)
+    for (FilterDimension<P, F> dimension : dimensions()) {
+      if (dimension.isRateDimension() && dimension.isRequested(request)) {
+        predicates.add(
+            dimension.toRatePredicate(request, root, interestRatesJoin, query, cb));
+      }
+    }
+
+    return cb.and(predicates.toArray(new Predicate[0]));
+  }
+
+  /**
+   * 우대조건 필터 - 코드 분리로 변경
+   */
+  private Specification<P> hasPreferentialConditions(List<String> joinWayConditions) {
+    return (root, query, cb) -> {
+      List<Predicate> conditionPredicates = new ArrayList<>();
+
+      for (String condition : joinWayConditions) {
+        // PreConMapping에서 키워드들 찾기
+        Optional<List<String>> keywords = PreConMapping.getKeywordsByDisplayName(condition);
+
+        if (keywords.isPresent()) {
+          // 매핑된 키워드들로 OR 검색
+          List<Predicate> keywordPredicates = new ArrayList<>();
+          for (String keyword : keywords.get()) {
+            keywordPredicates.add(cb.like(
+                cb.lower(root.get("spclCnd")),
+                "%" + keyword.toLowerCase() + "%"
+            ));
+          }
+          // 각 조건의 키워드들은 OR로 연결
+          conditionPredicates.add(cb.or(keywordPredicates.toArray(new Predicate[0])));
+        } else {
+          // 매핑되지 않은 경우 직접 검색
+          conditionPredicates.add(cb.like(
+              cb.lower(root.get("spclCnd")),
+              "%" + condition.toLowerCase() + "%"
+          ));
+        }
+      }
+
+      // 여러 조건들은 OR로 연결 (하나라도 매칭되면 포함)
+      return conditionPredicates.isEmpty()
+          ? cb.conjunction()
+          : cb.or(conditionPredicates.toArray(new Predicate[0]));
+    };
+  }
+
+  /**
+   * 상품들의 금리 옵션을 한 번에 조회하여 상품코드별로 묶음
+   */
+  private Map<String, List<RateOption>> loadRates(List<P> products) {
+    Map<String, List<RateOption>> ratesByCode = new HashMap<>();
+    if (products.isEmpty()) {
+      return ratesByCode;
+    }
+
+    Set<String> codes = products.stream()
+        .map(FinancialProduct::getFinPrdtCd)
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+
+    for (RateOption rate : findRatesByProductCodes(codes)) {
+      ratesByCode.computeIfAbsent(rate.getFinPrdtCd(), code -> new ArrayList<>()).add(rate);
+    }
+    return ratesByCode;
+  }
+
+  /**
+   * 상품들의 금융회사를 한 번에 조회
+   */
+  private Map<String, FinancialCompanies> loadCompanies(List<P> products) {
+    Set<String> finCoNos = products.stream()
+        .map(FinancialProduct::getFinCoNo)
+        .filter(finCoNo -> finCoNo != null)
+        .collect(Collectors.toSet());
+
+    if (finCoNos.isEmpty()) {
+      return Map.of();
+    }
+
+    return financialCompaniesRepository().findAllById(finCoNos).stream()
+        .collect(Collectors.toMap(FinancialCompanies::getFinCoNo, Function.identity()));
+  }
+
+  /**
+   * Entity를 Response DTO로 변환
+   */
+  protected ProductSummaryResponse toProductSummaryResponse(P product,
+      List<? extends RateOption> rates, FinancialCompanies company) {
+    try {
+      // 최고 금리와 기본 금리 계산 (여러 금리 옵션 중 최대값)
+      BigDecimal maxIntrRate = toResponseRate(BasisPoints.maxEffective(rates));
+      BigDecimal baseIntrRate = toResponseRate(BasisPoints.maxBase(rates));
+
+      String companyName = UNKNOWN_COMPANY;
+      if (company != null && company.getKorCoNm() != null) {
+        companyName = company.getKorCoNm();
+      }
+
+      return ProductSummaryResponse.builder()
+          .finPrdtCd(product.getFinPrdtCd())
+          .finPrdtNm(product.getFinPrdtNm() != null
+              ? product.getFinPrdtNm() : UNKNOWN_PRODUCT_NAME)
+          .korCoNm(companyName)
+          .productType(productType())
+          .maxIntrRate(maxIntrRate)
+          .baseIntrRate(baseIntrRate)
+          .build();
+
+    } catch (Exception e) {
+      log.error("{} 상품 정보 변환 실패 - 상품코드: {}, 오류: {}",
+          productLabel(), product.getFinPrdtCd(), e.getMessage());
+
+      // 오류 발생 시 기본값으로 반환
+      return ProductSummaryResponse.builder()
+          .finPrdtCd(product.getFinPrdtCd())
+          .finPrdtNm(product.getFinPrdtNm() != null
+              ? product.getFinPrdtNm() : UNKNOWN_PRODUCT_NAME)
+          .korCoNm(UNKNOWN_COMPANY)
+          .productType(productType())
+          .maxIntrRate(BigDecimal.ZERO)
+          .baseIntrRate(BigDecimal.ZERO)
+          .build();
+    }
+  }
+
+  // bp -> 응답용 금리 (금리 정보가 없으면 0)
+  private static BigDecimal toResponseRate(int bp) {
+    return BasisPoints.isPresent(bp) ? BasisPoints.toRate(bp) : BigDecimal.ZERO;
+  }
+
+  protected static boolean hasValues(List<?> values) {
+    return values != null && !values.isEmpty();
+  }
+
+  // 추상 메서드 구현
+  @Override
+  protected String getProductCode(P product) {
+    return product.getFinPrdtCd();
+  }
+}
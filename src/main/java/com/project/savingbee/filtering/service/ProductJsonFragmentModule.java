@@ -0,0 +1,137 @@
+package com.project.savingbee.filtering.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.project.savingbee.filtering.dto.ProductDetailResponse;
+import com.project.savingbee.filtering.dto.ProductSummaryResponse;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 요약/상세 응답을 미리 직렬화한 JSON 조각으로 출력하는 Jackson 모듈 (Spring Boot가 기본 ObjectMapper에 등록)
+ * <p>
+ * 요약은 {@link ProductJsonFragments}, 상세는 {@link ProductDetailCache}에 저장된 UTF-8 바이트를 그대로 쓰고, 조각이 없으면
+ * 원래 직렬화기로 처리한다. 컨트롤러 슬라이스 테스트처럼 두 빈이 없는 환경에서는 항상 원래 직렬화기를 사용한다.
+ */
+@Component
+public class ProductJsonFragmentModule extends SimpleModule {
+
+  public ProductJsonFragmentModule(ObjectProvider<ProductJsonFragments> productJsonFragments,
+      ObjectProvider<ProductDetailCache> productDetailCache) {
+    super("ProductJsonFragmentModule");
+
+    setSerializerModifier(new BeanSerializerModifier() {
+      @Override
+      public JsonSerializer<?> modifySerializer(SerializationConfig config,
+          BeanDescription beanDesc, JsonSerializer<?> serializer) {
+        Class<?> type = beanDesc.getBeanClass();
+        if (type == ProductSummaryResponse.class) {
+          return new FragmentSerializer<ProductSummaryResponse>(cast(serializer),
+              (summary, encoder) -> {
+                ProductJsonFragments fragments = productJsonFragments.getIfAvailable();
+                return fragments != null ? fragments.summaryJson(summary) : null;
+              });
+        }
+        if (type == ProductDetailResponse.class) {
+          return new FragmentSerializer<ProductDetailResponse>(cast(serializer),
+              (detail, encoder) -> {
+                ProductDetailCache cache = productDetailCache.getIfAvailable();
+                return cache != null ? cache.jsonOf(detail, encoder) : null;
+              });
+        }
+        return serializer;
+      }
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> JsonSerializer<T> cast(JsonSerializer<?> serializer) {
+    return (JsonSerializer<T>) serializer;
+  }
+
+  /**
+   * 저장된 JSON 조각이 있으면 그대로 출력, 없으면 원래 직렬화기에 위임
+   * <p>
+   * 조각 조회 함수는 값과 인코더(원래 직렬화기로 JSON 문자열 생성)를 받아, 처음 한 번 인코딩한 결과를 저장해 둘 수 있다.
+   */
+  static final class FragmentSerializer<T> extends JsonSerializer<T>
+      implements ContextualSerializer, ResolvableSerializer {
+
+    private final JsonSerializer<T> delegate;
+    private final BiFunction<T, Function<T, String>, SerializableString> fragments;
+
+    FragmentSerializer(JsonSerializer<T> delegate,
+        BiFunction<T, Function<T, String>, SerializableString> fragments) {
+      this.delegate = delegate;
+      this.fragments = fragments;
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      SerializableString json;
+      try {
+        json = fragments.apply(value, v -> encode(v, gen.getCodec(), provider));
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+
+      if (json != null) {
+        gen.writeRawValue(json); // UTF-8 출력이면 바이트 복사
+      } else {
+        delegate.serialize(value, gen, provider);
+      }
+    }
+
+    private String encode(T value, ObjectCodec codec, SerializerProvider provider) {
+      if (codec == null) {
+        return null;
+      }
+      StringWriter out = new StringWriter();
+      try (JsonGenerator fragmentGen = codec.getFactory().createGenerator(out)) {
+        delegate.serialize(value, fragmentGen, provider);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return out.toString();
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+        throws JsonMappingException {
+      if (delegate instanceof ContextualSerializer contextual) {
+        return new FragmentSerializer<>(cast(contextual.createContextual(provider, property)),
+            fragments);
+      }
+      return this;
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+      if (delegate instanceof ResolvableSerializer resolvable) {
+        resolvable.resolve(provider);
+      }
+    }
+
+    @Override
+    public Class<T> handledType() {
+      return delegate.handledType();
+    }
+  }
+}
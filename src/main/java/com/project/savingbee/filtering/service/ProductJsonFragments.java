@@ -0,0 +1,95 @@
+package com.project.savingbee.filtering.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.savingbee.catalog.index.CatalogIndex;
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.filtering.dto.ProductSummaryResponse;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 요약 응답의 미리 직렬화된 JSON 조각 (카탈로그 재구성 시 생성)
+ * <p>
+ * 상품마다 요약 응답을 UTF-8 JSON으로 한 번 인코딩해 두고, 응답 직렬화 시 내용이 같은 요약이면 Jackson이 객체를 다시 쓰는 대신
+ * 이 바이트를 출력 버퍼에 그대로 복사한다 ({@link ProductJsonFragmentModule}). 목록 응답의 봉투(Page, 검색 응답)는 그대로 두고
+ * 상품 항목만 바뀌므로 응답 형식은 같다. 검색 결과의 match_type 값별로 조각을 따로 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductJsonFragments implements CatalogIndex {
+
+  // match_type 없음, exact, fuzzy
+  private static final String[] MATCH_TYPES = {null, ProductSummaryResponse.MATCH_EXACT,
+      ProductSummaryResponse.MATCH_FUZZY};
+
+  private final ObjectMapper objectMapper;
+
+  private volatile Map<String, SummaryFragment> summaries = Map.of();
+
+  @Override
+  public void rebuild(CatalogSnapshot snapshot) {
+    Map<String, SummaryFragment> built = new HashMap<>(snapshot.size() * 2);
+    for (CatalogProduct product : snapshot.getProducts()) {
+      ProductSummaryResponse summary = ProductSummaryResponse.fromCatalog(product);
+      SerializedString[] json = new SerializedString[MATCH_TYPES.length];
+      try {
+        for (int i = 0; i < MATCH_TYPES.length; i++) {
+          summary.setMatchType(MATCH_TYPES[i]);
+          json[i] = new SerializedString(objectMapper.writeValueAsString(summary));
+          json[i].asUnquotedUTF8(); // UTF-8 바이트를 지금 만들어 둠
+        }
+      } catch (JsonProcessingException e) {
+        log.warn("상품 요약 JSON 생성 실패 - 상품코드: {}, error: {}", product.finPrdtCd(), e.getMessage());
+        continue;
+      }
+      summary.setMatchType(null);
+      built.put(product.finPrdtCd(), new SummaryFragment(summary, json));
+    }
+    summaries = built;
+  }
+
+  /**
+   * 요약 응답과 내용이 같은 미리 만든 JSON (없거나 내용이 다르면 null - 일반 직렬화)
+   */
+  public SerializableString summaryJson(ProductSummaryResponse response) {
+    if (response.getFinPrdtCd() == null) {
+      return null;
+    }
+    SummaryFragment fragment = summaries.get(response.getFinPrdtCd());
+    if (fragment == null || !fragment.sameContent(response)) {
+      return null;
+    }
+    for (int i = 0; i < MATCH_TYPES.length; i++) {
+      if (Objects.equals(MATCH_TYPES[i], response.getMatchType())) {
+        return fragment.json[i];
+      }
+    }
+    return null;
+  }
+
+  public int size() {
+    return summaries.size();
+  }
+
+  private record SummaryFragment(ProductSummaryResponse summary, SerializedString[] json) {
+
+    // match_type을 제외한 필드 비교
+    boolean sameContent(ProductSummaryResponse other) {
+      return Objects.equals(summary.getFinPrdtCd(), other.getFinPrdtCd())
+          && Objects.equals(summary.getFinPrdtNm(), other.getFinPrdtNm())
+          && Objects.equals(summary.getKorCoNm(), other.getKorCoNm())
+          && Objects.equals(summary.getProductType(), other.getProductType())
+          && Objects.equals(summary.getMaxIntrRate(), other.getMaxIntrRate())
+          && Objects.equals(summary.getBaseIntrRate(), other.getBaseIntrRate());
+    }
+  }
+}
@@ -0,0 +1,200 @@
+package com.project.savingbee.filtering.service;
+
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.service.PopularityTracker;
+import com.project.savingbee.util.BasisPoints;
+import com.project.savingbee.util.TextNormalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품명 검색 결과 점수화 및 상위 k개 선택
+ * <p>
+ * 점수 = 상품명 매칭 품질(일치 > 접두사 > 단어 시작 > 포함 > 초성/자모) + 검색어 반복 횟수 + 금융회사명 매칭 + 인기도 +
+ * 최고 금리. 오타 허용 결과는 점수와 관계없이 일치 결과 뒤에 온다. 전체를 정렬하지 않고 요청 페이지까지만 힙으로 고른다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchRanker {
+
+  // 상품명 매칭 품질
+  static final double NAME_EXACT = 100;
+  static final double NAME_PREFIX = 70;
+  static final double NAME_WORD_PREFIX = 50;
+  static final double NAME_CONTAINS = 35;
+  static final double NAME_JAMO = 15;
+  static final double FUZZY_BASE = 20;
+  static final double FUZZY_PER_DISTANCE = 5;
+
+  // 부가 점수
+  static final double TERM_REPEAT = 5;
+  static final double TERM_REPEAT_MAX = 10;
+  static final double COMPANY_EXACT = 30;
+  static final double COMPANY_CONTAINS = 20;
+  static final double POPULARITY_FACTOR = 5;
+  static final double POPULARITY_MAX = 15;
+
+  private static final Comparator<ScoredHit> RANK_ORDER = Comparator
+      .comparing((ScoredHit hit) -> hit.hit().fuzzy())
+      .thenComparing(Comparator.comparingDouble(ScoredHit::score).reversed())
+      .thenComparingInt(hit -> hit.hit().product().id());
+
+  private final PopularityTracker popularityTracker;
+
+  /**
+   * 검색 후보
+   *
+   * @param product  상품
+   * @param fuzzy    오타 허용 매칭 여부
+   * @param distance 오타 허용 매칭 시 편집 거리
+   */
+  public record SearchHit(CatalogProduct product, boolean fuzzy, int distance) {
+
+    public static SearchHit exact(CatalogProduct product) {
+      return new SearchHit(product, false, 0);
+    }
+
+    public static SearchHit fuzzy(CatalogProduct product, int distance) {
+      return new SearchHit(product, true, distance);
+    }
+  }
+
+  public record ScoredHit(SearchHit hit, double score) {
+
+  }
+
+  /**
+   * 점수순 페이지
+   *
+   * @param items 요청 페이지의 결과
+   * @param total 전체 후보 수
+   */
+  public record RankedPage(List<ScoredHit> items, int total) {
+
+  }
+
+  /**
+   * 후보를 점수화해 page(1부터) 번째 size개 반환
+   */
+  public RankedPage rank(String query, Collection<SearchHit> hits, int page, int size) {
+    String q = TextNormalizer.normalize(query);
+    int limit = (int) Math.min((long) page * size, hits.size());
+
+    // 최소 힙에 상위 limit개만 유지 (가장 순위가 낮은 결과가 head)
+    PriorityQueue<ScoredHit> heap = new PriorityQueue<>(Math.max(1, limit), RANK_ORDER.reversed());
+    for (SearchHit hit : hits) {
+      if (limit == 0) {
+        break;
+      }
+      ScoredHit scored = new ScoredHit(hit, score(q, hit));
+      if (heap.size() < limit) {
+        heap.add(scored);
+      } else if (RANK_ORDER.compare(scored, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(scored);
+      }
+    }
+
+    List<ScoredHit> top = new ArrayList<>(heap);
+    top.sort(RANK_ORDER);
+
+    int from = Math.min((page - 1) * size, top.size());
+    return new RankedPage(List.copyOf(top.subList(from, top.size())), hits.size());
+  }
+
+  double score(String q, SearchHit hit) {
+    CatalogProduct product = hit.product();
+    String name = product.searchName(); // 수집 시 정규화
+    String company = product.searchCompany();
+
+    double score;
+    if (hit.fuzzy()) {
+      score = FUZZY_BASE - FUZZY_PER_DISTANCE * hit.distance();
+    } else {
+      score = nameMatchScore(name, q);
+    }
+
+    // 검색어가 상품명에 여러 번 나오면 가산
+    int occurrences = countOccurrences(name, q);
+    if (occurrences > 1) {
+      score += Math.min(TERM_REPEAT_MAX, TERM_REPEAT * (occurrences - 1));
+    }
+
+    // 금융회사명 매칭
+    if (!q.isEmpty() && company.equals(q)) {
+      score += COMPANY_EXACT;
+    } else if (!q.isEmpty() && company.contains(q)) {
+      score += COMPANY_CONTAINS;
+    }
+
+    // 인기도 (로그 스케일)
+    double popularity = popularityTracker.scoreOf(product.finPrdtCd());
+    score += Math.min(POPULARITY_MAX, POPULARITY_FACTOR * Math.log1p(popularity));
+
+    // 최고 금리 (% 단위 그대로 가산, 예: 3.50% -> 3.5)
+    if (BasisPoints.isPresent(product.maxRateBp())) {
+      score += product.maxRateBp() / 100.0;
+    }
+    return score;
+  }
+
+  private static double nameMatchScore(String name, String q) {
+    if (q.isEmpty()) {
+      return NAME_JAMO;
+    }
+    if (name.equals(q)) {
+      return NAME_EXACT;
+    }
+    if (name.startsWith(q)) {
+      return NAME_PREFIX;
+    }
+    int index = name.indexOf(q);
+    if (index < 0) {
+      // 초성/자모 또는 금융회사명으로만 매칭된 경우
+      return NAME_JAMO;
+    }
+    while (index >= 0) {
+      if (isWordStart(name, index)) {
+        return NAME_WORD_PREFIX;
+      }
+      index = name.indexOf(q, index + 1);
+    }
+    return NAME_CONTAINS;
+  }
+
+  // 앞 글자가 기호이거나 문자 종류(한글, 영문, 숫자)가 바뀌는 위치 (공백은 정규화에서 제거됨)
+  private static boolean isWordStart(String name, int index) {
+    if (index == 0) {
+      return true;
+    }
+    char previous = name.charAt(index - 1);
+    char current = name.charAt(index);
+    if (!Character.isLetterOrDigit(previous)) {
+      return true;
+    }
+    return isHangul(previous) != isHangul(current)
+        || Character.isDigit(previous) != Character.isDigit(current);
+  }
+
+  private static boolean isHangul(char c) {
+    return c >= '가' && c <= '힣';
+  }
+
+  private static int countOccurrences(String text, String q) {
+    if (q.isEmpty()) {
+      return 0;
+    }
+    int count = 0;
+    int index = text.indexOf(q);
+    while (index >= 0) {
+      count++;
+      index = text.indexOf(q, index + q.length());
+    }
+    return count;
+  }
+}
@@ -1,9 +1,20 @@
 package com.project.savingbee.filtering.service;
 
+import com.project.savingbee.catalog.index.FuzzyNameIndex;
+import com.project.savingbee.catalog.index.FuzzyNameIndex.FuzzyMatch;
+import com.project.savingbee.catalog.index.ProductJamoIndex;
+import com.project.savingbee.catalog.index.ProductNameIndex;
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.service.PopularityTracker;
+import com.project.savingbee.catalog.service.PopularityTracker.PopularProduct;
+import com.project.savingbee.catalog.service.ProductCatalog;
 import com.project.savingbee.common.entity.*;
 import com.project.savingbee.common.repository.*;
 import com.project.savingbee.filtering.dto.ProductSearchResponse;
 import com.project.savingbee.filtering.dto.ProductSummaryResponse;
+import com.project.savingbee.filtering.service.SearchRanker.RankedPage;
+import com.project.savingbee.filtering.service.SearchRanker.ScoredHit;
+import com.project.savingbee.filtering.service.SearchRanker.SearchHit;
 import com.project.savingbee.filtering.util.KoreanParsing;
 import java.math.BigDecimal;
 import java.util.*;
@@ -24,24 +35,45 @@ public class SearchService {
   private final DepositProductsRepository depositProductsRepository;
   private final SavingsProductsRepository savingsProductsRepository;
   private final KoreanParsing koreanParsing;
+  private final ProductNameIndex productNameIndex;
+  private final ProductJamoIndex productJamoIndex;
+  private final FuzzyNameIndex fuzzyNameIndex;
+  private final PopularityTracker popularityTracker;
+  private final SearchRanker searchRanker;
+  private final ProductCatalog productCatalog;
 
-  // 인기 상품 캐시 (사용자들이 확인했던 상품)
-  private final Set<String> viewedProductsCache = new HashSet<>();
+  // 검색 결과 페이지 크기
+  public static final int DEFAULT_PAGE_SIZE = 20;
+  public static final int MAX_PAGE_SIZE = 100;
+
+  // 인기 상품 추천 개수
+  private static final int POPULAR_PRODUCT_COUNT = 3;
+
+  // 검색 1회당 인기도에 반영할 최대 결과 수
+  private static final int MAX_SEARCH_HITS_RECORDED = 10;
 
   /**
    * 상품 조회수 증가 - 상세 조회(DetailService) 시 호출
    */
   public void addToViewedProductsCache(String productCode) {
     if (productCode != null && !productCode.trim().isEmpty()) {
-      viewedProductsCache.add(productCode);
-      log.debug("상품이 인기 상품 캐시에 추가되었습니다: {}", productCode);
+      popularityTracker.recordView(productCode);
+      log.debug("상품 조회가 인기도에 반영되었습니다: {}", productCode);
     }
   }
 
   /**
-   * 상품 검색
+   * 상품 검색 (관련도 순 첫 페이지)
    */
   public ResponseEntity<ProductSearchResponse> searchProduct(String productName) {
+    return searchProduct(productName, 1, DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * 상품 검색 - 관련도 순 page(1부터) 번째 size개
+   */
+  public ResponseEntity<ProductSearchResponse> searchProduct(String productName, int page,
+      int size) {
     // 검색어 유효성 검사
     if (productName == null || productName.trim().length() < 2) {
       return ResponseEntity.badRequest().body(
@@ -50,39 +82,53 @@ public class SearchService {
               .build()
       );
     }
+    if (page < 1 || size < 1 || size > MAX_PAGE_SIZE) {
+      return ResponseEntity.badRequest().body(
+          ProductSearchResponse.builder()
+              .message("페이지 정보가 유효하지 않습니다.")
+              .build()
+      );
+    }
 
     // 한국어 검색어 전처리
     String processedName = koreanParsing.processKoreanText(productName);
     try {
-      // productName과 동일한 finPrdtNm이 있을 경우 - 성공(200)
-      List<ProductSummaryResponse> searchResults = new ArrayList<>();
-
-      // 예금 DepositProducts 에서 찾기
-      List<DepositProducts> depositMatches = depositProductsRepository
-          .findByFinPrdtNmContainingIgnoreCaseAndIsActiveTrue(processedName);
-
-      // 적금 SavingsProducts 에서 찾기
-      List<SavingsProducts> savingsMatches = savingsProductsRepository
-          .findByFinPrdtNmContainingIgnoreCaseAndIsActiveTrue(processedName);
+      // 후보 수집 - 상품명 포함, 초성/자모(상품명·금융회사명), 오타 허용 순으로 중복 제외
+      // 초성/자모, 오타 허용은 전처리에서 낱자가 제거될 수 있으므로 원본 검색어 사용
+      // 카탈로그 재구성 중에는 인덱스마다 다른 스냅샷을 볼 수 있어 스냅샷별 id 대신 상품코드로 중복 제외
+      Map<String, SearchHit> hits = new LinkedHashMap<>();
+      for (CatalogProduct match : productNameIndex.search(processedName)) {
+        hits.put(match.finPrdtCd(), SearchHit.exact(match));
+      }
+      for (CatalogProduct match : productJamoIndex.search(productName.trim())) {
+        hits.putIfAbsent(match.finPrdtCd(), SearchHit.exact(match));
+      }
+      for (FuzzyMatch fuzzy : fuzzyNameIndex.search(productName.trim())) {
+        hits.putIfAbsent(fuzzy.product().finPrdtCd(),
+            SearchHit.fuzzy(fuzzy.product(), fuzzy.distance()));
+      }
 
-      // 같은 건 모두 반환
-      searchResults.addAll(depositMatches.stream()
-          .map(this::convertDepositToResponse)
-          .collect(Collectors.toList()));
+      // 관련도 점수 상위 결과만 선택 (오타 허용 결과는 일치 결과 뒤)
+      RankedPage ranked = searchRanker.rank(processedName, hits.values(), page, size);
 
-      searchResults.addAll(savingsMatches.stream()
-          .map(this::convertSavingsToResponse)
-          .collect(Collectors.toList()));
+      List<ProductSummaryResponse> searchResults = new ArrayList<>(ranked.items().size());
+      for (ScoredHit scored : ranked.items()) {
+        searchResults.add(toSearchResult(scored.hit().product(), scored.hit().fuzzy()
+            ? ProductSummaryResponse.MATCH_FUZZY : ProductSummaryResponse.MATCH_EXACT));
+      }
 
-      if (!searchResults.isEmpty()) {
-        // 검색 결과가 있는 경우 - 캐시에 추가
-        searchResults.forEach(product ->
-            viewedProductsCache.add(product.getFinPrdtCd()));
+      if (ranked.total() > 0) {
+        // 검색 결과가 있는 경우 - 상위 결과를 검색 노출로 인기도에 반영
+        searchResults.stream()
+            .limit(MAX_SEARCH_HITS_RECORDED)
+            .forEach(product -> popularityTracker.recordSearchHit(product.getFinPrdtCd()));
 
         return ResponseEntity.ok(
             ProductSearchResponse.builder()
                 .products(searchResults)
-                .totalCount(searchResults.size())
+                .totalCount(ranked.total())
+                .page(page)
+                .size(size)
                 .searchTerm(processedName)
                 .build()
         );
@@ -112,58 +158,50 @@ public class SearchService {
     }
   }
 
+  private ProductSummaryResponse toSearchResult(CatalogProduct product, String matchType) {
+    ProductSummaryResponse response = ProductSummaryResponse.fromCatalog(product);
+    response.setMatchType(matchType);
+    return response;
+  }
+
   /**
-   * 인기 있는 상품 3개 반환 - 사용자들이 확인했던 상품을 캐싱해두어 사용
+   * 인기 있는 상품 3개 반환 - 조회/검색 노출 기준 인기 상위 상품 사용
    */
   private List<ProductSummaryResponse> popularProduct() {
-    List<ProductSummaryResponse> popularProducts = new ArrayList<>();
-
-    // 사용자들이 확인했던 상품이 3가지가 넘을 경우
-    if (viewedProductsCache.size() >= 3) {
-      // 데이터 중 랜덤하게 3개 반환
-      List<String> viewedList = new ArrayList<>(viewedProductsCache);
-      Collections.shuffle(viewedList);
-
-      for (int i = 0; i < 3 && i < viewedList.size(); i++) {
-        String productCode = viewedList.get(i);
-        ProductSummaryResponse product = findProductByCode(productCode);
-        if (product != null) {
-          popularProducts.add(product);
-        }
-      }
-      return popularProducts;
-    }
-
-    // 사용자들이 확인했던 상품이 3개가 넘지 않을 경우
-    List<ProductSummaryResponse> viewedProducts = new ArrayList<>();
-    for (String productCode : viewedProductsCache) {
-      ProductSummaryResponse product = findProductByCode(productCode);
+    // 인기 상위 상품 (현재 조회 가능한 상품만)
+    Map<String, ProductSummaryResponse> popularProducts = new LinkedHashMap<>();
+    for (PopularProduct popular : popularityTracker.topK(POPULAR_PRODUCT_COUNT)) {
+      ProductSummaryResponse product = findProductByCode(popular.finPrdtCd());
       if (product != null) {
-        viewedProducts.add(product);
+        popularProducts.put(product.getFinPrdtCd(), product);
       }
     }
 
-    if (viewedProductsCache.isEmpty()) {
-      // 사용자들이 확인했던 상품이 아예 없을 경우
+    List<ProductSummaryResponse> fillers = new ArrayList<>();
+    if (popularProducts.isEmpty()) {
+      // 인기 상품이 아예 없을 경우
       // 최고 금리가 높은 예금 1가지, 적금 2가지 반환
-      popularProducts.addAll(getTopDepositProducts(1));
-      popularProducts.addAll(getTopSavingsProducts(2));
+      fillers.addAll(getTopDepositProducts(1));
+      fillers.addAll(getTopSavingsProducts(2));
 
-    } else if (viewedProductsCache.size() == 1) {
-      // 사용자들이 확인했던 상품이 1개 존재할 경우
+    } else if (popularProducts.size() == 1) {
+      // 인기 상품이 1개 존재할 경우
       // 해당 상품과 최고 금리가 높은 예금 1가지, 적금 1가지 반환
-      popularProducts.addAll(viewedProducts);
-      popularProducts.addAll(getTopDepositProducts(1));
-      popularProducts.addAll(getTopSavingsProducts(1));
+      fillers.addAll(getTopDepositProducts(1));
+      fillers.addAll(getTopSavingsProducts(1));
 
-    } else if (viewedProductsCache.size() == 2) {
-      // 사용자들이 확인했던 상품이 2개 존재할 경우
+    } else if (popularProducts.size() == 2) {
+      // 인기 상품이 2개 존재할 경우
       // 해당 상품들과 최고 금리가 높은 적금 1가지 반환
-      popularProducts.addAll(viewedProducts);
-      popularProducts.addAll(getTopSavingsProducts(1));
+      fillers.addAll(getTopSavingsProducts(1));
     }
 
-    return popularProducts.stream().limit(3).collect(Collectors.toList());
+    // 인기 상품과 겹치는 추천 상품은 제외
+    fillers.forEach(product -> popularProducts.putIfAbsent(product.getFinPrdtCd(), product));
+
+    return popularProducts.values().stream()
+        .limit(POPULAR_PRODUCT_COUNT)
+        .collect(Collectors.toList());
   }
 
   // 예금 상품 정보 DTO로 반환
@@ -276,21 +314,11 @@ public class SearchService {
     }
   }
 
-  // 상품 코드로 상품 찾기
+  // 상품 코드로 상품 찾기 (상품 디렉터리, DB 조회 없음)
   private ProductSummaryResponse findProductByCode(String productCode) {
-    // 예금 상품에서 찾기
-    Optional<DepositProducts> deposit = depositProductsRepository.findById(productCode);
-    if (deposit.isPresent()) {
-      return convertDepositToResponse(deposit.get());
-    }
-
-    // 적금 상품에서 찾기
-    Optional<SavingsProducts> savings = savingsProductsRepository.findById(productCode);
-    if (savings.isPresent()) {
-      return convertSavingsToResponse(savings.get());
-    }
-
-    return null;
+    return productCatalog.find(productCode)
+        .map(ProductSummaryResponse::fromCatalog)
+        .orElse(null);
   }
 
   // 최고 금리 예금 상품 조회
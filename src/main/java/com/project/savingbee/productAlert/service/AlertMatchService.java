@@ -21,6 +21,7 @@ import com.project.savingbee.common.repository.SavingsProductsRepository;
 import com.project.savingbee.domain.user.entity.UserEntity;
 import com.project.savingbee.productAlert.payload.AlertPayloadBuilder;
 import com.project.savingbee.productAlert.util.DedupeKey;
+import com.project.savingbee.util.BasisPoints;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.LocalDateTime;
@@ -208,14 +209,12 @@ public class AlertMatchService {
           prdCode, maxSaveTerm);
     }
 
-    // 우대금리가 있을 경우 우대금리, 없을 경우 기본 금리
-    BigDecimal bestRate =
-        o.map(r -> r.getIntrRate2() != null ? r.getIntrRate2() : r.getIntrRate())
-            .orElse(null);
+    // 우대금리가 있을 경우 우대금리, 없을 경우 기본 금리 (bp)
+    int bestRateBp = o.isPresent() ? BasisPoints.effective(o.get()) : BasisPoints.NONE;
 
-    // 금리 조건 비교
+    // 금리 조건 비교 (금리 정보가 없으면 NONE이므로 항상 미달)
     if (setting.getMinInterestRate() != null) {
-      if (bestRate == null || bestRate.compareTo(setting.getMinInterestRate()) < 0) {
+      if (bestRateBp < BasisPoints.toBpCeil(setting.getMinInterestRate())) {
         return null;
       }
     }
@@ -233,7 +232,7 @@ public class AlertMatchService {
       }
     }
 
-    return bestRate;
+    return BasisPoints.toRate(bestRateBp);
   }
 
   // 적금
@@ -261,21 +260,19 @@ public class AlertMatchService {
           prdCode, maxSaveTerm);
     }
 
-    // 우대금리가 있을 경우 우대금리, 없을 경우 기본 금리
-    BigDecimal bestRate =
-        o.map(r -> r.getIntrRate2() != null ? r.getIntrRate2() : r.getIntrRate())
-            .orElse(null);
+    // 우대금리가 있을 경우 우대금리, 없을 경우 기본 금리 (bp)
+    int bestRateBp = o.isPresent() ? BasisPoints.effective(o.get()) : BasisPoints.NONE;
 
-    // 금리 조건 비교
+    // 금리 조건 비교 (금리 정보가 없으면 NONE이므로 항상 미달)
     if (setting.getMinInterestRate() != null) {
-      if (bestRate == null || bestRate.compareTo(setting.getMinInterestRate()) < 0) {
+      if (bestRateBp < BasisPoints.toBpCeil(setting.getMinInterestRate())) {
         return null;
       }
     }
 
     // 최소 가입 금액, 최대 한도는 적금 상품은 해당 없음
 
-    return bestRate;
+    return BasisPoints.toRate(bestRateBp);
   }
 
   // 알림 이벤트를 중복 없이 한 건만 큐에 적재
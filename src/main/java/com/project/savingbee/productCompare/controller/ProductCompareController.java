@@ -1,11 +1,18 @@
 package com.project.savingbee.productCompare.controller;
 
 import com.project.savingbee.productCompare.dto.CompareExecuteRequestDto;
+import com.project.savingbee.productCompare.dto.CompareGridRequestDto;
+import com.project.savingbee.productCompare.dto.CompareGridResponseDto;
 import com.project.savingbee.productCompare.dto.CompareRequestDto;
 import com.project.savingbee.productCompare.dto.CompareResponseDto;
+import com.project.savingbee.productCompare.dto.DepositAllocationRequestDto;
+import com.project.savingbee.productCompare.dto.DepositAllocationResponseDto;
 import com.project.savingbee.productCompare.dto.PageResponseDto;
 import com.project.savingbee.productCompare.dto.ProductInfoDto;
+import com.project.savingbee.productCompare.dto.SavingsPlanRequestDto;
+import com.project.savingbee.productCompare.dto.SavingsPlanResponseDto;
 import com.project.savingbee.productCompare.service.ProductCompareService;
+import com.project.savingbee.productCompare.service.SavingsPlanService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +29,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProductCompareController {
 
   private final ProductCompareService productCompareService;
+  private final SavingsPlanService savingsPlanService;
 
   // 원하는 조건의 상품 목록 가져오기(필터링)
   @GetMapping
@@ -41,10 +49,31 @@ public class ProductCompareController {
     return productCompareService.findFilteredProducts(compareRequestDto, pageable);
   }
 
-  // 선택한 두 상품 정보 비교
+  // 선택한 상품들(장바구니 전체 등) 정보 비교
   @PostMapping
   public CompareResponseDto compareProduct(
       @Valid @RequestBody CompareExecuteRequestDto compareExecuteRequestDto) {
     return productCompareService.compareProducts(compareExecuteRequestDto);
   }
+
+  // 선택한 상품들을 여러 금액 x 기간으로 한 번에 비교(비교표)
+  @PostMapping("/grid")
+  public CompareGridResponseDto compareProductGrid(
+      @Valid @RequestBody CompareGridRequestDto compareGridRequestDto) {
+    return productCompareService.compareGrid(compareGridRequestDto);
+  }
+
+  // 목표 금액/목표일(또는 정해진 납입금)에 맞는 상품과 기간 추천
+  @PostMapping("/plan")
+  public SavingsPlanResponseDto planSavings(
+      @Valid @RequestBody SavingsPlanRequestDto savingsPlanRequestDto) {
+    return savingsPlanService.plan(savingsPlanRequestDto);
+  }
+
+  // 목돈을 금융회사별 한도 안에서 여러 예금 상품에 나눠 넣기(세후 이자 최대)
+  @PostMapping("/allocate")
+  public DepositAllocationResponseDto allocateDeposit(
+      @Valid @RequestBody DepositAllocationRequestDto depositAllocationRequestDto) {
+    return savingsPlanService.allocate(depositAllocationRequestDto);
+  }
 }
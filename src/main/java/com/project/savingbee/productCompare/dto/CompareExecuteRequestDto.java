@@ -13,9 +13,9 @@ import org.hibernate.validator.constraints.UniqueElements;
 public class CompareExecuteRequestDto {
 
   @NotNull
-  @Size(min = 2, max = 2)
+  @Size(min = 2, max = 50)
   @UniqueElements // 중복 방지
-  private List<String> productIds; // 선택한 두 상품의 상품코드
+  private List<String> productIds; // 선택한 상품들의 상품코드 (장바구니 전체 등)
 
   @NotNull
   private String type;  // 예금(D) / 적금(S)
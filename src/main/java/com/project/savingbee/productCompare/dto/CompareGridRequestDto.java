@@ -0,0 +1,35 @@
+package com.project.savingbee.productCompare.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.validator.constraints.UniqueElements;
+
+@Getter
+@Setter
+public class CompareGridRequestDto {
+
+  @NotNull
+  @Size(min = 2, max = 10)
+  @UniqueElements // 중복 방지
+  private List<String> productIds; // 선택한 상품들의 상품코드
+
+  @NotNull
+  private String type;  // 예금(D) / 적금(S)
+
+  @NotEmpty
+  @Size(max = 10)
+  private List<@NotNull @PositiveOrZero BigDecimal> amounts;  // 예치금 / 월 납입금 목록
+
+  @Size(max = 12)
+  private List<@NotNull @Positive Integer> termMonths;  // 예치 기간 목록, 없으면 상품들의 모든 기간
+
+  @NotNull
+  private String intrRateType;  // 단리(S) / 복리(M)
+}
@@ -0,0 +1,27 @@
+package com.project.savingbee.productCompare.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CompareGridResponseDto {
+
+  private final List<GridProduct> products;  // 비교하는 상품 정보(선택한 순서)
+  private final List<BigDecimal> amounts;  // 예치금 / 월 납입금 목록
+  private final List<Integer> termMonths;  // 예치 기간 목록(오름차순, 중복 제거)
+  private final BigDecimal[][] intrRates;  // [기간][상품] 적용 금리, 해당 기간 금리가 없으면 null
+  private final Long[][][] amountReceived;  // [기간][금액][상품] 만기시 실수령액, 해당 기간 금리가 없으면 null
+  private final String[][] winnerIds;  // [기간][금액] 실수령액이 가장 높은 상품코드, 같을 경우 null
+
+  @Getter
+  @AllArgsConstructor
+  public static class GridProduct {
+
+    private final String productId;
+    private final String bankName;
+    private final String productName;
+  }
+}
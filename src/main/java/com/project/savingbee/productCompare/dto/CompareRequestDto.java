@@ -25,4 +25,6 @@ public class CompareRequestDto {
   private String intrRateType;  // 단리(S) / 복리(M)
 
   private String bankKeyword; // optional : 사용자가 입력한 키워드(금융회사명 필터링용)
+
+  private String sort; // optional : 정렬 기준 - 우대금리(기본) / 만기시 실수령액(amountReceived)
 }
@@ -8,6 +8,6 @@ import lombok.Getter;
 @AllArgsConstructor
 public class CompareResponseDto {
 
-  private final List<ProductCompareInfosDto> info;  // 비교하는 두 상품 정보
-  private final String winnerId;  // 만기시 실수령액이 더 높은 쪽의 상품코드, 같을 경우 둘 다 null
+  private final List<ProductCompareInfosDto> info;  // 비교하는 상품 정보(선택한 순서)
+  private final String winnerId;  // 만기시 실수령액이 가장 높은 상품코드, 같을 경우 null
 }
@@ -0,0 +1,31 @@
+package com.project.savingbee.productCompare.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.math.BigDecimal;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class DepositAllocationRequestDto {
+
+  @NotNull
+  @Positive
+  private BigDecimal totalAmount;  // 나눠 넣을 총 금액
+
+  @NotNull
+  @Min(1)
+  private Integer minTermMonth;  // 예치 기간 범위(최소)
+
+  @NotNull
+  @Min(1)
+  private Integer maxTermMonth;  // 예치 기간 범위(최대)
+
+  @NotNull
+  @Positive
+  private BigDecimal perBankCap;  // 금융회사별 원금 한도 (예금자보호 한도 등)
+
+  private String intrRateType;  // optional : 단리(S) / 복리(M), 없으면 둘 다
+}
@@ -0,0 +1,18 @@
+package com.project.savingbee.productCompare.dto;
+
+import com.project.savingbee.productCompare.dto.SavingsPlanResponseDto.PlanOption;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class DepositAllocationResponseDto {
+
+  private final long totalAmount;  // 요청 총 금액(원 단위 절사)
+  private final long allocatedAmount;  // 배분한 금액
+  private final long unallocatedAmount;  // 한도가 부족해 배분하지 못한 금액
+  private final long totalIntrAfterTax;  // 세후 이자 합계
+  private final boolean optimal;  // 최적 배분 여부 (false면 탐색 상한에서 멈춘 그때까지의 최선)
+  private final List<PlanOption> allocations;  // 상품별 배분 (세후 이자 배수가 큰 순)
+}
@@ -1,9 +1,8 @@
 package com.project.savingbee.productCompare.dto;
 
-import com.project.savingbee.common.entity.DepositInterestRates;
-import com.project.savingbee.common.entity.DepositProducts;
-import com.project.savingbee.common.entity.SavingsInterestRates;
-import com.project.savingbee.common.entity.SavingsProducts;
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogRate;
+import com.project.savingbee.util.BasisPoints;
 import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,33 +23,24 @@ public class ProductInfoDto {
   private Integer termMonth;  // 예치기간
   private String intrRateType;  // 단리(S) / 복리(M)
 
-  // 예금 Dto 매핑
-  public static ProductInfoDto fromDeposit(DepositInterestRates rate) {
-    DepositProducts products = rate.getDepositProduct();
+  private final Long amountReceived;  // 만기시 실수령액(우대금리, 없으면 기본금리 기준 - 실수령액 정렬일 때만, 아니면 null)
 
-    return ProductInfoDto.builder()
-        .productId(products.getFinPrdtCd())
-        .bankName(products.getFinancialCompany().getKorCoNm())
-        .productName(products.getFinPrdtNm())
-        .intrRate(rate.getIntrRate())
-        .intrRate2(rate.getIntrRate2())
-        .termMonth(rate.getSaveTrm())
-        .intrRateType(rate.getIntrRateType())
-        .build();
+  // 카탈로그 금리 옵션 Dto 매핑 (bp -> %, 없으면 null)
+  public static ProductInfoDto fromCatalog(CatalogProduct product, CatalogRate rate) {
+    return fromCatalog(product, rate, null);
   }
 
-  // 적금 Dto 매핑
-  public static ProductInfoDto fromSavings(SavingsInterestRates rate) {
-    SavingsProducts products = rate.getSavingsProduct();
-
+  public static ProductInfoDto fromCatalog(CatalogProduct product, CatalogRate rate,
+      Long amountReceived) {
     return ProductInfoDto.builder()
-        .productId(products.getFinPrdtCd())
-        .bankName(products.getFinancialCompany().getKorCoNm())
-        .productName(products.getFinPrdtNm())
-        .intrRate(rate.getIntrRate())
-        .intrRate2(rate.getIntrRate2())
-        .termMonth(rate.getSaveTrm())
-        .intrRateType(rate.getIntrRateType())
+        .productId(product.finPrdtCd())
+        .bankName(product.korCoNm())
+        .productName(product.finPrdtNm())
+        .intrRate(BasisPoints.toRate(rate.intrRateBp()))
+        .intrRate2(BasisPoints.toRate(rate.intrRate2Bp()))
+        .termMonth(rate.saveTrm())
+        .intrRateType(rate.intrRateType())
+        .amountReceived(amountReceived)
         .build();
   }
 }
@@ -0,0 +1,33 @@
+package com.project.savingbee.productCompare.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class SavingsPlanRequestDto {
+
+  @NotNull
+  private String type;  // 예금(D) / 적금(S)
+
+  @NotNull
+  private LocalDate targetDate;  // 목표일 (남은 개월 수보다 긴 예치 기간은 제외)
+
+  @Positive
+  private BigDecimal targetAmount;  // 목표 금액 -> 최소 예치금/월 납입금 순으로 추천
+
+  @Positive
+  private BigDecimal amount;  // 정해진 예치금/월 납입금 -> 최고 실수령액 순으로 추천 (targetAmount와 둘 중 하나)
+
+  private String intrRateType;  // optional : 단리(S) / 복리(M), 없으면 둘 다
+
+  @Min(1)
+  @Max(50)
+  private Integer limit;  // optional : 추천 개수 (기본 10)
+}
@@ -0,0 +1,52 @@
+package com.project.savingbee.productCompare.dto;
+
+import com.project.savingbee.productCompare.service.SavingsPlanIndex.Plan;
+import com.project.savingbee.util.BasisPoints;
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SavingsPlanResponseDto {
+
+  private final String goal;  // 최소 납입액(MIN_AMOUNT) / 최고 실수령액(MAX_PAYOUT)
+  private final int horizonMonths;  // 목표일까지 남은 개월 수
+  private final List<PlanOption> plans;
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  public static class PlanOption {
+
+    private final String productId; // 상품코드
+    private final String bankName;  // 금융회사명
+    private final String productName; // 상품명
+
+    private final Integer termMonth;  // 예치기간
+    private final String intrRateType;  // 단리(S) / 복리(M)
+    private final String rsrvType;  // 적립유형(적금)
+    private final BigDecimal intrRate;  // 기본금리 (계산 기준)
+
+    private final long amount;  // 예치금 / 월 납입금
+    private final long intrAfterTax;  // 세후 이자
+    private final long amountReceived;  // 만기시 실수령액
+
+    public static PlanOption from(Plan plan) {
+      return PlanOption.builder()
+          .productId(plan.product().finPrdtCd())
+          .bankName(plan.product().korCoNm())
+          .productName(plan.product().finPrdtNm())
+          .termMonth(plan.rate().saveTrm())
+          .intrRateType(plan.rate().intrRateType())
+          .rsrvType(plan.rate().rsrvType())
+          .intrRate(BasisPoints.toRate(plan.rate().intrRateBp()))
+          .amount(plan.amount())
+          .intrAfterTax(plan.afterTaxInterest())
+          .amountReceived(plan.amountReceived())
+          .build();
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.project.savingbee.productCompare.service;
+
+import com.project.savingbee.catalog.index.CatalogIndex;
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogRate;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.productCompare.util.CalcEngine.CoefficientSource;
+import com.project.savingbee.productCompare.util.CalcEngine.Coefficients;
+import com.project.savingbee.util.BasisPoints;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 복리 계수 표 (카탈로그 재구성 시 생성)
+ * <p>
+ * 카탈로그 금리 옵션의 (bp 금리, 저축기간) 조합마다 {@link Coefficients}를 한 번 계산해 두고, 실수령액 계산에서 원금과 곱 한 번으로
+ * 만기 금액을 구하게 한다. 기본금리와 우대금리를 모두 담으며, 표에 없는 조합(사용자 입력 금리 등)은 그때 계산한다.
+ */
+@Slf4j
+@Component
+public class CompoundCoefficientTable implements CatalogIndex, CoefficientSource {
+
+  private volatile Table table = Table.EMPTY;
+
+  @Override
+  public void rebuild(CatalogSnapshot snapshot) {
+    Map<Long, Coefficients> built = new HashMap<>();
+    for (CatalogProduct product : snapshot.getProducts()) {
+      for (CatalogRate rate : product.rates()) {
+        if (rate.saveTrm() == null) {
+          continue;
+        }
+        put(built, rate.intrRateBp(), rate.saveTrm());
+        put(built, rate.intrRate2Bp(), rate.saveTrm());
+      }
+    }
+    table = Table.of(built);
+    log.info("복리 계수 표 재구성 완료 - (금리, 기간) 조합: {}개", built.size());
+  }
+
+  @Override
+  public Coefficients get(int rateBp, int termMonth) {
+    Coefficients coefficients = table.find(key(rateBp, termMonth));
+    return coefficients != null ? coefficients : Coefficients.of(rateBp, termMonth);
+  }
+
+  public int size() {
+    return table.keys.length;
+  }
+
+  private static void put(Map<Long, Coefficients> built, int rateBp, int termMonth) {
+    if (BasisPoints.isPresent(rateBp) && rateBp > 0 && termMonth >= 0) {
+      built.computeIfAbsent(key(rateBp, termMonth), k -> Coefficients.of(rateBp, termMonth));
+    }
+  }
+
+  private static long key(int rateBp, int termMonth) {
+    return (long) rateBp << 32 | (termMonth & 0xFFFFFFFFL);
+  }
+
+  // 정렬된 키 배열 + 이진 탐색 (조회 시 박싱 없음)
+  private static final class Table {
+
+    static final Table EMPTY = new Table(new long[0], new Coefficients[0]);
+
+    final long[] keys;
+    final Coefficients[] values;
+
+    Table(long[] keys, Coefficients[] values) {
+      this.keys = keys;
+      this.values = values;
+    }
+
+    static Table of(Map<Long, Coefficients> built) {
+      long[] keys = new long[built.size()];
+      int n = 0;
+      for (long key : built.keySet()) {
+        keys[n++] = key;
+      }
+      Arrays.sort(keys);
+
+      Coefficients[] values = new Coefficients[keys.length];
+      for (int i = 0; i < keys.length; i++) {
+        values[i] = built.get(keys[i]);
+      }
+      return new Table(keys, values);
+    }
+
+    Coefficients find(long key) {
+      int i = Arrays.binarySearch(keys, key);
+      return i >= 0 ? values[i] : null;
+    }
+  }
+}
@@ -1,13 +1,19 @@
 package com.project.savingbee.productCompare.service;
 
+import com.project.savingbee.catalog.index.CompareRateIndex;
+import com.project.savingbee.catalog.index.CompareRateIndex.CompanyMatch;
+import com.project.savingbee.catalog.model.CatalogRate;
+import com.project.savingbee.catalog.model.ProductKind;
 import com.project.savingbee.common.entity.DepositInterestRates;
 import com.project.savingbee.common.entity.DepositProducts;
 import com.project.savingbee.common.entity.SavingsInterestRates;
 import com.project.savingbee.common.entity.SavingsProducts;
 import com.project.savingbee.common.repository.DepositInterestRatesRepository;
-import com.project.savingbee.common.repository.FinancialCompaniesRepository;
 import com.project.savingbee.common.repository.SavingsInterestRatesRepository;
 import com.project.savingbee.productCompare.dto.CompareExecuteRequestDto;
+import com.project.savingbee.productCompare.dto.CompareGridRequestDto;
+import com.project.savingbee.productCompare.dto.CompareGridResponseDto;
+import com.project.savingbee.productCompare.dto.CompareGridResponseDto.GridProduct;
 import com.project.savingbee.productCompare.dto.CompareRequestDto;
 import com.project.savingbee.productCompare.dto.CompareResponseDto;
 import com.project.savingbee.productCompare.dto.PageResponseDto;
@@ -17,13 +23,21 @@ import com.project.savingbee.productCompare.dto.ProductCompareInfosDto;
 import com.project.savingbee.productCompare.dto.ProductInfoDto;
 import com.project.savingbee.productCompare.util.CalcEngine;
 import com.project.savingbee.productCompare.util.CalcEngine.CalcResult;
+import com.project.savingbee.util.BasisPoints;
+import com.project.savingbee.util.TopK;
 import java.math.BigDecimal;
-import java.text.Normalizer;
-import java.text.Normalizer.Form;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -36,132 +50,130 @@ public class ProductCompareService {
 
   private final DepositInterestRatesRepository depositInterestRatesRepository;
   private final SavingsInterestRatesRepository savingsInterestRatesRepository;
-  private final FinancialCompaniesRepository financialCompaniesRepository;
+  private final CompareRateIndex compareRateIndex;
+  private final CompoundCoefficientTable compoundCoefficientTable;
 
-  // 상품 필터링
+  // 필터링 정렬 기준 - 만기시 실수령액(없으면 우대금리)
+  static final String SORT_AMOUNT_RECEIVED = "amountReceived";
+
+  // 비교표 계산 칸(기간 x 금액 x 상품)이 이 이상일 때만 병렬 계산 (작은 표는 스레드 분배 비용이 더 큼)
+  static final int GRID_PARALLEL_THRESHOLD = 512;
+
+  // 상품 필터링 (카탈로그 비교 금리 인덱스에서 정렬된 순서대로 한 페이지만 조회)
   public PageResponseDto<ProductInfoDto> findFilteredProducts(CompareRequestDto requestDto,
       Pageable pageable) {
-    List<ProductInfoDto> productInfoDtos = requestDto.getType().equals("D")
-        ? findDepositProducts(requestDto)
-        : findSavingsProducts(requestDto);
+    ProductKind kind = requestDto.getType().equals("D") ? ProductKind.DEPOSIT : ProductKind.SAVING;
 
     MatchedBankInfo matchedBankInfo = null;
+    BitSet matchedCompanies = null;
 
     // BankKeyword가 있을 경우
     if (requestDto.getBankKeyword() != null) {
-      String keyword = normalizeKeyword(requestDto.getBankKeyword());
+      // BankKeyword가 포함되는 금융회사 목록 (인덱스의 정규화된 금융회사명 색인에서 한 번만 조회)
+      CompanyMatch match = compareRateIndex.matchCompanies(requestDto.getBankKeyword());
 
-      // BankKeyword가 포함되는 금융회사명 목록
-      List<MatchedBank> matchedBanks =
-          financialCompaniesRepository.findByKorCoNmContainingOrderByFinCoNo(keyword);
+      List<MatchedBank> matchedBanks = match.companies().stream()
+          .map(c -> new MatchedBank(c.finCoNo(), c.korCoNm()))
+          .toList();
 
       matchedBankInfo = new MatchedBankInfo(requestDto.getBankKeyword(), matchedBanks);
 
-      // BankKeyword가 포함되는 금융회사명으로 필터링
-      productInfoDtos = productInfoDtos.stream()
-          .filter(p -> p.getBankName().contains(keyword)).toList();
+      // 금융회사 순번 비트맵으로 필터링
+      matchedCompanies = match.ordinals();
     }
 
+    // 단리/복리, 최소 이자율(우대금리 기준, 없으면 기본금리, bp 올림), 예치금/월 납입금액 범위
     // 우대금리 내림차순(null일 경우 기본금리를 비교), 동률일 경우 상품코드 오름차순
-    Comparator<ProductInfoDto> intrRate2Desc =
-        Comparator.comparing(
-            (ProductInfoDto p) -> {
-              BigDecimal rate2 = p.getIntrRate2();
-              return (rate2 != null) ? rate2 : p.getIntrRate();
-            }).reversed().thenComparing(ProductInfoDto::getProductId);
+    int page = Math.max(0, pageable.getPageNumber());
+    int size = pageable.getPageSize();  // @PageableDefault로 기본값 20
+    int offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE);
+    BigDecimal amount = requestDto.getAmount();
+    boolean byAmountReceived = SORT_AMOUNT_RECEIVED.equalsIgnoreCase(requestDto.getSort());
 
-    List<ProductInfoDto> sorted = productInfoDtos.stream().sorted(intrRate2Desc).toList();
+    // 실수령액 정렬은 조건에 맞는 후보 전체를 계산해야 하므로 페이지 대신 전체를 받음
+    CompareRateIndex.Result result = compareRateIndex.search(kind, requestDto.getTermMonth(),
+        requestDto.getIntrRateType(), BasisPoints.toBpCeil(requestDto.getMinRate()),
+        CatalogRate.floorAmount(amount), CatalogRate.ceilAmount(amount), matchedCompanies,
+        byAmountReceived ? 0 : offset, byAmountReceived ? Integer.MAX_VALUE : size);
 
-    return PageResponseDto.fromList(sorted, pageable, matchedBankInfo);
-  }
+    List<ProductInfoDto> content = byAmountReceived
+        ? rankByAmountReceived(kind, requestDto, result.hits(), offset, size)
+        : result.hits().stream()
+            .map(hit -> ProductInfoDto.fromCatalog(hit.product(), hit.rate()))
+            .toList();
 
-  // 예금 필터링
-  private List<ProductInfoDto> findDepositProducts(CompareRequestDto requestDto) {
-    // 예치 기간이 일치한 금리 정보 조회
-    List<DepositInterestRates> rates =
-        depositInterestRatesRepository.findAllBySaveTrmOrderByFinPrdtCd(requestDto.getTermMonth());
-
-    return rates.stream()
-        // 단리 / 복리
-        .filter(r -> requestDto.getIntrRateType().equalsIgnoreCase(r.getIntrRateType()))
-        // 최소 이자율(우대금리 기준, 없으면 기본금리)
-        .filter(r -> {
-          BigDecimal base = r.getIntrRate2() != null ? r.getIntrRate2() : r.getIntrRate();
-          return base != null && base.compareTo(requestDto.getMinRate()) >= 0;
-        })
-        // 예치금 범위
-        .filter(r -> ableDepositAmount(requestDto, r.getDepositProduct()))
-        .map(ProductInfoDto::fromDeposit)
-        .toList();
+    return new PageResponseDto<>(content, page, size, result.total(), matchedBankInfo);
   }
 
-  // 적금 필터링
-  private List<ProductInfoDto> findSavingsProducts(CompareRequestDto requestDto) {
-    // 예치 기간이 일치한 금리 정보 조회
-    List<SavingsInterestRates> rates =
-        savingsInterestRatesRepository.findAllBySaveTrmOrderByFinPrdtCd(requestDto.getTermMonth());
-
-    return rates.stream()
-        // 단리 / 복리
-        .filter(r -> requestDto.getIntrRateType().equalsIgnoreCase(r.getIntrRateType()))
-        // 최소 이자율(우대금리 기준, 없으면 기본금리)
-        .filter(r -> {
-          BigDecimal base = r.getIntrRate2() != null ? r.getIntrRate2() : r.getIntrRate();
-          return base != null && base.compareTo(requestDto.getMinRate()) >= 0;
-        })
-        // 월 납입금액 범위
-        .filter(r -> ableSavingsAmount(requestDto, r))
-        .map(ProductInfoDto::fromSavings)
-        .toList();
-  }
-
-  // 최소 가입금액 <= 예치 금액 <= 최대 한도
-  private boolean ableDepositAmount(CompareRequestDto requestDto, DepositProducts product) {
+  // 실수령액 내림차순 한 페이지 (동률이면 우대금리 순서 유지)
+  private List<ProductInfoDto> rankByAmountReceived(ProductKind kind,
+      CompareRequestDto requestDto, List<CompareRateIndex.Hit> hits, int offset, int size) {
     BigDecimal amount = requestDto.getAmount();
-    BigDecimal min = product.getMinAmount();
-    BigDecimal max = product.getMaxLimit();
+    // 원 단위 금액이면 long/bp 경로로 계산 (원 미만이 있거나 범위를 넘으면 BigDecimal 경로)
+    long floor = CatalogRate.floorAmount(amount);
+    long wholeAmount =
+        floor == CatalogRate.ceilAmount(amount) && floor >= 0 && floor < Long.MAX_VALUE
+            ? floor : -1;
+    int saveTrm = requestDto.getTermMonth();
 
-    if (min != null && amount.compareTo(min) < 0) {
-      return false;
-    }
-    if (max != null && amount.compareTo(max) > 0) {
-      return false;
+    // 후보마다 최소 이자율 필터와 같은 기준(우대금리, 없으면 기본금리)으로 실수령액 계산 - 복리 계수는 표에서 조회
+    List<RankedHit> ranked = new ArrayList<>(hits.size());
+    for (CompareRateIndex.Hit hit : hits) {
+      int rateBp = BasisPoints.orZero(hit.rate().effectiveBp());
+      String intrRateType = hit.rate().intrRateType().trim().toUpperCase(Locale.ROOT);
+      CalcResult c;
+      if (wholeAmount >= 0) {
+        c = kind == ProductKind.DEPOSIT
+            ? CalcEngine.deposit(wholeAmount, rateBp, saveTrm, intrRateType,
+            compoundCoefficientTable)
+            : CalcEngine.savings(wholeAmount, rateBp, saveTrm, intrRateType,
+                compoundCoefficientTable);
+      } else {
+        BigDecimal rate = BigDecimal.valueOf(rateBp, 2);
+        c = kind == ProductKind.DEPOSIT
+            ? CalcEngine.deposit(amount, rate, saveTrm, intrRateType, compoundCoefficientTable)
+            : CalcEngine.savings(amount, rate, saveTrm, intrRateType, compoundCoefficientTable);
+      }
+      ranked.add(new RankedHit(hit, c.getAmountReceived()));
     }
 
-    return true;
-  }
+    // 요청 페이지 끝까지만 선택 (전체 정렬 없음)
+    int end = (int) Math.min((long) offset + size, Integer.MAX_VALUE);
+    List<RankedHit> top = TopK.first(ranked,
+        Comparator.comparingLong(RankedHit::amountReceived).reversed(), end);
 
-  // 최소 월 납입금액 <= 월 납입금액 <= 최대 월 납입금액
-  private boolean ableSavingsAmount(CompareRequestDto requestDto, SavingsInterestRates rate) {
-    BigDecimal amount = requestDto.getAmount();
-    BigDecimal min = rate.getMonthlyLimitMin();
-    BigDecimal max = rate.getMonthlyLimitMax();
+    return top.subList(Math.min(offset, top.size()), top.size()).stream()
+        .map(r -> ProductInfoDto.fromCatalog(r.hit().product(), r.hit().rate(),
+            r.amountReceived()))
+        .toList();
+  }
 
-    if (min != null && amount.compareTo(min) < 0) {
-      return false;
-    }
-    if (max != null && amount.compareTo(max) > 0) {
-      return false;
-    }
+  private record RankedHit(CompareRateIndex.Hit hit, long amountReceived) {
 
-    return true;
   }
 
   // 상품 비교
   public CompareResponseDto compareProducts(CompareExecuteRequestDto requestDto) {
-    List<ProductCompareInfosDto> products = new ArrayList<>(
-        requestDto.getType().equalsIgnoreCase("D")
-            ? compareDeposit(requestDto) : compareSavings(requestDto));
+    List<ProductCompareInfosDto> compared = requestDto.getType().equalsIgnoreCase("D")
+        ? compareDeposit(requestDto) : compareSavings(requestDto);
 
-    // 입력 순서 유지 정렬(먼저 선택한 상품을 왼쪽에)
+    // 입력 순서 유지 정렬(먼저 선택한 상품을 왼쪽에) - 상품코드 -> 선택 순서 맵으로 자리 배치
     List<String> ids = requestDto.getProductIds();
-    products.sort(Comparator.comparingInt(p -> ids.indexOf(p.getProductId())));
+    Map<String, Integer> position = new HashMap<>(ids.size() * 2);
+    for (int i = 0; i < ids.size(); i++) {
+      position.put(ids.get(i), i);
+    }
+    ProductCompareInfosDto[] ordered = new ProductCompareInfosDto[ids.size()];
+    for (ProductCompareInfosDto p : compared) {
+      ordered[position.get(p.getProductId())] = p;
+    }
+    List<ProductCompareInfosDto> products = Arrays.asList(ordered);
 
     long maxAmount = products.stream().mapToLong(ProductCompareInfosDto::getAmountReceived).max()
         .orElse(0);
     long winners = products.stream().filter(p -> p.getAmountReceived() == maxAmount).count();
 
-    // 실수령액이 같은 경우 winner -> 둘 다 false
+    // 실수령액이 같은 경우 winner -> 모두 false
     products = products.stream().map(p ->
             p.toBuilder().winner(winners == 1 && p.getAmountReceived() == maxAmount).build())
         .toList();
@@ -180,20 +192,30 @@ public class ProductCompareService {
     int saveTrm = requestDto.getTermMonth();
     String intrRateType = requestDto.getIntrRateType();
 
-    // 선택한 두 상품 정보 가져오기(상품코드 + 이자계산방식 + 예치기간으로)
+    // 선택한 상품들의 금리 정보 가져오기(상품코드 + 이자계산방식 + 예치기간으로, 상품/금융회사 함께 한 번에)
     List<DepositInterestRates> rates = depositInterestRatesRepository
         .findAllByFinPrdtCdInAndIntrRateTypeAndSaveTrm(ids, intrRateType, saveTrm);
 
-    if (rates.size() != ids.size()) {
+    if (rates.size() < ids.size()) {
+      throw new IllegalArgumentException("Invalid productIds/intrRateType/termMonth.");
+    }
+
+    // 상품별 금리 옵션 하나(같은 조건의 옵션이 여럿이면 기본금리가 높은 것)
+    Map<String, DepositInterestRates> rateByProduct = new LinkedHashMap<>();
+    for (DepositInterestRates r : rates) {
+      rateByProduct.merge(r.getDepositProduct().getFinPrdtCd(), r,
+          (a, b) -> b.getIntrRate().compareTo(a.getIntrRate()) > 0 ? b : a);
+    }
+    if (rateByProduct.size() != ids.size()) {
       throw new IllegalArgumentException("Invalid productIds/intrRateType/termMonth.");
     }
 
-    return rates.stream().map(r -> {
+    return rateByProduct.values().stream().map(r -> {
       DepositProducts p = r.getDepositProduct();
 
       // 세후 이자, 실수령액 계산
-      CalcResult c = CalcEngine.deposit(
-          requestDto.getAmount(), r.getIntrRate(), saveTrm, intrRateType);
+      CalcResult c = CalcEngine.deposit(requestDto.getAmount(), r.getIntrRate(), saveTrm,
+          intrRateType, compoundCoefficientTable);
 
       return ProductCompareInfosDto.builder()
           .productId(p.getFinPrdtCd())
@@ -215,20 +237,30 @@ public class ProductCompareService {
     int saveTrm = requestDto.getTermMonth();
     String intrRateType = requestDto.getIntrRateType();
 
-    // 선택한 두 상품 정보 가져오기(상품코드 + 이자계산방식 + 예치기간으로)
+    // 선택한 상품들의 금리 정보 가져오기(상품코드 + 이자계산방식 + 예치기간으로, 상품/금융회사 함께 한 번에)
     List<SavingsInterestRates> rates = savingsInterestRatesRepository
         .findAllByFinPrdtCdInAndIntrRateTypeAndSaveTrm(ids, intrRateType, saveTrm);
 
-    if (rates.size() != ids.size()) {
+    if (rates.size() < ids.size()) {
       throw new IllegalArgumentException("Invalid productIds/intrRateType/termMonth.");
     }
 
-    return rates.stream().map(r -> {
+    // 상품별 금리 옵션 하나(적립유형별로 여럿이면 기본금리가 높은 것)
+    Map<String, SavingsInterestRates> rateByProduct = new LinkedHashMap<>();
+    for (SavingsInterestRates r : rates) {
+      rateByProduct.merge(r.getSavingsProduct().getFinPrdtCd(), r,
+          (a, b) -> b.getIntrRate().compareTo(a.getIntrRate()) > 0 ? b : a);
+    }
+    if (rateByProduct.size() != ids.size()) {
+      throw new IllegalArgumentException("Invalid productIds/intrRateType/termMonth.");
+    }
+
+    return rateByProduct.values().stream().map(r -> {
       SavingsProducts p = r.getSavingsProduct();
 
       // 세후 이자, 실수령액 계산
-      CalcResult c = CalcEngine.savings(
-          requestDto.getAmount(), r.getIntrRate(), saveTrm, intrRateType);
+      CalcResult c = CalcEngine.savings(requestDto.getAmount(), r.getIntrRate(), saveTrm,
+          intrRateType, compoundCoefficientTable);
 
       return ProductCompareInfosDto.builder()
           .productId(p.getFinPrdtCd())
@@ -244,10 +276,110 @@ public class ProductCompareService {
     }).toList();
   }
 
-  // 입력받은 키워드를 정규화
-  private String normalizeKeyword(String keyword) {
-    return Normalizer.normalize(keyword, Form.NFKC)
-        .toUpperCase(Locale.ROOT) // 소문자 -> 대문자
-        .replaceAll("\\s+", ""); // 모든 공백 제거
+  // 금액 x 기간 비교표 (선택한 상품들의 금리 정보를 한 번에 조회하고 모든 칸을 계산)
+  public CompareGridResponseDto compareGrid(CompareGridRequestDto requestDto) {
+    List<String> ids = requestDto.getProductIds();
+    String intrRateType = requestDto.getIntrRateType();
+    boolean deposit = requestDto.getType().equalsIgnoreCase("D");
+
+    // 선택한 상품들의 모든 기간 금리 정보 가져오기(상품코드 + 이자계산방식으로, 상품/금융회사 함께)
+    List<GridRate> rates = deposit
+        ? depositInterestRatesRepository.findWithProductByFinPrdtCdInAndIntrRateType(ids,
+            intrRateType).stream().map(GridRate::of).toList()
+        : savingsInterestRatesRepository.findWithProductByFinPrdtCdInAndIntrRateType(ids,
+            intrRateType).stream().map(GridRate::of).toList();
+
+    // 상품별 정보, 상품별 기간 금리(같은 기간 옵션이 여럿이면 높은 금리)
+    Map<String, GridProduct> productById = new HashMap<>();
+    Map<String, Map<Integer, BigDecimal>> rateByProduct = new HashMap<>();
+    for (GridRate r : rates) {
+      productById.putIfAbsent(r.product().getProductId(), r.product());
+      if (r.saveTrm() == null || r.intrRate() == null) {
+        continue;
+      }
+      rateByProduct.computeIfAbsent(r.product().getProductId(), k -> new HashMap<>())
+          .merge(r.saveTrm(), r.intrRate(), BigDecimal::max);
+    }
+
+    if (!productById.keySet().containsAll(ids)) {
+      throw new IllegalArgumentException("Invalid productIds/intrRateType.");
+    }
+
+    // 예치 기간 목록(요청이 없으면 선택한 상품들의 모든 기간), 오름차순
+    List<Integer> terms = new ArrayList<>(
+        requestDto.getTermMonths() == null || requestDto.getTermMonths().isEmpty()
+            ? rateByProduct.values().stream().flatMap(m -> m.keySet().stream())
+            .collect(Collectors.toCollection(TreeSet::new))
+            : new TreeSet<>(requestDto.getTermMonths()));
+    List<BigDecimal> amounts = requestDto.getAmounts();
+
+    // 입력 순서 유지(먼저 선택한 상품을 왼쪽에)
+    List<GridProduct> products = ids.stream().map(productById::get).toList();
+    BigDecimal[][] intrRates = new BigDecimal[terms.size()][ids.size()];
+    for (int t = 0; t < terms.size(); t++) {
+      for (int p = 0; p < ids.size(); p++) {
+        intrRates[t][p] = rateByProduct.getOrDefault(ids.get(p), Map.of()).get(terms.get(t));
+      }
+    }
+
+    // (기간, 금액) 칸마다 세후 이자, 실수령액 계산 - 칸끼리 독립이라 큰 표는 병렬로
+    Long[][][] amountReceived = new Long[terms.size()][amounts.size()][ids.size()];
+    String[][] winnerIds = new String[terms.size()][amounts.size()];
+    IntStream cells = IntStream.range(0, terms.size() * amounts.size());
+    if ((long) terms.size() * amounts.size() * ids.size() >= GRID_PARALLEL_THRESHOLD) {
+      cells = cells.parallel();
+    }
+    cells.forEach(cell -> {
+      int t = cell / amounts.size();
+      int a = cell % amounts.size();
+      int saveTrm = terms.get(t);
+
+      long maxAmount = Long.MIN_VALUE;
+      int winners = 0;
+      String winnerId = null;
+      for (int p = 0; p < ids.size(); p++) {
+        BigDecimal intrRate = intrRates[t][p];
+        if (intrRate == null) {
+          continue;
+        }
+        CalcResult c = deposit
+            ? CalcEngine.deposit(amounts.get(a), intrRate, saveTrm, intrRateType,
+            compoundCoefficientTable)
+            : CalcEngine.savings(amounts.get(a), intrRate, saveTrm, intrRateType,
+                compoundCoefficientTable);
+        amountReceived[t][a][p] = c.getAmountReceived();
+
+        if (c.getAmountReceived() > maxAmount) {
+          maxAmount = c.getAmountReceived();
+          winners = 1;
+          winnerId = ids.get(p);
+        } else if (c.getAmountReceived() == maxAmount) {
+          winners++;
+        }
+      }
+      // 실수령액이 같은 경우 winner -> null
+      winnerIds[t][a] = winners == 1 ? winnerId : null;
+    });
+
+    return new CompareGridResponseDto(products, amounts, terms, intrRates, amountReceived,
+        winnerIds);
+  }
+
+  // 비교표용 금리 옵션(예금/적금 공통)
+  private record GridRate(GridProduct product, Integer saveTrm, BigDecimal intrRate) {
+
+    static GridRate of(DepositInterestRates r) {
+      DepositProducts p = r.getDepositProduct();
+      return new GridRate(
+          new GridProduct(p.getFinPrdtCd(), p.getFinancialCompany().getKorCoNm(),
+              p.getFinPrdtNm()), r.getSaveTrm(), r.getIntrRate());
+    }
+
+    static GridRate of(SavingsInterestRates r) {
+      SavingsProducts p = r.getSavingsProduct();
+      return new GridRate(
+          new GridProduct(p.getFinPrdtCd(), p.getFinancialCompany().getKorCoNm(),
+              p.getFinPrdtNm()), r.getSaveTrm(), r.getIntrRate());
+    }
   }
 }
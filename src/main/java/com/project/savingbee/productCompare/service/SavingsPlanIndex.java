@@ -0,0 +1,456 @@
+package com.project.savingbee.productCompare.service;
+
+import com.project.savingbee.catalog.index.CatalogIndex;
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogRate;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.catalog.model.ProductKind;
+import com.project.savingbee.productCompare.util.CalcEngine;
+import com.project.savingbee.productCompare.util.CalcEngine.CalcResult;
+import com.project.savingbee.productCompare.util.CalcEngine.CoefficientSource;
+import com.project.savingbee.util.BasisPoints;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목표 저축 플래너용 금리 옵션 인덱스
+ * <p>
+ * 금리 옵션마다 예치금(적금은 월 납입금) 1원당 만기 금액 배수를 카탈로그 재구성 시 미리 계산하고, 상품 종류별로 배수 내림차순
+ * 정렬해 둔다. 정해진 금액의 최고 실수령액은 앞에서부터 조건에 맞는 k개가 곧 답이다. 목표 금액의 최소 납입액은 목표 / 배수가
+ * 하한이라, 하한이 현재 k번째 답보다 커지면 나머지 옵션은 보지 않는다. 후보의 납입액은 배수로 역산한 뒤 실수령액 계산으로 확정한다.
+ * 목돈 분산 배분도 같은 순서로 배수가 큰 상품부터 채운다. 판매 중단 상품은 인덱스에 넣지 않는다.
+ */
+@Slf4j
+@Component
+public class SavingsPlanIndex implements CatalogIndex {
+
+  // 역산한 납입액이 이보다 크면 계산하지 않음
+  private static final long MAX_PLAN_AMOUNT = 10_000_000_000_000L; // 10조 원
+
+  // 목돈 배분 분기 한정 - 최대 탐색 노드 수, 이자가 이만큼(원) 늘어야 더 나은 답
+  private static final int MAX_SEARCH_NODES = 2_000;
+  private static final double MIN_IMPROVEMENT = 1.0;
+
+  private final AtomicReference<Map<ProductKind, Bucket>> buckets =
+      new AtomicReference<>(Map.of());
+
+  private final int maxSearchNodes;
+
+  public SavingsPlanIndex() {
+    this(MAX_SEARCH_NODES);
+  }
+
+  SavingsPlanIndex(int maxSearchNodes) {
+    this.maxSearchNodes = maxSearchNodes;
+  }
+
+  @Override
+  public void rebuild(CatalogSnapshot snapshot) {
+    Map<ProductKind, List<Option>> grouped = new EnumMap<>(ProductKind.class);
+    for (CatalogProduct product : snapshot.getProducts()) {
+      if (!product.active()) {
+        continue; // 판매 중단 상품은 추천하지 않음
+      }
+      for (CatalogRate rate : product.rates()) {
+        if (rate.saveTrm() == null || rate.saveTrm() <= 0 || rate.intrRateType() == null) {
+          continue;
+        }
+        grouped.computeIfAbsent(product.kind(), k -> new ArrayList<>())
+            .add(Option.of(product, rate));
+      }
+    }
+
+    Map<ProductKind, Bucket> built = new EnumMap<>(ProductKind.class);
+    grouped.forEach((kind, options) -> built.put(kind, Bucket.of(kind, options)));
+    buckets.set(Map.copyOf(built));
+    log.info("저축 플래너 인덱스 재구성 완료 - 금리 옵션: {}개",
+        grouped.values().stream().mapToInt(List::size).sum());
+  }
+
+  /**
+   * 정해진 금액으로 만기 실수령액이 가장 큰 옵션 (실수령액 내림차순)
+   *
+   * @param intrRateType 이자계산방식 제한 (null이면 제한 없음)
+   * @param maxTerm      목표일까지 남은 개월 수 (이보다 긴 기간은 제외)
+   */
+  public List<Plan> maxPayout(ProductKind kind, String intrRateType, int maxTerm, long amount,
+      CoefficientSource coefficients, int limit) {
+    Bucket bucket = buckets.get().get(kind);
+    if (bucket == null || limit <= 0) {
+      return List.of();
+    }
+
+    // 같은 금액이면 실수령액은 배수에 비례하므로 앞에서부터 k개
+    List<Plan> plans = new ArrayList<>(limit);
+    String type = normalizeType(intrRateType);
+    for (int i = 0; i < bucket.options.length && plans.size() < limit; i++) {
+      if (!bucket.matches(i, type, maxTerm)
+          || amount < bucket.minAmount[i] || amount > bucket.maxAmount[i]) {
+        continue;
+      }
+      plans.add(bucket.plan(i, amount, bucket.calc(i, amount, coefficients)));
+    }
+
+    // 근사 배수가 같은 옵션끼리의 순서만 실수령액으로 확정
+    plans.sort(Comparator.comparingLong(Plan::amountReceived).reversed());
+    return plans;
+  }
+
+  /**
+   * 목표 금액에 도달하는 최소 납입액 옵션 (납입액 오름차순, 동률이면 실수령액 내림차순)
+   *
+   * @param intrRateType 이자계산방식 제한 (null이면 제한 없음)
+   * @param maxTerm      목표일까지 남은 개월 수 (이보다 긴 기간은 제외)
+   */
+  public List<Plan> minAmount(ProductKind kind, String intrRateType, int maxTerm,
+      long targetAmount, CoefficientSource coefficients, int limit) {
+    Bucket bucket = buckets.get().get(kind);
+    if (bucket == null || limit <= 0) {
+      return List.of();
+    }
+
+    // 지금까지 찾은 k개 중 가장 나쁜 답이 맨 앞
+    Comparator<Plan> order = Comparator.comparingLong(Plan::amount)
+        .thenComparing(Comparator.comparingLong(Plan::amountReceived).reversed())
+        .thenComparingInt(p -> p.product().id())
+        .thenComparingInt(p -> p.rate().saveTrm());
+    PriorityQueue<Plan> best = new PriorityQueue<>(limit, order.reversed());
+
+    String type = normalizeType(intrRateType);
+    for (int i = 0; i < bucket.options.length; i++) {
+      // 배수가 작아질수록 하한이 커지므로 k번째 답보다 커지면 이후 옵션은 볼 필요 없음
+      if (best.size() == limit && targetAmount / bucket.factor[i] > best.peek().amount() + 1) {
+        break;
+      }
+      if (!bucket.matches(i, type, maxTerm)) {
+        continue;
+      }
+
+      Plan plan = bucket.required(i, targetAmount, coefficients);
+      if (plan == null) {
+        continue;
+      }
+      if (best.size() < limit) {
+        best.add(plan);
+      } else if (order.compare(plan, best.peek()) < 0) {
+        best.poll();
+        best.add(plan);
+      }
+    }
+
+    List<Plan> plans = new ArrayList<>(best);
+    plans.sort(order);
+    return plans;
+  }
+
+  /**
+   * 목돈을 예금 상품에 나눠 세후 이자 최대화 (상품 한도, 금융회사별 한도, 최소 가입금액 반영)
+   * <p>
+   * 가입할 상품이 정해지면 각 상품에 최소 가입금액을 먼저 넣고 남은 금액을 배수가 큰 상품부터 채우는 것이 최적이다. 어떤 상품에
+   * 가입할지는 분기 한정으로 정한다. 최소 가입금액을 무시하고 채운 해가 상한이고, 그 해에서 최소 가입금액에 못 미치는 상품만
+   * 넣는 경우/빼는 경우로 나눈다. 배수가 큰 상품부터 채우는 greedy 결과에서 시작한다. 상품마다 기간 범위 안에서 배수가 가장 큰
+   * 금리 옵션 하나에만 넣는다. 탐색 노드가 {@value #MAX_SEARCH_NODES}개를 넘으면 그때까지의 최선을 돌려주고 최적이라고 표시하지
+   * 않는다.
+   *
+   * @param intrRateType 이자계산방식 제한 (null이면 제한 없음)
+   * @param perBankCap   금융회사별 원금 한도
+   */
+  public Allocation allocate(int minTerm, int maxTerm, String intrRateType, long totalAmount,
+      long perBankCap, CoefficientSource coefficients) {
+    Bucket bucket = buckets.get().get(ProductKind.DEPOSIT);
+    if (bucket == null) {
+      return new Allocation(List.of(), true);
+    }
+
+    Allocator allocator = Allocator.of(bucket, minTerm, maxTerm, normalizeType(intrRateType),
+        totalAmount, perBankCap);
+    long[] amounts = allocator.solve(maxSearchNodes);
+
+    List<Plan> plans = new ArrayList<>();
+    for (int c = 0; c < amounts.length; c++) {
+      if (amounts[c] > 0) {
+        int i = allocator.option[c];
+        plans.add(bucket.plan(i, amounts[c], bucket.calc(i, amounts[c], coefficients)));
+      }
+    }
+    return new Allocation(plans, !allocator.truncated);
+  }
+
+  private static String normalizeType(String intrRateType) {
+    return intrRateType == null ? null : intrRateType.trim().toUpperCase(Locale.ROOT);
+  }
+
+  /**
+   * 플랜 한 건
+   *
+   * @param amount 예치금 / 월 납입금
+   */
+  public record Plan(CatalogProduct product, CatalogRate rate, long amount,
+                     long afterTaxInterest, long amountReceived) {
+
+  }
+
+  /**
+   * 목돈 배분 결과
+   *
+   * @param optimal 탐색을 끝까지 마친 최적 배분인지 (배수로 계산한 이자 1원 이내), false면 탐색 상한에서 멈춘 그때까지의 최선
+   */
+  public record Allocation(List<Plan> plans, boolean optimal) {
+
+  }
+
+  // 금리 옵션 + 1원당 만기 금액 배수 (상품 비교와 같이 기본금리 기준)
+  private record Option(CatalogProduct product, CatalogRate rate, String intrRateType,
+                        int rateBp, double factor) {
+
+    static Option of(CatalogProduct product, CatalogRate rate) {
+      String type = normalizeType(rate.intrRateType());
+      int rateBp = BasisPoints.orZero(rate.intrRateBp());
+      double factor = product.kind() == ProductKind.DEPOSIT
+          ? CalcEngine.depositFactor(rateBp, rate.saveTrm(), type)
+          : CalcEngine.savingsFactor(rateBp, rate.saveTrm(), type);
+      return new Option(product, rate, type, rateBp, factor);
+    }
+  }
+
+  // 목돈 배분 후보 (상품별 배수가 가장 큰 금리 옵션, 배수 내림차순)와 분기 한정 탐색
+  private static final class Allocator {
+
+    static final byte OPEN = 1;
+    static final byte CLOSED = -1;
+
+    final int[] option; // 버킷 인덱스
+    final double[] rate; // 1원당 이자 (배수 - 1)
+    final long[] min;
+    final long[] max;
+    final int[] bank; // 금융회사 번호
+    final long total;
+    final long perBankCap;
+    final long[] bankUsed;
+
+    long[] best;
+    double bestValue = -1;
+    int nodes;
+    int maxNodes;
+    boolean truncated; // 탐색 상한에 걸려 남은 분기를 보지 못함
+    int split; // 마지막 완화 해에서 최소 가입금액에 못 미친 첫 후보 (없으면 -1)
+
+    private Allocator(int[] option, Bucket bucket, int[] bank, int banks, long total,
+        long perBankCap) {
+      this.option = option;
+      this.rate = new double[option.length];
+      this.min = new long[option.length];
+      this.max = new long[option.length];
+      this.bank = bank;
+      this.total = total;
+      this.perBankCap = perBankCap;
+      this.bankUsed = new long[banks];
+      for (int c = 0; c < option.length; c++) {
+        rate[c] = bucket.factor[option[c]] - 1;
+        min[c] = bucket.minAmount[option[c]];
+        max[c] = Math.min(bucket.maxAmount[option[c]], Math.min(total, perBankCap));
+      }
+    }
+
+    static Allocator of(Bucket bucket, int minTerm, int maxTerm, String intrRateType,
+        long total, long perBankCap) {
+      List<Integer> options = new ArrayList<>();
+      List<Integer> banks = new ArrayList<>();
+      Map<String, Integer> bankNumbers = new HashMap<>();
+      BitSet seen = new BitSet();
+      for (int i = 0; i < bucket.options.length; i++) {
+        CatalogProduct product = bucket.options[i].product();
+        if (bucket.factor[i] <= 1 || bucket.saveTrm[i] < minTerm
+            || !bucket.matches(i, intrRateType, maxTerm) || seen.get(product.id())) {
+          continue;
+        }
+        seen.set(product.id());
+        if (bucket.minAmount[i] > Math.min(bucket.maxAmount[i], Math.min(total, perBankCap))) {
+          continue; // 최소 가입금액을 넣을 수 없음
+        }
+        options.add(i);
+        banks.add(bankNumbers.computeIfAbsent(String.valueOf(product.finCoNo()),
+            k -> bankNumbers.size()));
+      }
+      return new Allocator(options.stream().mapToInt(Integer::intValue).toArray(), bucket,
+          banks.stream().mapToInt(Integer::intValue).toArray(), bankNumbers.size(), total,
+          perBankCap);
+    }
+
+    /**
+     * 후보별 배분 금액 - greedy 결과에서 시작해 탐색 노드가 maxNodes개를 넘으면 그때까지의 최선 ({@link #truncated} 표시)
+     */
+    long[] solve(int maxNodes) {
+      this.maxNodes = maxNodes;
+      byte[] decision = new byte[option.length];
+      long[] amounts = new long[option.length];
+
+      // 초기 답: 배수가 큰 후보부터 남은 한도만큼 채우고, 최소 가입금액이 안 되면 건너뜀
+      long remaining = total;
+      for (int c = 0; c < option.length; c++) {
+        long room = Math.min(remaining, Math.min(max[c], perBankCap - bankUsed[bank[c]]));
+        if (room < min[c]) {
+          decision[c] = CLOSED;
+          continue;
+        }
+        decision[c] = OPEN;
+        bankUsed[bank[c]] += room;
+        remaining -= room;
+      }
+      Arrays.fill(bankUsed, 0);
+      bestValue = relax(decision, amounts);
+      best = amounts.clone();
+
+      Arrays.fill(decision, (byte) 0);
+      search(decision, amounts);
+      return best;
+    }
+
+    // 완화 해가 최소 가입금액에 못 미치는 첫 후보를 넣는 경우/빼는 경우로 분기, 완화 해의 이자가 최선 이하면 버림
+    private void search(byte[] decision, long[] amounts) {
+      if (++nodes > maxNodes) {
+        truncated = true;
+        return;
+      }
+      double value = relax(decision, amounts);
+      if (value <= bestValue + MIN_IMPROVEMENT) {
+        return;
+      }
+      int c = split;
+      if (c < 0) {
+        bestValue = value;
+        best = amounts.clone();
+        return;
+      }
+      decision[c] = OPEN;
+      search(decision, amounts);
+      decision[c] = CLOSED;
+      search(decision, amounts);
+      decision[c] = 0;
+    }
+
+    // 넣기로 한 후보에 최소 가입금액을 먼저 넣고, 빼기로 하지 않은 후보를 배수가 큰 순으로 채운 이자 (한도를 넘으면 -1)
+    // 정해지지 않은 후보는 최소 가입금액을 무시하므로 이 노드 아래 모든 답의 상한
+    private double relax(byte[] decision, long[] amounts) {
+      long remaining = total;
+      boolean feasible = true;
+      for (int c = 0; c < option.length; c++) {
+        amounts[c] = decision[c] == OPEN ? min[c] : 0;
+        bankUsed[bank[c]] += amounts[c];
+        remaining -= amounts[c];
+        feasible &= bankUsed[bank[c]] <= perBankCap;
+      }
+
+      double value = -1;
+      split = -1;
+      if (feasible && remaining >= 0) {
+        value = 0;
+        for (int c = 0; c < option.length; c++) {
+          if (decision[c] != CLOSED) {
+            long add = Math.min(remaining,
+                Math.min(max[c] - amounts[c], perBankCap - bankUsed[bank[c]]));
+            amounts[c] += add;
+            bankUsed[bank[c]] += add;
+            remaining -= add;
+            value += rate[c] * amounts[c];
+            if (split < 0 && decision[c] == 0 && amounts[c] > 0 && amounts[c] < min[c]) {
+              split = c;
+            }
+          }
+        }
+      }
+      Arrays.fill(bankUsed, 0);
+      return value;
+    }
+  }
+
+  // 배수 내림차순으로 정렬된 열 배열
+  private static final class Bucket {
+
+    final ProductKind kind;
+    final Option[] options;
+    final double[] factor;
+    final int[] saveTrm;
+    final long[] minAmount;
+    final long[] maxAmount;
+
+    private Bucket(ProductKind kind, Option[] options) {
+      this.kind = kind;
+      this.options = options;
+      this.factor = new double[options.length];
+      this.saveTrm = new int[options.length];
+      this.minAmount = new long[options.length];
+      this.maxAmount = new long[options.length];
+      for (int i = 0; i < options.length; i++) {
+        factor[i] = options[i].factor();
+        saveTrm[i] = options[i].rate().saveTrm();
+        minAmount[i] = Math.max(1, options[i].rate().minAmount());
+        maxAmount[i] = Math.min(MAX_PLAN_AMOUNT, options[i].rate().maxAmount());
+      }
+    }
+
+    // 배수가 같으면 상품 id 순 (안정 정렬)
+    static Bucket of(ProductKind kind, List<Option> options) {
+      Option[] sorted = options.toArray(new Option[0]);
+      Arrays.sort(sorted, Comparator.comparingDouble(Option::factor).reversed()
+          .thenComparingInt(o -> o.product().id()));
+      return new Bucket(kind, sorted);
+    }
+
+    boolean matches(int i, String intrRateType, int maxTerm) {
+      return saveTrm[i] <= maxTerm
+          && (intrRateType == null || intrRateType.equals(options[i].intrRateType()));
+    }
+
+    CalcResult calc(int i, long amount, CoefficientSource coefficients) {
+      Option option = options[i];
+      return kind == ProductKind.DEPOSIT
+          ? CalcEngine.deposit(amount, option.rateBp(), saveTrm[i], option.intrRateType(),
+          coefficients)
+          : CalcEngine.savings(amount, option.rateBp(), saveTrm[i], option.intrRateType(),
+              coefficients);
+    }
+
+    Plan plan(int i, long amount, CalcResult c) {
+      return new Plan(options[i].product(), options[i].rate(), amount, c.getAfterTaxInterest(),
+          c.getAmountReceived());
+    }
+
+    // 목표 / 배수로 역산한 납입액에서 시작해 실수령액 계산으로 최소 납입액 확정 (한도를 벗어나면 null)
+    Plan required(int i, long targetAmount, CoefficientSource coefficients) {
+      double estimate = Math.ceil(targetAmount / factor[i]);
+      if (estimate > maxAmount[i] || minAmount[i] > maxAmount[i]) {
+        return null;
+      }
+
+      long amount = Math.max(minAmount[i], (long) estimate);
+      CalcResult c = calc(i, amount, coefficients);
+      while (c.getAmountReceived() < targetAmount) {
+        if (++amount > maxAmount[i]) {
+          return null;
+        }
+        c = calc(i, amount, coefficients);
+      }
+      while (amount > minAmount[i]) {
+        CalcResult lower = calc(i, amount - 1, coefficients);
+        if (lower.getAmountReceived() < targetAmount) {
+          break;
+        }
+        amount--;
+        c = lower;
+      }
+      return plan(i, amount, c);
+    }
+  }
+}
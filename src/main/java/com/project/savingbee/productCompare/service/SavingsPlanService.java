@@ -0,0 +1,80 @@
+package com.project.savingbee.productCompare.service;
+
+import com.project.savingbee.catalog.model.CatalogRate;
+import com.project.savingbee.catalog.model.ProductKind;
+import com.project.savingbee.productCompare.dto.DepositAllocationRequestDto;
+import com.project.savingbee.productCompare.dto.DepositAllocationResponseDto;
+import com.project.savingbee.productCompare.dto.SavingsPlanRequestDto;
+import com.project.savingbee.productCompare.dto.SavingsPlanResponseDto;
+import com.project.savingbee.productCompare.dto.SavingsPlanResponseDto.PlanOption;
+import com.project.savingbee.productCompare.service.SavingsPlanIndex.Allocation;
+import com.project.savingbee.productCompare.service.SavingsPlanIndex.Plan;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class SavingsPlanService {
+
+  static final int DEFAULT_LIMIT = 10;
+
+  private final SavingsPlanIndex savingsPlanIndex;
+  private final CompoundCoefficientTable compoundCoefficientTable;
+
+  // 목표 금액/목표일(또는 정해진 납입금)로 카탈로그 전체에서 상품과 기간 추천
+  public SavingsPlanResponseDto plan(SavingsPlanRequestDto requestDto) {
+    if ((requestDto.getTargetAmount() == null) == (requestDto.getAmount() == null)) {
+      throw new IllegalArgumentException("Exactly one of targetAmount/amount is required.");
+    }
+
+    // 목표일까지 남은 개월 수
+    long months = ChronoUnit.MONTHS.between(LocalDate.now(), requestDto.getTargetDate());
+    if (months < 1) {
+      throw new IllegalArgumentException("targetDate must be at least one month later.");
+    }
+    int horizon = (int) Math.min(months, Integer.MAX_VALUE);
+
+    ProductKind kind = requestDto.getType().equalsIgnoreCase("D")
+        ? ProductKind.DEPOSIT : ProductKind.SAVING;
+    int limit = requestDto.getLimit() != null ? requestDto.getLimit() : DEFAULT_LIMIT;
+
+    String goal;
+    List<Plan> plans;
+    if (requestDto.getTargetAmount() != null) {
+      // 목표 금액에 도달하는 최소 예치금/월 납입금 (원 단위 올림)
+      goal = "MIN_AMOUNT";
+      plans = savingsPlanIndex.minAmount(kind, requestDto.getIntrRateType(), horizon,
+          CatalogRate.ceilAmount(requestDto.getTargetAmount()), compoundCoefficientTable, limit);
+    } else {
+      // 정해진 예치금/월 납입금으로 최고 실수령액 (원 단위 절사, 실수령액 계산과 동일)
+      goal = "MAX_PAYOUT";
+      plans = savingsPlanIndex.maxPayout(kind, requestDto.getIntrRateType(), horizon,
+          CatalogRate.floorAmount(requestDto.getAmount()), compoundCoefficientTable, limit);
+    }
+
+    return new SavingsPlanResponseDto(goal, horizon,
+        plans.stream().map(PlanOption::from).toList());
+  }
+
+  // 목돈을 여러 금융회사의 예금 상품에 나눠 세후 이자 최대화
+  public DepositAllocationResponseDto allocate(DepositAllocationRequestDto requestDto) {
+    if (requestDto.getMinTermMonth() > requestDto.getMaxTermMonth()) {
+      throw new IllegalArgumentException("minTermMonth must not exceed maxTermMonth.");
+    }
+
+    long totalAmount = CatalogRate.floorAmount(requestDto.getTotalAmount());
+    Allocation allocation = savingsPlanIndex.allocate(requestDto.getMinTermMonth(),
+        requestDto.getMaxTermMonth(), requestDto.getIntrRateType(), totalAmount,
+        CatalogRate.floorAmount(requestDto.getPerBankCap()), compoundCoefficientTable);
+
+    List<Plan> plans = allocation.plans();
+    long allocatedAmount = plans.stream().mapToLong(Plan::amount).sum();
+    long totalIntrAfterTax = plans.stream().mapToLong(Plan::afterTaxInterest).sum();
+    return new DepositAllocationResponseDto(totalAmount, allocatedAmount,
+        totalAmount - allocatedAmount, totalIntrAfterTax, allocation.optimal(),
+        plans.stream().map(PlanOption::from).toList());
+  }
+}
@@ -5,9 +5,32 @@ import java.math.RoundingMode;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-// 세후 이자, 실수령액 계산
+/**
+ * 세후 이자, 실수령액 계산
+ * <p>
+ * 기준 계산은 BigDecimal({@link #depositExact}, {@link #savingsExact})이다. 금리가 bp 정수로 떨어지고 금액이 충분히 작으면
+ * 같은 식을 double로 계산하고 오차 한계를 함께 구해, 결과가 원 단위 절사 경계에서 오차 한계보다 멀리 있을 때만 그 값을 쓴다.
+ * 경계에 가까우면 단리는 정수(128비트) 비교로, 복리는 BigDecimal 계산으로 확정하므로 결과는 항상 기준 계산과 같다.
+ */
 public final class CalcEngine {
 
+  // double 계산을 쓰는 범위 (A * bp 곱과 만기 금액이 double 정수 범위 안에 들도록)
+  private static final long MAX_FAST_AMOUNT = 10_000_000_000_000L; // 10조 원
+  private static final int MAX_FAST_RATE_BP = 100_000; // 1000%
+  private static final int MAX_FAST_TERM = 1_200; // 100년
+  private static final double MAX_FAST_RESULT = 0x1p52;
+
+  // 연산 한 번당 상대 오차(2^-53)에 여유 계수를 곱한 값
+  private static final double EPS = 32 * 0x1p-53;
+  // BigDecimal 계산의 10자리 반올림 나눗셈 오차
+  private static final double DIVIDE_ROUNDING = 1e-9;
+
+  // 표 없이 매번 계산
+  private static final CoefficientSource COMPUTE = Coefficients::of;
+
+  private CalcEngine() {
+  }
+
   /**
    * 예금 만기시 실수령액 계산
    *
@@ -18,6 +41,99 @@ public final class CalcEngine {
    */
   public static CalcResult deposit(
       BigDecimal amount, BigDecimal rate, int termMonth, String intrRateType) {
+    return deposit(amount, rate, termMonth, intrRateType, COMPUTE);
+  }
+
+  /**
+   * 예금 만기시 실수령액 계산 (복리 계수를 미리 계산한 표에서 조회)
+   */
+  public static CalcResult deposit(BigDecimal amount, BigDecimal rate, int termMonth,
+      String intrRateType, CoefficientSource coefficients) {
+    int bp = fastBp(rate);
+    long a = fastAmount(amount);
+    if (bp > 0 && a >= 0) {
+      CalcResult fast = depositFast(a, bp, termMonth, intrRateType.equals("S"), coefficients);
+      if (fast != null) {
+        return fast;
+      }
+    }
+    return depositExact(amount, rate, termMonth, intrRateType);
+  }
+
+  /**
+   * 예금 만기시 실수령액 계산 (원 단위 금액, bp 금리 - 여러 조합을 반복 계산하는 경로용)
+   */
+  public static CalcResult deposit(long amount, int rateBp, int termMonth, String intrRateType) {
+    return deposit(amount, rateBp, termMonth, intrRateType, COMPUTE);
+  }
+
+  public static CalcResult deposit(long amount, int rateBp, int termMonth, String intrRateType,
+      CoefficientSource coefficients) {
+    if (rateBp > 0 && amount >= 0) {
+      CalcResult fast = depositFast(amount, rateBp, termMonth, intrRateType.equals("S"),
+          coefficients);
+      if (fast != null) {
+        return fast;
+      }
+    }
+    return depositExact(BigDecimal.valueOf(amount), BigDecimal.valueOf(rateBp, 2), termMonth,
+        intrRateType);
+  }
+
+  /**
+   * 적금 만기시 실수령액 계산
+   *
+   * @param amount       월 납입금액
+   * @param rate         세후 이자율
+   * @param termMonth    예치기간
+   * @param intrRateType 이자계산방식(단리/복리)
+   */
+  public static CalcResult savings(
+      BigDecimal amount, BigDecimal rate, int termMonth, String intrRateType) {
+    return savings(amount, rate, termMonth, intrRateType, COMPUTE);
+  }
+
+  /**
+   * 적금 만기시 실수령액 계산 (복리 계수를 미리 계산한 표에서 조회)
+   */
+  public static CalcResult savings(BigDecimal amount, BigDecimal rate, int termMonth,
+      String intrRateType, CoefficientSource coefficients) {
+    int bp = fastBp(rate);
+    long a = fastAmount(amount);
+    if (bp > 0 && a >= 0) {
+      CalcResult fast = savingsFast(a, bp, termMonth, intrRateType.equals("S"), coefficients);
+      if (fast != null) {
+        return fast;
+      }
+    }
+    return savingsExact(amount, rate, termMonth, intrRateType);
+  }
+
+  /**
+   * 적금 만기시 실수령액 계산 (원 단위 금액, bp 금리 - 여러 조합을 반복 계산하는 경로용)
+   */
+  public static CalcResult savings(long amount, int rateBp, int termMonth, String intrRateType) {
+    return savings(amount, rateBp, termMonth, intrRateType, COMPUTE);
+  }
+
+  public static CalcResult savings(long amount, int rateBp, int termMonth, String intrRateType,
+      CoefficientSource coefficients) {
+    if (rateBp > 0 && amount >= 0) {
+      CalcResult fast = savingsFast(amount, rateBp, termMonth, intrRateType.equals("S"),
+          coefficients);
+      if (fast != null) {
+        return fast;
+      }
+    }
+    return savingsExact(BigDecimal.valueOf(amount), BigDecimal.valueOf(rateBp, 2), termMonth,
+        intrRateType);
+  }
+
+  /**
+   * 예금 만기시 실수령액 기준 계산 (BigDecimal)
+   */
+  public static CalcResult depositExact(
+      BigDecimal amount, BigDecimal rate, int termMonth, String intrRateType) {
 
     BigDecimal A = amount.setScale(0, RoundingMode.DOWN); // 예치금(원)
     BigDecimal R = rate.movePointLeft(2); // % -> 소수
@@ -35,14 +151,9 @@ public final class CalcEngine {
   }
 
   /**
-   * 적금 만기시 실수령액 계산
-   *
-   * @param amount       월 납입금액
-   * @param rate         세후 이자율
-   * @param termMonth    예치기간
-   * @param intrRateType 이자계산방식(단리/복리)
+   * 적금 만기시 실수령액 기준 계산 (BigDecimal)
    */
-  public static CalcResult savings(
+  public static CalcResult savingsExact(
       BigDecimal amount, BigDecimal rate, int termMonth, String intrRateType) {
 
     BigDecimal A = amount.setScale(0, RoundingMode.DOWN);
@@ -75,6 +186,199 @@ public final class CalcEngine {
     return new CalcResult(afterTaxInterest, amountReceived);
   }
 
+  /**
+   * 예치금 1원당 만기 금액 (원 단위 절사 전 근사값 - 목표 금액에서 필요한 예치금을 역산할 때)
+   */
+  public static double depositFactor(int rateBp, int termMonth, String intrRateType) {
+    if (rateBp <= 0) {
+      return 1;
+    }
+    return intrRateType.equals("S")
+        ? 1 + (double) rateBp * termYearsScaled(termMonth) / 1e14
+        : 1 + Coefficients.of(rateBp, termMonth).growth();
+  }
+
+  /**
+   * 월 납입금 1원당 만기 금액 (원 단위 절사 전 근사값 - 목표 금액에서 필요한 월 납입금을 역산할 때)
+   */
+  public static double savingsFactor(int rateBp, int termMonth, String intrRateType) {
+    if (rateBp <= 0) {
+      return termMonth;
+    }
+    return intrRateType.equals("S")
+        ? termMonth + (double) monthlyRateScaled(rateBp) * termMonth * (termMonth + 1) / 2e10
+        : Coefficients.of(rateBp, termMonth).annuity();
+  }
+
+  // double 계산 - 절사 결과를 확정할 수 없으면 null
+  private static CalcResult depositFast(long a, int bp, int n, boolean simple,
+      CoefficientSource coefficients) {
+    if (!fastRange(a, bp, n)) {
+      return null;
+    }
+
+    long afterTaxInterest;
+    if (simple) {
+      // A * (bp / 10000) * round10(n / 12) = A * bp * t / 1e14
+      long t = termYearsScaled(n);
+      double interest = (double) (a * bp) * t / 1e14;
+      afterTaxInterest = floorExact(interest, interest * EPS, a * bp, t, 1, 0,
+          100_000_000_000_000L);
+    } else {
+      // A * ((1+I)^n - 1)
+      Coefficients c = coefficients.get(bp, n);
+      double interest = a * c.growth();
+      afterTaxInterest = truncate(interest, a * c.growthError() + interest * EPS);
+    }
+
+    return afterTaxInterest < 0 ? null : new CalcResult(afterTaxInterest, a + afterTaxInterest);
+  }
+
+  private static CalcResult savingsFast(long a, int bp, int n, boolean simple,
+      CoefficientSource coefficients) {
+    if (!fastRange(a, bp, n)) {
+      return null;
+    }
+
+    long totalAmount = a * n;
+    long afterTaxInterest;
+    if (simple) {
+      // round10(A * I * n(n+1) / 2) = floor((M + 1) / 2) / 1e10, M = A * I * 1e10 * n(n+1)
+      long i = monthlyRateScaled(bp);
+      long terms = (long) n * (n + 1);
+      double interest = (double) a * i * terms / 2e10;
+      afterTaxInterest = floorExact(interest, interest * EPS, a, i, terms, 1, 20_000_000_000L);
+    } else {
+      // A * ((1+I)^n - 1) / I - A * n
+      Coefficients c = coefficients.get(bp, n);
+      double maturity = a * c.annuity();
+      double interest = maturity - totalAmount;
+      afterTaxInterest = truncate(interest,
+          a * c.annuityError() + (maturity + totalAmount) * EPS + DIVIDE_ROUNDING);
+    }
+
+    return afterTaxInterest < 0 ? null
+        : new CalcResult(afterTaxInterest, totalAmount + afterTaxInterest);
+  }
+
+  private static boolean fastRange(long a, int bp, int n) {
+    return a <= MAX_FAST_AMOUNT && bp <= MAX_FAST_RATE_BP && n >= 0 && n <= MAX_FAST_TERM;
+  }
+
+  // 원 단위 절사 - [x - error, x + error] 안에 정수가 있으면 판정 불가(-1)
+  private static long truncate(double x, double error) {
+    if (!(x >= 0) || x >= MAX_FAST_RESULT) {
+      return -1;
+    }
+    double floor = Math.floor(x);
+    if (x - floor <= error || floor + 1 - x <= error) {
+      return -1;
+    }
+    return (long) floor;
+  }
+
+  /**
+   * floor((a * b * c + plus) / d) - 근삿값 x가 정수 k에 가까우면 128비트 정수 비교로 k 이상인지 확인
+   */
+  private static long floorExact(double x, double error, long a, long b, long c, long plus,
+      long d) {
+    if (!(x >= 0) || x >= MAX_FAST_RESULT || error >= 0.25) {
+      return -1;
+    }
+    long k = Math.round(x);
+    if (Math.abs(x - k) > error) {
+      return (long) Math.floor(x);
+    }
+    return compareProduct(a, b, c, plus, k, d) >= 0 ? k : k - 1;
+  }
+
+  // sign(a * b * c + plus - k * d), 모든 값은 0 이상이고 두 곱은 2^127 미만
+  private static int compareProduct(long a, long b, long c, long plus, long k, long d) {
+    long hi = Math.multiplyHigh(a, b);
+    long lo = a * b;
+    // (hi, lo) * c - lo는 부호 없는 값으로 취급
+    long carry = Math.multiplyHigh(lo, c) + ((lo >> 63) & c);
+    hi = hi * c + carry;
+    lo = lo * c;
+    long sum = lo + plus;
+    if (Long.compareUnsigned(sum, lo) < 0) {
+      hi++;
+    }
+    lo = sum;
+
+    long rightHi = Math.multiplyHigh(k, d);
+    long rightLo = k * d;
+    if (hi != rightHi) {
+      return Long.compare(hi, rightHi);
+    }
+    return Long.compareUnsigned(lo, rightLo);
+  }
+
+  // I = round10(bp / 10000 / 12) 의 1e10배 = round(bp * 250000 / 3)
+  private static long monthlyRateScaled(int bp) {
+    return (bp * 500_000L + 3) / 6;
+  }
+
+  private static double monthlyRate(int bp) {
+    return monthlyRateScaled(bp) / 1e10;
+  }
+
+  // round10(n / 12) 의 1e10배
+  private static long termYearsScaled(int n) {
+    return (n * 5_000_000_000L + 3) / 6;
+  }
+
+  // 금리가 bp 정수로 떨어지면 bp, 아니면 -1
+  private static int fastBp(BigDecimal rate) {
+    BigDecimal bp = rate.movePointRight(2);
+    if (bp.scale() > 0) {
+      bp = bp.stripTrailingZeros();
+      if (bp.scale() > 0) {
+        return -1;
+      }
+    }
+    return bp.signum() > 0 && bp.compareTo(BigDecimal.valueOf(MAX_FAST_RATE_BP)) <= 0
+        ? bp.intValue() : -1;
+  }
+
+  // 원 단위로 절사한 금액, 범위 밖이면 -1
+  private static long fastAmount(BigDecimal amount) {
+    BigDecimal won = amount.setScale(0, RoundingMode.DOWN);
+    return won.signum() >= 0 && won.compareTo(BigDecimal.valueOf(MAX_FAST_AMOUNT)) <= 0
+        ? won.longValue() : -1;
+  }
+
+  /**
+   * 복리 계수 - 원금과 무관하게 (bp 금리, 기간)만으로 정해지며, 만기 금액은 원금과 곱 한 번으로 구한다.
+   *
+   * @param growth       (1+I)^n - 1 (예금 복리 이자율)
+   * @param growthError  growth의 오차 한계
+   * @param annuity      ((1+I)^n - 1) / I (적금 복리 만기 계수)
+   * @param annuityError annuity의 오차 한계
+   */
+  public record Coefficients(int rateBp, int termMonth, double growth, double growthError,
+                             double annuity, double annuityError) {
+
+    // (1+I)^n - 1 = expm1(n * log1p(I)), I = round10(bp / 120000)
+    public static Coefficients of(int rateBp, int termMonth) {
+      double i = monthlyRate(rateBp);
+      double y = termMonth * Math.log1p(i);
+      double growth = Math.expm1(y);
+      double growthError = (growth + 1) * y * EPS;
+      return new Coefficients(rateBp, termMonth, growth, growthError, growth / i,
+          growthError / i);
+    }
+  }
+
+  /**
+   * 복리 계수 조회 (미리 계산한 표 또는 즉시 계산)
+   */
+  @FunctionalInterface
+  public interface CoefficientSource {
+
+    Coefficients get(int rateBp, int termMonth);
+  }
+
   @Getter
   @AllArgsConstructor
   public static class CalcResult {
@@ -0,0 +1,95 @@
+package com.project.savingbee.util;
+
+import com.project.savingbee.common.entity.RateOption;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+
+/**
+ * 금리(%)를 bp(0.01% 단위) 정수로 다루는 유틸
+ * <p>
+ * 금리 컬럼은 precision 5, scale 2 이므로 int 범위 안에서 손실 없이 표현된다. 정렬/필터/매칭 루프에서는 bp 정수로
+ * 비교하고, 응답 DTO 등 경계에서만 {@link #toRate(int)}로 BigDecimal로 되돌린다.
+ */
+public final class BasisPoints {
+
+  // 금리 정보 없음
+  public static final int NONE = Integer.MIN_VALUE;
+
+  private BasisPoints() {
+  }
+
+  // 금리(%) -> bp (scale 2를 넘는 값은 반올림)
+  public static int toBp(BigDecimal rate) {
+    if (rate == null) {
+      return NONE;
+    }
+    return rate.movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValueExact();
+  }
+
+  // 금리(%) -> bp, 올림 (bp >= 기준값 비교용)
+  public static int toBpCeil(BigDecimal rate) {
+    if (rate == null) {
+      return NONE;
+    }
+    return rate.movePointRight(2).setScale(0, RoundingMode.CEILING).intValueExact();
+  }
+
+  // 금리(%) -> bp, 내림 (bp > 기준값 비교용)
+  public static int toBpFloor(BigDecimal rate) {
+    if (rate == null) {
+      return NONE;
+    }
+    return rate.movePointRight(2).setScale(0, RoundingMode.FLOOR).intValueExact();
+  }
+
+  // bp -> 금리(%)
+  public static BigDecimal toRate(int bp) {
+    if (bp == NONE) {
+      return null;
+    }
+    return BigDecimal.valueOf(bp, 2);
+  }
+
+  public static boolean isPresent(int bp) {
+    return bp != NONE;
+  }
+
+  // 금리 정보가 없으면 0
+  public static int orZero(int bp) {
+    return bp == NONE ? 0 : bp;
+  }
+
+  // 적용 금리: 우대금리가 있으면 우대금리, 없으면 기본금리
+  public static int effective(BigDecimal intrRate2, BigDecimal intrRate) {
+    return intrRate2 != null ? toBp(intrRate2) : toBp(intrRate);
+  }
+
+  public static int effective(RateOption rate) {
+    return effective(rate.getIntrRate2(), rate.getIntrRate());
+  }
+
+  // 금리 옵션 중 최고 적용 금리
+  public static int maxEffective(Collection<? extends RateOption> rates) {
+    int max = NONE;
+    if (rates == null) {
+      return max;
+    }
+    for (RateOption rate : rates) {
+      max = Math.max(max, effective(rate));
+    }
+    return max;
+  }
+
+  // 금리 옵션 중 최고 기본 금리
+  public static int maxBase(Collection<? extends RateOption> rates) {
+    int max = NONE;
+    if (rates == null) {
+      return max;
+    }
+    for (RateOption rate : rates) {
+      max = Math.max(max, toBp(rate.getIntrRate()));
+    }
+    return max;
+  }
+}
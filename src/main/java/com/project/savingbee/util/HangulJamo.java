@@ -0,0 +1,156 @@
+package com.project.savingbee.util;
+
+/**
+ * 한글 초성/자모 분해 유틸
+ * <p>
+ * 완성형 음절(가~힣)을 호환 자모(ㄱ, ㅏ 등)로 풀어 쓴다. 겹받침(ㄳ)과 이중모음(ㅘ)도 낱자로 나누므로 "카카ㅇ", "칵"처럼
+ * 입력 중인 음절도 완성된 이름의 자모열에 부분 문자열로 포함된다. 공백은 제거하고 한글 외 문자는 소문자로 남긴다.
+ */
+public final class HangulJamo {
+
+  private static final char SYLLABLE_BASE = '가';
+  private static final char SYLLABLE_LAST = '힣';
+  private static final int JUNG_COUNT = 21;
+  private static final int JONG_COUNT = 28;
+
+  private static final char COMPAT_FIRST = 'ㄱ';
+  private static final char COMPAT_LAST_CONSONANT = 'ㅎ';
+  private static final char COMPAT_LAST = 'ㅣ';
+
+  private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+  private static final String[] JUNG = {
+      "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+      "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+  };
+
+  private static final String[] JONG = {
+      "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+      "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+  };
+
+  // 호환 자모(ㄱ~ㅣ) -> 낱자 분해 (겹받침, 이중모음만 두 글자)
+  private static final String[] COMPAT = new String[COMPAT_LAST - COMPAT_FIRST + 1];
+
+  static {
+    for (char c = COMPAT_FIRST; c <= COMPAT_LAST; c++) {
+      COMPAT[c - COMPAT_FIRST] = String.valueOf(c);
+    }
+    for (String jong : JONG) {
+      if (jong.length() == 2) {
+        COMPAT[compound(jong) - COMPAT_FIRST] = jong;
+      }
+    }
+    for (String jung : JUNG) {
+      if (jung.length() == 2) {
+        COMPAT[compound(jung) - COMPAT_FIRST] = jung;
+      }
+    }
+  }
+
+  private HangulJamo() {
+  }
+
+  /**
+   * 초성열 - 음절은 초성만, 그 외 문자는 그대로 (예: 카카오뱅크 -> ㅋㅋㅇㅂㅋ)
+   */
+  public static String chosung(String text) {
+    if (text == null) {
+      return "";
+    }
+    StringBuilder sb = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (Character.isWhitespace(c)) {
+        continue;
+      }
+      if (isSyllable(c)) {
+        sb.append(CHO.charAt((c - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)));
+      } else {
+        sb.append(Character.toLowerCase(c));
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * 자모열 - 음절과 겹자모를 낱자로 분해 (예: 뱅크 -> ㅂㅐㅇㅋㅡ)
+   */
+  public static String decompose(String text) {
+    if (text == null) {
+      return "";
+    }
+    StringBuilder sb = new StringBuilder(text.length() * 3);
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (Character.isWhitespace(c)) {
+        continue;
+      }
+      if (isSyllable(c)) {
+        int offset = c - SYLLABLE_BASE;
+        sb.append(CHO.charAt(offset / (JUNG_COUNT * JONG_COUNT)));
+        sb.append(JUNG[(offset % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT]);
+        sb.append(JONG[offset % JONG_COUNT]);
+      } else if (isCompatJamo(c)) {
+        sb.append(COMPAT[c - COMPAT_FIRST]);
+      } else {
+        sb.append(Character.toLowerCase(c));
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * 공백을 제외한 모든 글자가 자음(ㄱ~ㅎ)인지 - 초성 검색 여부 판단
+   */
+  public static boolean isChosungOnly(String text) {
+    if (text == null) {
+      return false;
+    }
+    boolean hasConsonant = false;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (Character.isWhitespace(c)) {
+        continue;
+      }
+      if (c < COMPAT_FIRST || c > COMPAT_LAST_CONSONANT) {
+        return false;
+      }
+      hasConsonant = true;
+    }
+    return hasConsonant;
+  }
+
+  private static boolean isSyllable(char c) {
+    return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+  }
+
+  private static boolean isCompatJamo(char c) {
+    return c >= COMPAT_FIRST && c <= COMPAT_LAST;
+  }
+
+  // 낱자 두 개 -> 호환 자모 겹자모 (ㄱㅅ -> ㄳ, ㅗㅏ -> ㅘ)
+  private static char compound(String pair) {
+    return switch (pair) {
+      case "ㄱㅅ" -> 'ㄳ';
+      case "ㄴㅈ" -> 'ㄵ';
+      case "ㄴㅎ" -> 'ㄶ';
+      case "ㄹㄱ" -> 'ㄺ';
+      case "ㄹㅁ" -> 'ㄻ';
+      case "ㄹㅂ" -> 'ㄼ';
+      case "ㄹㅅ" -> 'ㄽ';
+      case "ㄹㅌ" -> 'ㄾ';
+      case "ㄹㅍ" -> 'ㄿ';
+      case "ㄹㅎ" -> 'ㅀ';
+      case "ㅂㅅ" -> 'ㅄ';
+      case "ㅗㅏ" -> 'ㅘ';
+      case "ㅗㅐ" -> 'ㅙ';
+      case "ㅗㅣ" -> 'ㅚ';
+      case "ㅜㅓ" -> 'ㅝ';
+      case "ㅜㅔ" -> 'ㅞ';
+      case "ㅜㅣ" -> 'ㅟ';
+      case "ㅡㅣ" -> 'ㅢ';
+      default -> throw new IllegalArgumentException("겹자모가 아닙니다: " + pair);
+    };
+  }
+}
@@ -0,0 +1,184 @@
+package com.project.savingbee.util;
+
+import java.text.Normalizer;
+import java.text.Normalizer.Form;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 검색/비교용 문자열 정규화
+ * <p>
+ * NFKC 호환 분해(전각 → 반각, ㈜ → (주) 등), 소문자 변환, 공백/문장부호 제거를 클래스 로딩 시 BMP 전체에 대해 한 번
+ * 계산해 글자별 변환 표로 만들어 둔다. 정규화는 표를 한 번씩 찾아 재사용 버퍼에 쓰기만 하므로 {@link Normalizer}나 정규식을
+ * 매번 호출하지 않고, 이미 정규화된 문자열은 새로 만들지 않고 그대로 돌려준다. 한글 음절과 호환 자모(ㄱ, ㅏ)는 초성/자모
+ * 검색을 위해 그대로 두고, 첫가끝 자모(NFD 입력)는 완성형 음절로 합친다.
+ */
+public final class TextNormalizer {
+
+  private static final char DROP = '\0';
+  private static final char EXPAND = '\uFFFF'; // 두 글자 이상으로 바뀌는 글자 (EXPANSIONS 참조)
+
+  // 첫가끝 자모 (초성 19, 중성 21, 종성 27)
+  private static final char L_BASE = '\u1100';
+  private static final char V_BASE = '\u1161';
+  private static final char T_BASE = '\u11A7';
+  private static final int L_COUNT = 19;
+  private static final int V_COUNT = 21;
+  private static final int T_COUNT = 28;
+  private static final char SYLLABLE_BASE = '가';
+
+  // 글자 -> 정규화된 글자 (DROP: 제거, EXPAND: 여러 글자)
+  private static final char[] FOLD = new char[Character.MAX_VALUE + 1];
+  private static final Map<Character, String> EXPANSIONS = new HashMap<>();
+
+  private static final ThreadLocal<StringBuilder> BUFFER =
+      ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+  static {
+    for (int c = 0; c <= Character.MAX_VALUE; c++) {
+      FOLD[c] = fold((char) c);
+    }
+  }
+
+  private TextNormalizer() {
+  }
+
+  /**
+   * 정규화된 문자열 (null이면 빈 문자열, 바뀔 글자가 없으면 입력 그대로)
+   */
+  public static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    if (isNormalized(text)) {
+      return text;
+    }
+
+    StringBuilder buffer = BUFFER.get();
+    buffer.setLength(0);
+    normalize(text, buffer);
+    return buffer.toString();
+  }
+
+  /**
+   * 정규화 결과를 out 뒤에 이어 쓴다 (호출자가 버퍼를 재사용할 때)
+   */
+  public static void normalize(CharSequence text, StringBuilder out) {
+    int length = text.length();
+    for (int i = 0; i < length; i++) {
+      char c = text.charAt(i);
+
+      // 첫가끝 초성 + 중성 (+ 종성) -> 완성형 음절
+      if (isLeading(c) && i + 1 < length && isVowel(text.charAt(i + 1))) {
+        int syllable = ((c - L_BASE) * V_COUNT + (text.charAt(i + 1) - V_BASE)) * T_COUNT;
+        i++;
+        if (i + 1 < length && isTrailing(text.charAt(i + 1))) {
+          syllable += text.charAt(i + 1) - T_BASE;
+          i++;
+        }
+        out.append((char) (SYLLABLE_BASE + syllable));
+        continue;
+      }
+
+      char folded = FOLD[c];
+      if (folded == EXPAND) {
+        out.append(EXPANSIONS.get(c));
+      } else if (folded != DROP) {
+        out.append(folded);
+      }
+    }
+  }
+
+  /**
+   * text를 정규화한 결과에 이미 정규화된 검색어가 포함되는지 (정규화 결과 문자열을 만들지 않음)
+   */
+  public static boolean contains(String text, String normalizedQuery) {
+    if (text == null) {
+      return false;
+    }
+    if (isNormalized(text)) {
+      return text.contains(normalizedQuery);
+    }
+
+    StringBuilder buffer = BUFFER.get();
+    buffer.setLength(0);
+    normalize(text, buffer);
+    return buffer.indexOf(normalizedQuery) >= 0;
+  }
+
+  /**
+   * 정규화해도 바뀌지 않는 문자열인지
+   */
+  public static boolean isNormalized(CharSequence text) {
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (FOLD[c] != c || c == DROP || isLeading(c)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // 글자 하나의 정규화 결과 (클래스 로딩 시 표 생성용)
+  private static char fold(char c) {
+    if (Character.isSurrogate(c)) {
+      return c; // 보조 평면 글자는 변환하지 않음
+    }
+    if (isRemoved(c)) {
+      return DROP;
+    }
+    if (c >= 'ㄱ' && c <= 'ㆎ') {
+      return c; // 호환 자모는 NFKC에서 첫가끝 자모로 바뀌므로 그대로 유지
+    }
+    if ((c >= '가' && c <= '힣') || (c >= '\u4E00' && c <= '\u9FFF')) {
+      return c; // 한글 음절, 한자는 NFKC 결과가 자기 자신 (표 생성 시간 단축)
+    }
+
+    String normalized = Normalizer.normalize(String.valueOf(c), Form.NFKC)
+        .toLowerCase(Locale.ROOT);
+    StringBuilder kept = new StringBuilder(normalized.length());
+    for (int i = 0; i < normalized.length(); i++) {
+      char n = normalized.charAt(i);
+      if (!isRemoved(n)) {
+        kept.append(n);
+      }
+    }
+
+    if (kept.isEmpty()) {
+      return DROP;
+    }
+    if (kept.length() == 1 && kept.charAt(0) != EXPAND) {
+      return kept.charAt(0);
+    }
+    EXPANSIONS.put(c, kept.toString());
+    return EXPAND;
+  }
+
+  // 공백, 제어 문자, 문장부호
+  private static boolean isRemoved(char c) {
+    if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+      return true;
+    }
+    return switch (Character.getType(c)) {
+      case Character.CONTROL, Character.FORMAT,
+           Character.CONNECTOR_PUNCTUATION, Character.DASH_PUNCTUATION,
+           Character.START_PUNCTUATION, Character.END_PUNCTUATION,
+           Character.INITIAL_QUOTE_PUNCTUATION, Character.FINAL_QUOTE_PUNCTUATION,
+           Character.OTHER_PUNCTUATION -> true;
+      default -> false;
+    };
+  }
+
+  private static boolean isLeading(char c) {
+    return c >= L_BASE && c < L_BASE + L_COUNT;
+  }
+
+  private static boolean isVowel(char c) {
+    return c >= V_BASE && c < V_BASE + V_COUNT;
+  }
+
+  private static boolean isTrailing(char c) {
+    return c > T_BASE && c < T_BASE + T_COUNT;
+  }
+}
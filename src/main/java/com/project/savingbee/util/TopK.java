@@ -0,0 +1,136 @@
+package com.project.savingbee.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * 상위 k개 선택 유틸 (전체 정렬 없이 앞쪽 페이지/상위 N개만 필요한 경우)
+ * <p>
+ * 크기 k의 힙에 지금까지의 상위 k개 인덱스만 유지하므로 O(n log k) 시간, O(k) 메모리로 끝난다. 결과는 순위 순이며, 순위가
+ * 같으면 입력 순서를 유지한다 ({@link List#sort}와 같은 안정 정렬 결과의 앞 k개).
+ */
+public final class TopK {
+
+  private TopK() {
+  }
+
+  /**
+   * 정수 키 내림차순 상위 k개
+   */
+  public static <T> List<T> largest(List<T> items, ToIntFunction<? super T> key, int k) {
+    int[] keys = keysOf(items, key);
+    return pick(items, select(items.size(), k, (a, b) -> Integer.compare(keys[b], keys[a])));
+  }
+
+  /**
+   * 정수 키 오름차순 상위 k개
+   */
+  public static <T> List<T> smallest(List<T> items, ToIntFunction<? super T> key, int k) {
+    int[] keys = keysOf(items, key);
+    return pick(items, select(items.size(), k, (a, b) -> Integer.compare(keys[a], keys[b])));
+  }
+
+  /**
+   * 비교자 순서 상위 k개 (정수 키로 표현하기 어려운 복합 정렬용)
+   */
+  public static <T> List<T> first(List<T> items, Comparator<? super T> order, int k) {
+    return pick(items, select(items.size(), k,
+        (a, b) -> order.compare(items.get(a), items.get(b))));
+  }
+
+  private static <T> int[] keysOf(List<T> items, ToIntFunction<? super T> key) {
+    int[] keys = new int[items.size()];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = key.applyAsInt(items.get(i));
+    }
+    return keys;
+  }
+
+  private static <T> List<T> pick(List<T> items, int[] indexes) {
+    List<T> picked = new ArrayList<>(indexes.length);
+    for (int index : indexes) {
+      picked.add(items.get(index));
+    }
+    return picked;
+  }
+
+  // 인덱스 순위 비교 (음수면 a가 앞)
+  @FunctionalInterface
+  private interface IndexOrder {
+
+    int compare(int a, int b);
+  }
+
+  /**
+   * 0..n-1 중 순위 상위 k개 인덱스 (순위 순, 동률이면 인덱스 순)
+   */
+  private static int[] select(int n, int k, IndexOrder order) {
+    int size = Math.max(0, Math.min(k, n));
+    if (size == 0) {
+      return new int[0];
+    }
+
+    // 최대 힙 - 루트가 유지 중인 k개 중 순위가 가장 낮은 인덱스
+    IndexOrder rank = (a, b) -> {
+      int c = order.compare(a, b);
+      return c != 0 ? c : Integer.compare(a, b);
+    };
+    int[] heap = new int[size];
+    int count = 0;
+    for (int i = 0; i < n; i++) {
+      if (count < size) {
+        heap[count] = i;
+        siftUp(heap, count++, rank);
+      } else if (rank.compare(i, heap[0]) < 0) {
+        heap[0] = i;
+        siftDown(heap, count, rank);
+      }
+    }
+
+    // 순위가 낮은 것부터 꺼내 뒤에서부터 채움
+    int[] result = new int[size];
+    for (int last = size - 1; last >= 0; last--) {
+      result[last] = heap[0];
+      heap[0] = heap[last];
+      siftDown(heap, last, rank);
+    }
+    return result;
+  }
+
+  private static void siftUp(int[] heap, int pos, IndexOrder rank) {
+    int item = heap[pos];
+    while (pos > 0) {
+      int parent = (pos - 1) >>> 1;
+      if (rank.compare(item, heap[parent]) <= 0) {
+        break;
+      }
+      heap[pos] = heap[parent];
+      pos = parent;
+    }
+    heap[pos] = item;
+  }
+
+  private static void siftDown(int[] heap, int count, IndexOrder rank) {
+    if (count == 0) {
+      return;
+    }
+    int item = heap[0];
+    int pos = 0;
+    int half = count >>> 1;
+    while (pos < half) {
+      int child = 2 * pos + 1;
+      int right = child + 1;
+      if (right < count && rank.compare(heap[right], heap[child]) > 0) {
+        child = right;
+      }
+      if (rank.compare(item, heap[child]) >= 0) {
+        break;
+      }
+      heap[pos] = heap[child];
+      pos = child;
+    }
+    heap[pos] = item;
+  }
+}
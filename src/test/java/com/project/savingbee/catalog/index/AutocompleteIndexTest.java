@@ -0,0 +1,78 @@
+package com.project.savingbee.catalog.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogRate;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.catalog.model.ProductKind;
+import com.project.savingbee.catalog.model.Suggestion;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("자동완성 trie 테스트")
+class AutocompleteIndexTest {
+
+  private AutocompleteIndex autocompleteIndex;
+
+  @BeforeEach
+  void setUp() {
+    List<CatalogProduct> products = new ArrayList<>();
+    products.add(product(products.size(), ProductKind.DEPOSIT, "D001", "카카오 정기예금",
+        "카카오뱅크", 300, true));
+    products.add(product(products.size(), ProductKind.DEPOSIT, "D002", "정기예금", "국민은행", 350,
+        true));
+    products.add(product(products.size(), ProductKind.DEPOSIT, "D003", "카카오 중단예금",
+        "카카오뱅크", 900, false));
+    products.add(product(products.size(), ProductKind.SAVING, "S001", "카카오 자유적금",
+        "카카오뱅크", 420, true));
+    products.add(product(products.size(), ProductKind.SAVING, "S002", "정기적금", "국민은행", 380,
+        true));
+
+    autocompleteIndex = new AutocompleteIndex();
+    autocompleteIndex.rebuild(new CatalogSnapshot(1L, LocalDateTime.now(), products));
+  }
+
+  @Test
+  @DisplayName("접두사 자동완성 - 금리 높은 순, 금융회사 후보 포함")
+  void suggestByPrefix() {
+    List<Suggestion> suggestions = autocompleteIndex.suggest("카카오", 10);
+
+    // 카카오뱅크(최고 4.20) = 카카오 자유적금(4.20) → 이름 순, 비활성 상품 제외
+    assertThat(suggestions).extracting(Suggestion::text)
+        .containsExactly("카카오 자유적금", "카카오뱅크", "카카오 정기예금");
+    assertThat(suggestions.get(1).type()).isEqualTo(Suggestion.COMPANY);
+    assertThat(suggestions.get(1).maxIntrRate()).isEqualByComparingTo("4.20");
+  }
+
+  @Test
+  @DisplayName("입력 중인 음절과 초성으로 자동완성")
+  void suggestByPartialSyllableAndChosung() {
+    assertThat(autocompleteIndex.suggest("정기저", 10)).extracting(Suggestion::finPrdtCd)
+        .containsExactly("S002");
+    assertThat(autocompleteIndex.suggest("정ㄱ", 10)).extracting(Suggestion::finPrdtCd)
+        .containsExactly("S002", "D002");
+    assertThat(autocompleteIndex.suggest("ㅈㄱㅈ", 10)).extracting(Suggestion::finPrdtCd)
+        .containsExactly("S002");
+    assertThat(autocompleteIndex.suggest("카카오 자", 10)).extracting(Suggestion::finPrdtCd)
+        .containsExactly("S001");
+  }
+
+  @Test
+  @DisplayName("limit 만큼만 반환")
+  void suggestRespectsLimit() {
+    assertThat(autocompleteIndex.suggest("ㅋ", 2)).hasSize(2);
+    assertThat(autocompleteIndex.suggest("", 10)).isEmpty();
+    assertThat(autocompleteIndex.suggest("없는상품", 10)).isEmpty();
+  }
+
+  private CatalogProduct product(int id, ProductKind kind, String code, String name,
+      String company, int maxRateBp, boolean active) {
+    CatalogRate rate = new CatalogRate("S", null, 12, maxRateBp - 50, maxRateBp);
+    return CatalogProduct.of(id, kind, code, name, "0010001", company, active, List.of(rate));
+  }
+}
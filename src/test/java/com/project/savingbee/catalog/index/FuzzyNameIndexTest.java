@@ -0,0 +1,83 @@
+package com.project.savingbee.catalog.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.savingbee.catalog.index.FuzzyNameIndex.FuzzyMatch;
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.catalog.model.ProductKind;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("오타 허용 BK-tree 테스트")
+class FuzzyNameIndexTest {
+
+  private FuzzyNameIndex fuzzyNameIndex;
+
+  @BeforeEach
+  void setUp() {
+    List<CatalogProduct> products = new ArrayList<>();
+    products.add(product(products.size(), ProductKind.DEPOSIT, "D001", "WON플러스예금", true));
+    products.add(product(products.size(), ProductKind.DEPOSIT, "D002", "정기예금", true));
+    products.add(product(products.size(), ProductKind.DEPOSIT, "D003", "정기예금 플러스", false));
+    products.add(product(products.size(), ProductKind.SAVING, "S001", "자유적금", true));
+    products.add(product(products.size(), ProductKind.SAVING, "S002", "청년 도약계좌", true));
+
+    fuzzyNameIndex = new FuzzyNameIndex();
+    fuzzyNameIndex.rebuild(new CatalogSnapshot(1L, LocalDateTime.now(), products));
+  }
+
+  @Test
+  @DisplayName("모음 오타 - 정기애금 → 정기예금")
+  void searchVowelTypo() {
+    List<FuzzyMatch> matches = fuzzyNameIndex.search("정기애금");
+
+    assertThat(matches).extracting(match -> match.product().finPrdtCd())
+        .containsExactly("D002");
+    assertThat(matches.get(0).distance()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("단어 단위 매칭 - 플러스예긍 → WON플러스예금")
+  void searchWordTypo() {
+    assertThat(fuzzyNameIndex.search("플러스예긍"))
+        .extracting(match -> match.product().finPrdtCd())
+        .containsExactly("D001");
+    assertThat(fuzzyNameIndex.search("도야계좌"))
+        .extracting(match -> match.product().finPrdtCd())
+        .containsExactly("S002");
+  }
+
+  @Test
+  @DisplayName("거리 가까운 순 정렬")
+  void searchOrderedByDistance() {
+    // 자유적금(0) → 정기예금 등은 허용 거리 밖
+    List<FuzzyMatch> matches = fuzzyNameIndex.search("자유적금");
+    assertThat(matches).extracting(FuzzyMatch::distance).isSorted();
+    assertThat(matches.get(0).product().finPrdtCd()).isEqualTo("S001");
+  }
+
+  @Test
+  @DisplayName("짧은 검색어, 허용 거리 초과 제외")
+  void searchRejectsShortOrDistantQuery() {
+    assertThat(fuzzyNameIndex.search("예")).isEmpty();
+    assertThat(fuzzyNameIndex.search("주택청약종합저축")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("편집 거리 계산")
+  void levenshtein() {
+    assertThat(FuzzyNameIndex.Levenshtein.distance("kitten", "sitting")).isEqualTo(3);
+    assertThat(FuzzyNameIndex.Levenshtein.distance("", "abc")).isEqualTo(3);
+    assertThat(FuzzyNameIndex.Levenshtein.distance("abc", "abc")).isZero();
+  }
+
+  private CatalogProduct product(int id, ProductKind kind, String code, String name,
+      boolean active) {
+    return CatalogProduct.of(id, kind, code, name, "0010001", "테스트은행", active, List.of());
+  }
+}
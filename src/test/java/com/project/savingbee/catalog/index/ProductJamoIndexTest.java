@@ -0,0 +1,91 @@
+package com.project.savingbee.catalog.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.catalog.model.ProductKind;
+import com.project.savingbee.util.HangulJamo;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("초성/자모 인덱스 테스트")
+class ProductJamoIndexTest {
+
+  private ProductJamoIndex productJamoIndex;
+
+  @BeforeEach
+  void setUp() {
+    List<CatalogProduct> products = new ArrayList<>();
+    products.add(product(products.size(), ProductKind.DEPOSIT, "D001", "세이프박스", "카카오뱅크", true));
+    products.add(product(products.size(), ProductKind.DEPOSIT, "D002", "정기예금", "국민은행", true));
+    products.add(product(products.size(), ProductKind.DEPOSIT, "D003", "중단된예금", "카카오뱅크", false));
+    products.add(product(products.size(), ProductKind.SAVING, "S001", "자유적금", "카카오뱅크", true));
+    products.add(product(products.size(), ProductKind.SAVING, "S002", "청년 도약계좌", "우리은행", true));
+
+    productJamoIndex = new ProductJamoIndex();
+    productJamoIndex.rebuild(new CatalogSnapshot(1L, LocalDateTime.now(), products));
+  }
+
+  @Test
+  @DisplayName("초성/자모 분해")
+  void decompose() {
+    assertThat(HangulJamo.chosung("카카오뱅크")).isEqualTo("ㅋㅋㅇㅂㅋ");
+    assertThat(HangulJamo.decompose("뱅크")).isEqualTo("ㅂㅐㅇㅋㅡ");
+    // 겹받침, 이중모음은 낱자로 분해
+    assertThat(HangulJamo.decompose("닭과")).isEqualTo("ㄷㅏㄹㄱㄱㅗㅏ");
+    assertThat(HangulJamo.decompose("ㄺㅘ")).isEqualTo("ㄹㄱㅗㅏ");
+    assertThat(HangulJamo.isChosungOnly("ㅋㅋ ㅂㅋ")).isTrue();
+    assertThat(HangulJamo.isChosungOnly("카카ㅇ")).isFalse();
+  }
+
+  @Test
+  @DisplayName("초성 검색 - 금융회사명")
+  void searchChosungByCompany() {
+    assertThat(productJamoIndex.search("ㅋㅋㅇㅂㅋ")).extracting(CatalogProduct::finPrdtCd)
+        .containsExactly("D001", "S001");
+  }
+
+  @Test
+  @DisplayName("초성 검색 - 상품명 (공백 무시)")
+  void searchChosungByProductName() {
+    assertThat(productJamoIndex.search("ㅈㄱㅇㄱ")).extracting(CatalogProduct::finPrdtCd)
+        .containsExactly("D002");
+    assertThat(productJamoIndex.search("ㅊㄴ ㄷㅇ")).extracting(CatalogProduct::finPrdtCd)
+        .containsExactly("S002");
+  }
+
+  @Test
+  @DisplayName("입력 중인 음절 검색")
+  void searchPartialSyllable() {
+    // 카카ㅇ → 카카오, 적그 → 적금, 도야 → 도약
+    assertThat(productJamoIndex.search("카카ㅇ")).extracting(CatalogProduct::finPrdtCd)
+        .containsExactly("D001", "S001");
+    assertThat(productJamoIndex.search("적그")).extracting(CatalogProduct::finPrdtCd)
+        .containsExactly("S001");
+    assertThat(productJamoIndex.search("도야")).extracting(CatalogProduct::finPrdtCd)
+        .containsExactly("S002");
+  }
+
+  @Test
+  @DisplayName("상품명과 금융회사명에 걸친 매칭 제외")
+  void searchDoesNotSpanFields() {
+    // "세이프박스" + "카카오뱅크" 경계의 "스카"
+    assertThat(productJamoIndex.search("ㅅㅋ")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("비활성 상품 제외")
+  void searchExcludesInactive() {
+    assertThat(productJamoIndex.search("ㅈㄷ")).isEmpty();
+  }
+
+  private CatalogProduct product(int id, ProductKind kind, String code, String name,
+      String company, boolean active) {
+    return CatalogProduct.of(id, kind, code, name, "0010001", company, active, List.of());
+  }
+}
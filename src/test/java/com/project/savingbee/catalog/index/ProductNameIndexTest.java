@@ -0,0 +1,96 @@
+package com.project.savingbee.catalog.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.catalog.model.ProductKind;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("상품명 n-gram 인덱스 테스트")
+class ProductNameIndexTest {
+
+  private ProductNameIndex productNameIndex;
+
+  @BeforeEach
+  void setUp() {
+    List<CatalogProduct> products = new ArrayList<>();
+    products.add(product(products.size(), ProductKind.DEPOSIT, "D001", "WON플러스예금", true));
+    products.add(product(products.size(), ProductKind.DEPOSIT, "D002", "정기예금", true));
+    products.add(product(products.size(), ProductKind.DEPOSIT, "D003", "중단된예금", false));
+    products.add(product(products.size(), ProductKind.SAVING, "S001", "자유적금", true));
+    products.add(product(products.size(), ProductKind.SAVING, "S002", "예적금통장", true));
+
+    productNameIndex = new ProductNameIndex();
+    productNameIndex.rebuild(new CatalogSnapshot(1L, LocalDateTime.now(), products));
+  }
+
+  @Test
+  @DisplayName("부분 문자열 검색 - 예금 → 적금 순")
+  void searchSubstring() {
+    List<CatalogProduct> results = productNameIndex.search("예금");
+
+    assertThat(results).extracting(CatalogProduct::finPrdtCd)
+        .containsExactly("D001", "D002");
+  }
+
+  @Test
+  @DisplayName("대소문자 무시")
+  void searchIgnoreCase() {
+    assertThat(productNameIndex.search("won플러스"))
+        .extracting(CatalogProduct::finPrdtCd)
+        .containsExactly("D001");
+  }
+
+  @Test
+  @DisplayName("전각 문자, 공백, 문장부호 무시")
+  void searchNormalized() {
+    assertThat(productNameIndex.search("ＷＯＮ 플러스")).extracting(CatalogProduct::finPrdtCd)
+        .containsExactly("D001");
+    assertThat(productNameIndex.search("정기-예금!")).extracting(CatalogProduct::finPrdtCd)
+        .containsExactly("D002");
+  }
+
+  @Test
+  @DisplayName("bigram이 모두 있어도 연속되지 않으면 제외")
+  void searchRequiresContiguousMatch() {
+    // "예적금통장"에는 "예적", "적금"이 있지만 "예적금"만 포함
+    assertThat(productNameIndex.search("적금")).extracting(CatalogProduct::finPrdtCd)
+        .containsExactly("S001", "S002");
+    assertThat(productNameIndex.search("예금적")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("비활성 상품 제외")
+  void searchExcludesInactive() {
+    assertThat(productNameIndex.search("중단")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("한 글자 검색")
+  void searchSingleCharacter() {
+    assertThat(productNameIndex.search("통")).extracting(CatalogProduct::finPrdtCd)
+        .containsExactly("S002");
+  }
+
+  @Test
+  @DisplayName("재구성 시 새 스냅샷으로 교체")
+  void rebuildSwapsIndex() {
+    productNameIndex.rebuild(new CatalogSnapshot(2L, LocalDateTime.now(),
+        List.of(product(0, ProductKind.SAVING, "S100", "청년도약적금", true))));
+
+    assertThat(productNameIndex.search("예금")).isEmpty();
+    assertThat(productNameIndex.search("도약")).extracting(CatalogProduct::finPrdtCd)
+        .containsExactly("S100");
+  }
+
+  private CatalogProduct product(int id, ProductKind kind, String code, String name,
+      boolean active) {
+    return CatalogProduct.of(id, kind, code, name, "0010001", "테스트은행", active, List.of());
+  }
+}
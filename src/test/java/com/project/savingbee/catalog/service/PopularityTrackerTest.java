@@ -0,0 +1,152 @@
+package com.project.savingbee.catalog.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.project.savingbee.catalog.service.PopularityTracker.PopularProduct;
+import com.project.savingbee.common.entity.ProductPopularity;
+import com.project.savingbee.common.repository.ProductPopularityRepository;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("상품 인기도 추적 테스트")
+class PopularityTrackerTest {
+
+  @Mock
+  private ProductPopularityRepository productPopularityRepository;
+
+  private final AtomicLong now = new AtomicLong(1_000_000L);
+
+  private PopularityTracker popularityTracker;
+
+  @BeforeEach
+  void setUp() {
+    popularityTracker = new PopularityTracker(productPopularityRepository, now::get);
+  }
+
+  @Test
+  @DisplayName("조회/검색 노출 가중치로 상위 k개")
+  void topKByViewsAndSearchHits() {
+    view("A", 3);
+    view("B", 1);
+    for (int i = 0; i < 20; i++) {
+      popularityTracker.recordSearchHit("C"); // 0.2 * 20 = 4
+    }
+
+    List<PopularProduct> top = popularityTracker.topK(2);
+
+    assertThat(top).extracting(PopularProduct::finPrdtCd).containsExactly("C", "A");
+    assertThat(top.get(0).score()).isCloseTo(4.0, within(1e-9));
+  }
+
+  @Test
+  @DisplayName("반감기가 지나면 이전 조회 점수가 절반")
+  void scoresDecayOverTime() {
+    view("OLD", 4);
+    now.addAndGet(PopularityTracker.HALF_LIFE_MILLIS * 2); // 4 -> 1
+    view("NEW", 2);
+
+    List<PopularProduct> top = popularityTracker.topK(2);
+
+    assertThat(top).extracting(PopularProduct::finPrdtCd).containsExactly("NEW", "OLD");
+    assertThat(top.get(1).score()).isCloseTo(1.0, within(1e-9));
+  }
+
+  @Test
+  @DisplayName("후보 수는 용량 이내로 유지")
+  void candidatesBoundedByCapacity() {
+    for (int i = 0; i < PopularityTracker.CAPACITY * 3; i++) {
+      popularityTracker.recordView("P" + i);
+    }
+    popularityTracker.maintain();
+
+    // 정리 후에는 기존 후보보다 점수가 높아져야 진입
+    view("HOT", 10);
+    popularityTracker.maintain();
+
+    List<PopularProduct> all = popularityTracker.topK(PopularityTracker.CAPACITY * 3);
+    assertThat(all).hasSizeLessThanOrEqualTo(PopularityTracker.CAPACITY);
+    assertThat(all.get(0).finPrdtCd()).isEqualTo("HOT");
+  }
+
+  @Test
+  @DisplayName("동시 기록 시 누락 없음")
+  void concurrentRecords() throws InterruptedException {
+    view("A", 1); // 후보로 먼저 등록
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    for (int t = 0; t < 8; t++) {
+      executor.submit(() -> view("A", 1000));
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(popularityTracker.topK(1).get(0).score()).isCloseTo(8001.0, within(1e-6));
+  }
+
+  @Test
+  @DisplayName("스냅샷 저장 후 복원")
+  void persistAndRestoreSnapshot() {
+    view("A", 2);
+    popularityTracker.persistSnapshot();
+    then(productPopularityRepository).should().deleteAllInBatch();
+    ArgumentCaptor<List<ProductPopularity>> captor = ArgumentCaptor.forClass(List.class);
+    then(productPopularityRepository).should().saveAll(captor.capture());
+    // 새 엔터티로 표시되어 merge 조회 없이 insert
+    assertThat(captor.getValue()).singleElement()
+        .satisfies(popularity -> assertThat(popularity.isNew()).isTrue());
+
+    given(productPopularityRepository.findAll()).willReturn(List.of(
+        ProductPopularity.builder().finPrdtCd("A").score(2.0).build()));
+    PopularityTracker restored = new PopularityTracker(productPopularityRepository, now::get);
+    restored.restoreSnapshot();
+
+    assertThat(restored.topK(1)).extracting(PopularProduct::finPrdtCd).containsExactly("A");
+    assertThat(restored.topK(1).get(0).score()).isCloseTo(2.0, within(1e-9));
+  }
+
+  @Test
+  @DisplayName("복원 시 저장 이후 경과 시간만큼 감쇠, 점수 높은 순으로 용량만큼")
+  void restoreDecaysBySavedAt() {
+    LocalDateTime savedAt = LocalDateTime.ofInstant(
+        Instant.ofEpochMilli(now.get()), ZoneId.systemDefault());
+    List<ProductPopularity> saved = new ArrayList<>();
+    saved.add(ProductPopularity.builder().finPrdtCd("LOW").score(0.5).savedAt(savedAt).build());
+    for (int i = 0; i < PopularityTracker.CAPACITY; i++) {
+      saved.add(ProductPopularity.builder().finPrdtCd("P" + i).score(1.0 + i).savedAt(savedAt)
+          .build());
+    }
+    given(productPopularityRepository.findAll()).willReturn(saved);
+
+    now.addAndGet(PopularityTracker.HALF_LIFE_MILLIS); // 저장 후 반감기 1회 경과
+    PopularityTracker restored = new PopularityTracker(productPopularityRepository, now::get);
+    restored.restoreSnapshot();
+
+    // 맨 앞의 가장 낮은 점수가 용량 밖으로 밀려남
+    assertThat(restored.scoreOf("LOW")).isZero();
+    assertThat(restored.topK(1).get(0).finPrdtCd()).isEqualTo("P511");
+    assertThat(restored.scoreOf("P511")).isCloseTo(256.0, within(1e-9));
+  }
+
+  private void view(String productCode, int count) {
+    for (int i = 0; i < count; i++) {
+      popularityTracker.recordView(productCode);
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package com.project.savingbee.catalog.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.catalog.model.ProductKind;
+import com.project.savingbee.catalog.service.PopularityTracker;
+import com.project.savingbee.catalog.service.ProductCatalog;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("카탈로그 ETag 인터셉터 테스트")
+class CatalogETagInterceptorTest {
+
+  private static final LocalDateTime BUILT_AT = LocalDateTime.of(2025, 1, 1, 3, 0);
+
+  @Mock
+  private ProductCatalog productCatalog;
+
+  @Mock
+  private PopularityTracker popularityTracker;
+
+  @Test
+  @DisplayName("파라미터 순서와 관계없이 같은 ETag, 버전이 바뀌면 다른 ETag")
+  void etagStableAcrossParameterOrder() {
+    MockHttpServletRequest first = request("/products/filter/deposit");
+    first.addParameter("q", "예금");
+    first.addParameter("page", "1");
+    MockHttpServletRequest second = request("/products/filter/deposit");
+    second.addParameter("page", "1");
+    second.addParameter("q", "예금");
+
+    String etag = CatalogETagInterceptor.etagOf(snapshot(1L), first);
+
+    assertThat(CatalogETagInterceptor.etagOf(snapshot(1L), second)).isEqualTo(etag);
+    assertThat(CatalogETagInterceptor.etagOf(snapshot(2L), first)).isNotEqualTo(etag);
+    assertThat(etag).startsWith("\"v1-").endsWith("\"");
+  }
+
+  @Test
+  @DisplayName("If-None-Match가 같으면 304로 끝냄")
+  void notModified() {
+    given(productCatalog.current()).willReturn(snapshot(1L));
+    CatalogETagInterceptor interceptor =
+        new CatalogETagInterceptor(productCatalog, popularityTracker);
+    String etag = CatalogETagInterceptor.etagOf(snapshot(1L), request("/products/D001"));
+
+    MockHttpServletRequest request = request("/products/D001");
+    request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    assertThat(interceptor.preHandle(request, response, new Object())).isFalse();
+    assertThat(response.getStatus()).isEqualTo(304);
+    assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+  }
+
+  @Test
+  @DisplayName("상품 상세는 매번 재검증하고 304로 끝나도 활성 상품 조회수 반영")
+  void notModifiedDetailRecordsView() {
+    given(productCatalog.current()).willReturn(snapshot(1L));
+    given(productCatalog.find("D001")).willReturn(Optional.of(product("D001", true)));
+    given(productCatalog.find("D002")).willReturn(Optional.of(product("D002", false)));
+    CatalogETagInterceptor interceptor =
+        new CatalogETagInterceptor(productCatalog, popularityTracker);
+
+    for (String code : List.of("D001", "D002")) {
+      MockHttpServletRequest request = detailRequest(code);
+      request.addHeader(HttpHeaders.IF_NONE_MATCH,
+          CatalogETagInterceptor.etagOf(snapshot(1L), detailRequest(code)));
+      MockHttpServletResponse response = new MockHttpServletResponse();
+
+      assertThat(interceptor.preHandle(request, response, new Object())).isFalse();
+      assertThat(response.getStatus()).isEqualTo(304);
+      assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL))
+          .isEqualTo(CatalogETagInterceptor.NO_CACHE);
+    }
+
+    // 판매 중단 상품은 상세 조회와 같이 집계하지 않음
+    then(popularityTracker).should().recordView("D001");
+    then(popularityTracker).shouldHaveNoMoreInteractions();
+  }
+
+  @Test
+  @DisplayName("카탈로그 구성 전이나 GET이 아니면 그대로 진행")
+  void skipWhenNotCacheable() {
+    given(productCatalog.current()).willReturn(CatalogSnapshot.EMPTY);
+    CatalogETagInterceptor interceptor =
+        new CatalogETagInterceptor(productCatalog, popularityTracker);
+    MockHttpServletRequest request = request("/products/D001");
+    request.addHeader(HttpHeaders.IF_NONE_MATCH, "*");
+
+    assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), new Object())).isTrue();
+
+    MockHttpServletRequest post = new MockHttpServletRequest("POST", "/api/compare");
+    assertThat(interceptor.preHandle(post, new MockHttpServletResponse(), new Object())).isTrue();
+  }
+
+  @Test
+  @DisplayName("max-age는 다음 정기 수집 시각까지, 최대 1시간")
+  void cacheControlUntilNextIngest() {
+    assertThat(CatalogETagInterceptor.cacheControl(LocalDateTime.of(2025, 1, 1, 2, 50)))
+        .isEqualTo("max-age=600, must-revalidate");
+    assertThat(CatalogETagInterceptor.cacheControl(LocalDateTime.of(2025, 1, 1, 12, 0)))
+        .isEqualTo("max-age=" + CatalogETagInterceptor.MAX_AGE_SECONDS + ", must-revalidate");
+  }
+
+  private static MockHttpServletRequest request(String uri) {
+    return new MockHttpServletRequest("GET", uri);
+  }
+
+  // 핸들러 매핑이 채우는 경로 변수까지 설정한 상세 조회 요청
+  private static MockHttpServletRequest detailRequest(String productCode) {
+    MockHttpServletRequest request = request("/products/" + productCode);
+    request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+        Map.of("productId", productCode));
+    return request;
+  }
+
+  private static CatalogProduct product(String productCode, boolean active) {
+    return CatalogProduct.of(0, ProductKind.DEPOSIT, productCode, productCode, "0010001", "우리은행",
+        active, List.of());
+  }
+
+  private static CatalogSnapshot snapshot(long version) {
+    return new CatalogSnapshot(version, BUILT_AT, List.of());
+  }
+}
@@ -0,0 +1,111 @@
+package com.project.savingbee.filtering.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.project.savingbee.catalog.service.ProductCatalog;
+import com.project.savingbee.common.entity.DepositProducts;
+import com.project.savingbee.common.entity.FinancialCompanies;
+import com.project.savingbee.common.entity.SavingsProducts;
+import com.project.savingbee.common.repository.DepositProductsRepository;
+import com.project.savingbee.common.repository.FinancialCompaniesRepository;
+import com.project.savingbee.common.repository.SavingsProductsRepository;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("AutocompleteController 통합 테스트")
+public class AutocompleteControllerTest {
+
+  @MockitoBean
+  private ClientRegistrationRepository clientRegistrationRepository;
+
+  @Autowired
+  private WebApplicationContext context;
+
+  private MockMvc mockMvc;
+
+  @Autowired
+  private DepositProductsRepository depositProductsRepository;
+
+  @Autowired
+  private SavingsProductsRepository savingsProductsRepository;
+
+  @Autowired
+  private FinancialCompaniesRepository financialCompaniesRepository;
+
+  @Autowired
+  private ProductCatalog productCatalog;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+    FinancialCompanies financialCompany = FinancialCompanies.builder()
+        .finCoNo("0010001")
+        .korCoNm("테스트은행")
+        .orgTypeCode("1")
+        .build();
+    financialCompaniesRepository.save(financialCompany);
+
+    depositProductsRepository.save(DepositProducts.builder()
+        .finPrdtCd("DEPOSIT001")
+        .finPrdtNm("테스트정기예금")
+        .finCoNo("0010001")
+        .financialCompany(financialCompany)
+        .joinDeny("1")
+        .isActive(true)
+        .build());
+
+    savingsProductsRepository.save(SavingsProducts.builder()
+        .finPrdtCd("SAVINGS001")
+        .finPrdtNm("테스트자유적금")
+        .finCoNo("0010001")
+        .financialCompany(financialCompany)
+        .joinDeny("1")
+        .isActive(true)
+        .build());
+
+    productCatalog.refresh();
+  }
+
+  @Test
+  @DisplayName("초성 자동완성")
+  void autocompleteByChosung() throws Exception {
+    mockMvc.perform(get("/products/autocomplete").param("q", "ㅌㅅㅌㅈ"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.suggestions.length()").value(2))
+        .andExpect(jsonPath("$.suggestions[?(@.fin_prdt_cd == 'SAVINGS001')].product_type")
+            .value("saving"));
+  }
+
+  @Test
+  @DisplayName("금융회사명 자동완성")
+  void autocompleteCompany() throws Exception {
+    mockMvc.perform(get("/products/autocomplete").param("q", "테스트으"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.suggestions.length()").value(1))
+        .andExpect(jsonPath("$.suggestions[0].type").value("company"))
+        .andExpect(jsonPath("$.suggestions[0].text").value("테스트은행"));
+  }
+
+  @Test
+  @DisplayName("limit 범위 초과")
+  void autocompleteInvalidLimit() throws Exception {
+    mockMvc.perform(get("/products/autocomplete").param("q", "테스트").param("limit", "100"))
+        .andExpect(status().isBadRequest());
+  }
+}
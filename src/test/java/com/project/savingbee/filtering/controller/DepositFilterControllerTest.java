@@ -1,7 +1,9 @@
 package com.project.savingbee.filtering.controller;
 
 import com.project.savingbee.filtering.dto.ProductSummaryResponse;
+import com.project.savingbee.filtering.enums.ExportFormat;
 import com.project.savingbee.filtering.service.DepositFilterService;
+import com.project.savingbee.filtering.service.ProductExportService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,14 +15,20 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -35,6 +43,9 @@ class DepositFilterControllerTest {
   @MockitoBean
   private DepositFilterService depositFilterService;
 
+  @MockitoBean
+  private ProductExportService productExportService;
+
   @Test
   @WithMockUser
   @DisplayName("기본 필터링 요청")
@@ -216,6 +227,39 @@ class DepositFilterControllerTest {
         .andExpect(status().isInternalServerError());
   }
 
+  @Test
+  @WithMockUser
+  @DisplayName("필터 결과 NDJSON 내보내기")
+  void testExportNdjson() throws Exception {
+    // Given
+    doAnswer(invocation -> {
+      OutputStream out = invocation.getArgument(2);
+      out.write("{\"fin_prdt_cd\":\"PROD001\"}\n".getBytes(StandardCharsets.UTF_8));
+      return 1L;
+    }).when(productExportService).exportDeposit(any(), eq(ExportFormat.NDJSON), any());
+
+    // When
+    MvcResult result = mockMvc.perform(get("/products/onlyfilter/deposit/export"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    // Then
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Disposition", containsString("deposit-products.ndjson")))
+        .andExpect(content().string("{\"fin_prdt_cd\":\"PROD001\"}\n"));
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("지원하지 않는 내보내기 형식")
+  void testExportInvalidFormat() throws Exception {
+    mockMvc.perform(get("/products/onlyfilter/deposit/export")
+            .param("format", "xml"))
+        .andDo(print())
+        .andExpect(status().isBadRequest());
+  }
+
   /**
    * 테스트용 Mock 상품 데이터 생성
    */
@@ -2,10 +2,12 @@ package com.project.savingbee.filtering.controller;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
 
+import com.project.savingbee.catalog.service.ProductCatalog;
 import com.project.savingbee.common.entity.DepositProducts;
 import com.project.savingbee.common.entity.FinancialCompanies;
 import com.project.savingbee.common.entity.SavingsProducts;
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -48,6 +51,9 @@ public class DetailControllerTest {
   @Autowired
   private FinancialCompaniesRepository financialCompaniesRepository;
 
+  @Autowired
+  private ProductCatalog productCatalog;
+
   private String testDepositId = "DEPOSIT001";
   private String testSavingsId = "SAVINGS001";
   private String testFinCoNo = "0010001";
@@ -113,5 +119,40 @@ public class DetailControllerTest {
     mockMvc.perform(get("/products/NONEXISTENT"))
         .andExpect(status().isBadRequest());
   }
-}
 
+  @Test
+  @DisplayName("같은 카탈로그 버전의 재요청은 If-None-Match로 304")
+  void getProductDetail_NotModified() throws Exception {
+    productCatalog.refresh();
+
+    String etag = mockMvc.perform(get("/products/" + testDepositId))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(HttpHeaders.ETAG))
+        // 조회수 집계를 위해 매번 재검증
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/products/" + testDepositId).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+    // 다른 상품은 다른 ETag
+    mockMvc.perform(get("/products/" + testSavingsId).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk());
+
+    // 카탈로그가 재구성되면 이전 ETag는 무효
+    productCatalog.refresh();
+    mockMvc.perform(get("/products/" + testDepositId).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  @DisplayName("오류 응답에는 ETag를 붙이지 않음")
+  void getProductDetail_NotFound_NoETag() throws Exception {
+    productCatalog.refresh();
+
+    mockMvc.perform(get("/products/NONEXISTENT"))
+        .andExpect(status().isBadRequest())
+        .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+  }
+}
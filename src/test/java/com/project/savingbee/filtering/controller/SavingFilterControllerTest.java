@@ -0,0 +1,82 @@
+package com.project.savingbee.filtering.controller;
+
+import com.project.savingbee.filtering.dto.SavingFilterRequest;
+import com.project.savingbee.filtering.enums.ExportFormat;
+import com.project.savingbee.filtering.service.ProductExportService;
+import com.project.savingbee.filtering.service.SavingFilterService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SavingFilterController.class)
+@DisplayName("적금 필터링 컨트롤러 테스트")
+class SavingFilterControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockitoBean
+  private SavingFilterService savingFilterService;
+
+  @MockitoBean
+  private ProductExportService productExportService;
+
+  @Test
+  @WithMockUser
+  @DisplayName("필터 결과 CSV 내보내기 - 적금 고유 조건 전달")
+  void testExportCsv() throws Exception {
+    // Given
+    doAnswer(invocation -> {
+      OutputStream out = invocation.getArgument(2);
+      out.write("fin_prdt_cd\nSAV001\n".getBytes(StandardCharsets.UTF_8));
+      return 1L;
+    }).when(productExportService).exportSaving(any(), eq(ExportFormat.CSV), any());
+
+    // When
+    MvcResult result = mockMvc.perform(get("/products/onlyfilter/saving/export")
+            .param("format", "csv")
+            .param("monthlyMaxLimit", "500000"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    // Then
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Disposition", containsString("saving-products.csv")))
+        .andExpect(content().string("fin_prdt_cd\nSAV001\n"));
+
+    ArgumentCaptor<SavingFilterRequest> captor = ArgumentCaptor.forClass(SavingFilterRequest.class);
+    verify(productExportService).exportSaving(captor.capture(), eq(ExportFormat.CSV), any());
+    assertThat(captor.getValue().getFilters().getMonthlyMaxLimit()).isEqualTo(500000);
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("지원하지 않는 내보내기 형식")
+  void testExportInvalidFormat() throws Exception {
+    mockMvc.perform(get("/products/onlyfilter/saving/export")
+            .param("format", "xml"))
+        .andDo(print())
+        .andExpect(status().isBadRequest());
+  }
+}
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.project.savingbee.filtering.dto.DepositFilterRequest;
+import com.project.savingbee.filtering.dto.ProductSearchResponse;
 import com.project.savingbee.filtering.dto.ProductSummaryResponse;
 import com.project.savingbee.filtering.util.KoreanParsing;
 import java.util.List;
@@ -21,6 +22,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
 
 @ExtendWith(MockitoExtension.class)
 class DepositFilterSearchServiceTest {
@@ -31,6 +33,9 @@ class DepositFilterSearchServiceTest {
   @Mock
   private KoreanParsing koreanParsing;
 
+  @Mock
+  private SearchService searchService;
+
   @InjectMocks
   private DepositFilterSearchService depositFilterSearchService;
 
@@ -124,6 +129,55 @@ class DepositFilterSearchServiceTest {
     verify(depositFilterService, times(1)).depositFilter(any()); // 필터링 서비스 호출됨
   }
 
+  @Test
+  @DisplayName("검색어만 있을 때 페이지 크기는 검색 최대 크기로 제한한다")
+  void testSearchOnlyClampsPageSize() {
+    // Given
+    testRequest.setQ("우리은행");
+    testRequest.setFilters(null);
+    testRequest.setSize(200);
+
+    ProductSearchResponse mockSearchResponse = ProductSearchResponse.builder()
+        .products(mockProductList)
+        .totalCount(mockProductList.size())
+        .searchTerm("우리은행")
+        .build();
+
+    when(searchService.searchProduct("우리은행", 1, SearchService.MAX_PAGE_SIZE))
+        .thenReturn(ResponseEntity.ok(mockSearchResponse));
+
+    // When
+    Page<ProductSummaryResponse> result = depositFilterSearchService.depositFilterWithSearch(
+        testRequest);
+
+    // Then
+    assertThat(result.getContent()).hasSize(2);
+    assertThat(result.getSize()).isEqualTo(SearchService.MAX_PAGE_SIZE);
+    verify(searchService, times(1)).searchProduct("우리은행", 1, SearchService.MAX_PAGE_SIZE);
+  }
+
+  @Test
+  @DisplayName("검색어가 너무 짧아 검색이 실패하면 빈 결과를 반환한다")
+  void testSearchOnlyWithInvalidSearchTerm() {
+    // Given
+    testRequest.setQ("우");
+    testRequest.setFilters(null);
+
+    when(searchService.searchProduct("우", 1, 10))
+        .thenReturn(ResponseEntity.badRequest().body(ProductSearchResponse.builder()
+            .message("검색어가 유효하지 않습니다.")
+            .build()));
+
+    // When
+    Page<ProductSummaryResponse> result = depositFilterSearchService.depositFilterWithSearch(
+        testRequest);
+
+    // Then
+    assertThat(result.getContent()).isEmpty();
+    assertThat(result.getTotalElements()).isEqualTo(0);
+    verify(depositFilterService, never()).depositFilter(any());
+  }
+
   /**
    * Mock 데이터 설정
    */
@@ -1,13 +1,17 @@
 package com.project.savingbee.filtering.service;
 
+import com.project.savingbee.catalog.model.ProductKind;
+import com.project.savingbee.catalog.service.ProductCatalog;
 import com.project.savingbee.common.entity.*;
 import com.project.savingbee.common.repository.DepositInterestRatesRepository;
 import com.project.savingbee.common.repository.DepositProductsRepository;
 import com.project.savingbee.common.repository.SavingsInterestRatesRepository;
 import com.project.savingbee.common.repository.SavingsProductsRepository;
 import com.project.savingbee.common.repository.FinancialCompaniesRepository;
+import com.project.savingbee.filtering.dto.ProductDetailBatchResponse;
 import com.project.savingbee.filtering.dto.ProductDetailResponse;
 import java.util.List;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -57,12 +61,21 @@ public class DetailServiceTest {
   @MockitoBean
   private SearchService searchService;
 
+  @Autowired
+  private ProductCatalog productCatalog;
+
+  @Autowired
+  private ProductDetailCache productDetailCache;
+
   private String testDepositId = "DEPOSIT001";
   private String testSavingsId = "SAVINGS001";
   private String testFinCoNo = "0010001";
 
   @BeforeEach
   void setUp() {
+    // 테스트마다 상품 데이터를 다시 만들므로 이전 테스트의 캐시 제거
+    productDetailCache.clear();
+
     // 금융회사 데이터
     FinancialCompanies financialCompany = FinancialCompanies.builder()
         .finCoNo(testFinCoNo)
@@ -192,6 +205,69 @@ public class DetailServiceTest {
     then(searchService).should().addToViewedProductsCache(testSavingsId);
   }
 
+  @Test
+  @DisplayName("반복 조회는 캐시에서 응답, 조회수는 요청마다 증가")
+  void getProductDetail_Cached() {
+    // when
+    ProductDetailResponse first = detailService.getProductDetail(testDepositId);
+    ProductDetailResponse second = detailService.getProductDetail(testDepositId);
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(productDetailCache.stats().hits()).isGreaterThanOrEqualTo(1);
+    then(searchService).should(times(2)).addToViewedProductsCache(testDepositId);
+  }
+
+  @Test
+  @DisplayName("일괄 조회는 요청 순서를 유지하고 없는 상품은 따로 알림")
+  void getProductDetails_KeepsOrderAndReportsUnknown() {
+    // when
+    ProductDetailBatchResponse result = detailService.getProductDetails(
+        List.of(testSavingsId, "NONEXISTENT001", testDepositId, testSavingsId));
+
+    // then
+    assertThat(result.getProducts())
+        .extracting(ProductDetailResponse::getFinPrdtCd)
+        .containsExactly(testSavingsId, testDepositId);
+    assertThat(result.getProducts())
+        .extracting(ProductDetailResponse::getProductType)
+        .containsExactly("saving", "deposit");
+    assertThat(result.getUnknownCodes()).containsExactly("NONEXISTENT001");
+
+    // 일괄 조회는 조회수에 반영하지 않음
+    then(searchService).should(never()).addToViewedProductsCache(any());
+  }
+
+  @Test
+  @DisplayName("일괄 조회 상품 수 초과 시 예외 발생")
+  void getProductDetails_TooMany_ThrowsException() {
+    // given
+    List<String> codes = IntStream.rangeClosed(0, DetailService.MAX_BATCH_SIZE)
+        .mapToObj(i -> "CODE" + i)
+        .toList();
+
+    // when & then
+    assertThatThrownBy(() -> detailService.getProductDetails(codes))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("상품 디렉터리에 반영된 적금 상품 조회")
+  void getSavingsProductDetail_FromDirectory() {
+    // given - 카탈로그 재구성으로 상품 디렉터리에 반영
+    productCatalog.refresh();
+    assertThat(productCatalog.find(testSavingsId))
+        .hasValueSatisfying(product -> assertThat(product.kind()).isEqualTo(ProductKind.SAVING));
+
+    // when
+    ProductDetailResponse result = detailService.getProductDetail(testSavingsId);
+
+    // then
+    assertThat(result.getFinPrdtCd()).isEqualTo(testSavingsId);
+    assertThat(result.getProductType()).isEqualTo("saving");
+    then(searchService).should().addToViewedProductsCache(testSavingsId);
+  }
+
   @Test
   @DisplayName("비활성화된 예금 상품도 조회 가능하지만 조회수 증가는 안 함")
   void getDepositProductDetail_InactiveProduct_Success_NoViewCount() {
@@ -0,0 +1,190 @@
+package com.project.savingbee.filtering.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.catalog.service.ProductCatalog;
+import com.project.savingbee.filtering.dto.ProductDetailResponse;
+import com.project.savingbee.filtering.service.ProductDetailCache.CachedDetail;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("상품 상세 캐시 테스트")
+class ProductDetailCacheTest {
+
+  @Mock
+  private ProductCatalog productCatalog;
+
+  private ProductDetailCache productDetailCache;
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    given(productCatalog.current()).willReturn(snapshot(1L));
+    productDetailCache = new ProductDetailCache(productCatalog);
+  }
+
+  @Test
+  @DisplayName("같은 버전이면 한 번만 불러옴")
+  void cacheHit() {
+    CachedDetail first = productDetailCache.get("D001", this::load);
+    CachedDetail second = productDetailCache.get("D001", this::load);
+
+    assertThat(second).isSameAs(first);
+    assertThat(loads).hasValue(1);
+    assertThat(productDetailCache.stats().hits()).isEqualTo(1);
+    assertThat(productDetailCache.stats().misses()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("카탈로그 버전이 바뀌면 다시 불러옴")
+  void reloadOnNewVersion() {
+    productDetailCache.get("D001", this::load);
+    given(productCatalog.current()).willReturn(snapshot(2L));
+
+    productDetailCache.get("D001", this::load);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("동시 미스는 한 번만 불러옴")
+  void singleFlight() throws Exception {
+    CountDownLatch loaderStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<CachedDetail>> results = new ArrayList<>();
+      results.add(executor.submit(() -> productDetailCache.get("D001", code -> {
+        loaderStarted.countDown();
+        await(release);
+        return load(code);
+      })));
+      loaderStarted.await(5, TimeUnit.SECONDS);
+      for (int i = 1; i < threads; i++) {
+        results.add(executor.submit(() -> productDetailCache.get("D001", this::load)));
+      }
+
+      // 나머지 요청이 대기 상태에 들어갈 시간을 준 뒤 로드 완료
+      Thread.sleep(100);
+      release.countDown();
+
+      CachedDetail expected = results.get(0).get(5, TimeUnit.SECONDS);
+      for (Future<CachedDetail> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(expected);
+      }
+      assertThat(loads).hasValue(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("로드 실패는 캐시하지 않음")
+  void failureNotCached() {
+    assertThatThrownBy(() -> productDetailCache.get("D001", code -> {
+      throw new IllegalStateException("DB 연결 실패");
+    })).isInstanceOf(IllegalStateException.class);
+
+    productDetailCache.get("D001", this::load);
+
+    assertThat(loads).hasValue(1);
+    assertThat(productDetailCache.stats().loadFailures()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 상품은 같은 버전 안에서 다시 불러오지 않음")
+  void missingCachedPerVersion() {
+    AtomicInteger missingLoads = new AtomicInteger();
+    Function<String, CachedDetail> missing = code -> {
+      missingLoads.incrementAndGet();
+      throw new IllegalArgumentException("존재하지 않는 상품입니다: " + code);
+    };
+
+    for (int i = 0; i < 3; i++) {
+      assertThatThrownBy(() -> productDetailCache.get("NONE", missing))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("NONE");
+    }
+    assertThat(productDetailCache.getAll(List.of("NONE"), codes -> {
+      throw new AssertionError("캐시된 미존재 상품을 다시 불러옴");
+    })).isEmpty();
+    assertThat(missingLoads).hasValue(1);
+
+    // 수집 후 새 버전에서는 다시 확인
+    given(productCatalog.current()).willReturn(snapshot(2L));
+    CachedDetail detail = productDetailCache.get("NONE", this::load);
+
+    assertThat(detail.response().getFinPrdtCd()).isEqualTo("NONE");
+  }
+
+  @Test
+  @DisplayName("일괄 조회는 캐시에 없는 상품만 한 번에 불러오고 입력 순서 유지")
+  void getAllLoadsMissesOnce() {
+    productDetailCache.get("D002", this::load);
+    List<Collection<String>> requested = new ArrayList<>();
+
+    Map<String, CachedDetail> result = productDetailCache.getAll(
+        List.of("D003", "D002", "NONE", "D001"), codes -> {
+          requested.add(List.copyOf(codes));
+          Map<String, CachedDetail> loaded = new HashMap<>();
+          codes.stream().filter(code -> !code.equals("NONE"))
+              .forEach(code -> loaded.put(code, load(code)));
+          return loaded;
+        });
+
+    assertThat(result.keySet()).containsExactly("D003", "D002", "D001");
+    assertThat(requested).containsExactly(List.of("D003", "NONE", "D001"));
+    assertThat(productDetailCache.get("D003", this::load)).isSameAs(result.get("D003"));
+    assertThat(loads).hasValue(3); // D002 단건 1회 + 일괄 2건
+  }
+
+  @Test
+  @DisplayName("최대 항목 수를 넘으면 정리")
+  void evictWhenFull() {
+    for (int i = 0; i < ProductDetailCache.MAX_ENTRIES + 1; i++) {
+      productDetailCache.get("P" + i, this::load);
+    }
+
+    assertThat(productDetailCache.stats().size()).isLessThanOrEqualTo(ProductDetailCache.MAX_ENTRIES);
+    assertThat(productDetailCache.stats().evictions()).isPositive();
+  }
+
+  private CachedDetail load(String code) {
+    loads.incrementAndGet();
+    return new CachedDetail(ProductDetailResponse.builder().finPrdtCd(code).build(), true);
+  }
+
+  private static CatalogSnapshot snapshot(long version) {
+    return new CatalogSnapshot(version, LocalDateTime.now(), List.of());
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
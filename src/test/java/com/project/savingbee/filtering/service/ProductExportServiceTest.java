@@ -0,0 +1,69 @@
+package com.project.savingbee.filtering.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.savingbee.filtering.dto.DepositFilterRequest;
+import com.project.savingbee.filtering.dto.ProductSummaryResponse;
+import com.project.savingbee.filtering.enums.ExportFormat;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProductExportServiceTest {
+
+  @Mock
+  private DepositFilterService depositFilterService;
+
+  @Mock
+  private SavingFilterService savingFilterService;
+
+  private ProductExportService productExportService;
+
+  @BeforeEach
+  void setUp() {
+    productExportService = new ProductExportService(
+        depositFilterService, savingFilterService, new ObjectMapper());
+  }
+
+  @Test
+  @DisplayName("CSV 셀이 수식 문자로 시작하면 '를 붙여 따옴표로 감싼다")
+  void testCsvNeutralizesFormula() throws Exception {
+    // Given
+    ProductSummaryResponse row = ProductSummaryResponse.builder()
+        .finPrdtCd("DEP001")
+        .finPrdtNm("=HYPERLINK(\"http://x\")")
+        .korCoNm("@은행")
+        .productType("DEPOSIT")
+        .maxIntrRate(new BigDecimal("3.50"))
+        .baseIntrRate(new BigDecimal("-0.10"))
+        .build();
+    doAnswer(invocation -> {
+      Consumer<ProductSummaryResponse> sink = invocation.getArgument(2);
+      sink.accept(row);
+      return 1L;
+    }).when(depositFilterService).forEachFiltered(any(), anyInt(), any());
+
+    // When
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    long count = productExportService.exportDeposit(
+        new DepositFilterRequest(), ExportFormat.CSV, out);
+
+    // Then
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat(count).isEqualTo(1);
+    assertThat(lines[1]).isEqualTo(
+        "DEP001,\"'=HYPERLINK(\"\"http://x\"\")\",\"'@은행\",DEPOSIT,3.50,-0.10");
+  }
+}
@@ -0,0 +1,122 @@
+package com.project.savingbee.filtering.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogRate;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.catalog.model.ProductKind;
+import com.project.savingbee.catalog.service.ProductCatalog;
+import com.project.savingbee.filtering.dto.ProductDetailResponse;
+import com.project.savingbee.filtering.dto.ProductSummaryResponse;
+import com.project.savingbee.filtering.service.ProductDetailCache.CachedDetail;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("상품 JSON 조각 테스트")
+class ProductJsonFragmentsTest {
+
+  @Mock
+  private ObjectProvider<ProductJsonFragments> fragmentsProvider;
+
+  @Mock
+  private ObjectProvider<ProductDetailCache> detailCacheProvider;
+
+  @Mock
+  private ProductCatalog productCatalog;
+
+  private final ObjectMapper plainMapper = new ObjectMapper();
+  private ObjectMapper objectMapper;
+  private ProductJsonFragments productJsonFragments;
+  private CatalogSnapshot snapshot;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = new ObjectMapper();
+    objectMapper.registerModule(
+        new ProductJsonFragmentModule(fragmentsProvider, detailCacheProvider));
+    productJsonFragments = new ProductJsonFragments(objectMapper);
+
+    snapshot = new CatalogSnapshot(1L, LocalDateTime.now(), List.of(
+        product(0, "D001", "정기예금", 350),
+        product(1, "D002", "\"특판\" 예금 ㈜", 410)));
+    productJsonFragments.rebuild(snapshot);
+  }
+
+  @Test
+  @DisplayName("조각으로 쓴 목록 JSON은 일반 직렬화와 같음")
+  void summaryListMatchesPlainSerialization() throws Exception {
+    given(fragmentsProvider.getIfAvailable()).willReturn(productJsonFragments);
+    ProductSummaryResponse exact = ProductSummaryResponse.fromCatalog(snapshot.get(1));
+    exact.setMatchType(ProductSummaryResponse.MATCH_EXACT);
+    ProductSummaryResponse changed = ProductSummaryResponse.fromCatalog(snapshot.get(0));
+    changed.setMaxIntrRate(new BigDecimal("9.99"));
+
+    List<ProductSummaryResponse> page = List.of(
+        ProductSummaryResponse.fromCatalog(snapshot.get(0)), exact, changed);
+
+    assertThat(objectMapper.writeValueAsString(page))
+        .isEqualTo(plainMapper.writeValueAsString(page));
+    assertThat(new String(objectMapper.writeValueAsBytes(page), "UTF-8"))
+        .isEqualTo(plainMapper.writeValueAsString(page));
+  }
+
+  @Test
+  @DisplayName("내용이 같은 요약만 조각 사용")
+  void summaryJsonOnlyForSameContent() {
+    ProductSummaryResponse same = ProductSummaryResponse.fromCatalog(snapshot.get(0));
+    ProductSummaryResponse changed = ProductSummaryResponse.fromCatalog(snapshot.get(0));
+    changed.setKorCoNm("다른은행");
+    ProductSummaryResponse unknown = ProductSummaryResponse.builder().finPrdtCd("NONE").build();
+
+    assertThat(productJsonFragments.summaryJson(same)).isNotNull();
+    assertThat(productJsonFragments.summaryJson(changed)).isNull();
+    assertThat(productJsonFragments.summaryJson(unknown)).isNull();
+    assertThat(productJsonFragments.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("캐시된 상세 응답은 한 번만 인코딩")
+  void detailEncodedOnce() throws Exception {
+    given(productCatalog.current()).willReturn(snapshot);
+    ProductDetailCache productDetailCache = new ProductDetailCache(productCatalog);
+    given(detailCacheProvider.getIfAvailable()).willReturn(productDetailCache);
+
+    ProductDetailResponse response = productDetailCache.get("D001", code -> new CachedDetail(
+        ProductDetailResponse.builder().finPrdtCd(code).finPrdtNm("정기예금").build(), true))
+        .response();
+    AtomicInteger encodes = new AtomicInteger();
+
+    String first = objectMapper.writeValueAsString(response);
+    assertThat(productDetailCache.jsonOf(response, r -> {
+      encodes.incrementAndGet();
+      return "{}";
+    })).isNotNull();
+
+    assertThat(first).isEqualTo(plainMapper.writeValueAsString(response));
+    assertThat(objectMapper.writeValueAsString(response)).isEqualTo(first);
+    assertThat(encodes).hasValue(0); // 첫 직렬화에서 이미 저장됨
+
+    // 캐시에 없는 객체는 일반 직렬화
+    ProductDetailResponse copy = ProductDetailResponse.builder().finPrdtCd("D001").build();
+    assertThat(productDetailCache.jsonOf(copy, r -> "{}")).isNull();
+  }
+
+  private static CatalogProduct product(int id, String code, String name, int rateBp) {
+    CatalogRate rate = new CatalogRate("S", null, 12, rateBp - 50, rateBp);
+    return CatalogProduct.of(id, ProductKind.DEPOSIT, code, name, "0010001", "테스트은행", true,
+        List.of(rate));
+  }
+}
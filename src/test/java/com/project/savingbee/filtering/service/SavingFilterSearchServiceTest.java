@@ -148,7 +148,7 @@ class SavingFilterSearchServiceTest {
         .searchTerm("우리은행")
         .build();
 
-    when(searchService.searchProduct("우리은행"))
+    when(searchService.searchProduct("우리은행", 1, 10))
         .thenReturn(ResponseEntity.ok(mockSearchResponse));
 
     // When
@@ -158,7 +158,7 @@ class SavingFilterSearchServiceTest {
     // Then
     assertThat(result.getContent()).hasSize(2);
     assertThat(result.getTotalElements()).isEqualTo(2);
-    verify(searchService, times(1)).searchProduct("우리은행");
+    verify(searchService, times(1)).searchProduct("우리은행", 1, 10);
     verify(savingFilterService, never()).savingFilter(any()); // 필터링 서비스는 호출되지 않음
     verify(koreanParsing, never()).processKoreanText(any()); // 한국어 전처리도 호출되지 않음
   }
@@ -176,7 +176,7 @@ class SavingFilterSearchServiceTest {
         .searchTerm("존재하지않는은행")
         .build();
 
-    when(searchService.searchProduct("존재하지않는은행"))
+    when(searchService.searchProduct("존재하지않는은행", 1, 10))
         .thenReturn(ResponseEntity.ok(mockSearchResponse));
 
     // When
@@ -186,7 +186,56 @@ class SavingFilterSearchServiceTest {
     // Then
     assertThat(result.getContent()).isEmpty();
     assertThat(result.getTotalElements()).isEqualTo(0);
-    verify(searchService, times(1)).searchProduct("존재하지않는은행");
+    verify(searchService, times(1)).searchProduct("존재하지않는은행", 1, 10);
+  }
+
+  @Test
+  @DisplayName("검색어만 있을 때 페이지 크기는 검색 최대 크기로 제한한다")
+  void testSearchOnlyClampsPageSize() {
+    // Given
+    testRequest.setQ("우리은행");
+    testRequest.setFilters(null);
+    testRequest.setSize(200);
+
+    ProductSearchResponse mockSearchResponse = ProductSearchResponse.builder()
+        .products(mockProductList)
+        .totalCount(mockProductList.size())
+        .searchTerm("우리은행")
+        .build();
+
+    when(searchService.searchProduct("우리은행", 1, SearchService.MAX_PAGE_SIZE))
+        .thenReturn(ResponseEntity.ok(mockSearchResponse));
+
+    // When
+    Page<ProductSummaryResponse> result = savingFilterSearchService.savingFilterWithSearch(
+        testRequest);
+
+    // Then
+    assertThat(result.getContent()).hasSize(2);
+    assertThat(result.getSize()).isEqualTo(SearchService.MAX_PAGE_SIZE);
+    verify(searchService, times(1)).searchProduct("우리은행", 1, SearchService.MAX_PAGE_SIZE);
+  }
+
+  @Test
+  @DisplayName("검색어가 너무 짧아 검색이 실패하면 빈 결과를 반환한다")
+  void testSearchOnlyWithInvalidSearchTerm() {
+    // Given
+    testRequest.setQ("우");
+    testRequest.setFilters(null);
+
+    when(searchService.searchProduct("우", 1, 10))
+        .thenReturn(ResponseEntity.badRequest().body(ProductSearchResponse.builder()
+            .message("검색어가 유효하지 않습니다.")
+            .build()));
+
+    // When
+    Page<ProductSummaryResponse> result = savingFilterSearchService.savingFilterWithSearch(
+        testRequest);
+
+    // Then
+    assertThat(result.getContent()).isEmpty();
+    assertThat(result.getTotalElements()).isEqualTo(0);
+    verify(savingFilterService, never()).savingFilter(any());
   }
 
   /**
@@ -0,0 +1,119 @@
+package com.project.savingbee.filtering.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogRate;
+import com.project.savingbee.catalog.model.ProductKind;
+import com.project.savingbee.catalog.service.PopularityTracker;
+import com.project.savingbee.filtering.service.SearchRanker.RankedPage;
+import com.project.savingbee.filtering.service.SearchRanker.ScoredHit;
+import com.project.savingbee.filtering.service.SearchRanker.SearchHit;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("검색 관련도 점수 테스트")
+class SearchRankerTest {
+
+  @Mock
+  private PopularityTracker popularityTracker;
+
+  private SearchRanker searchRanker;
+
+  @BeforeEach
+  void setUp() {
+    given(popularityTracker.scoreOf(anyString())).willReturn(0.0);
+    searchRanker = new SearchRanker(popularityTracker);
+  }
+
+  @Test
+  @DisplayName("일치 > 접두사 > 단어 시작 > 포함 순")
+  void rankByMatchQuality() {
+    List<SearchHit> hits = List.of(
+        SearchHit.exact(product(0, "D001", "WON정기예금", "우리은행", 300)),
+        SearchHit.exact(product(1, "D002", "스마트정기예금", "국민은행", 300)),
+        SearchHit.exact(product(2, "D003", "정기예금플러스", "국민은행", 300)),
+        SearchHit.exact(product(3, "D004", "정기예금", "국민은행", 300)));
+
+    RankedPage ranked = searchRanker.rank("정기예금", hits, 1, 10);
+
+    assertThat(ranked.items()).extracting(hit -> hit.hit().product().finPrdtCd())
+        .containsExactly("D004", "D003", "D001", "D002");
+    assertThat(ranked.total()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("금융회사명, 인기도, 금리 가산")
+  void rankWithBoosts() {
+    CatalogProduct plain = product(0, "D001", "정기예금A", "국민은행", 300);
+    CatalogProduct popular = product(1, "D002", "정기예금B", "국민은행", 300);
+    CatalogProduct highRate = product(2, "D003", "정기예금C", "국민은행", 450);
+    given(popularityTracker.scoreOf("D002")).willReturn(20.0);
+
+    RankedPage ranked = searchRanker.rank("정기예금",
+        List.of(SearchHit.exact(plain), SearchHit.exact(popular), SearchHit.exact(highRate)),
+        1, 10);
+
+    assertThat(ranked.items()).extracting(hit -> hit.hit().product().finPrdtCd())
+        .containsExactly("D002", "D003", "D001");
+
+    // 상품명 매칭이 같으면 금융회사명이 검색어를 포함하는 상품이 우선
+    RankedPage byCompany = searchRanker.rank("국민", List.of(
+        SearchHit.exact(product(3, "D004", "국민 정기예금", "신한은행", 300)),
+        SearchHit.exact(product(4, "D005", "국민 정기예금", "국민은행", 300))), 1, 10);
+    assertThat(byCompany.items().get(0).hit().product().finPrdtCd()).isEqualTo("D005");
+  }
+
+  @Test
+  @DisplayName("오타 허용 결과는 일치 결과 뒤")
+  void fuzzyAfterExact() {
+    RankedPage ranked = searchRanker.rank("정기예금", List.of(
+        SearchHit.fuzzy(product(0, "D001", "정기예금", "국민은행", 900), 1),
+        SearchHit.exact(product(1, "D002", "고객정기예금적립", "국민은행", 100))), 1, 10);
+
+    assertThat(ranked.items()).extracting(hit -> hit.hit().fuzzy())
+        .containsExactly(false, true);
+  }
+
+  @Test
+  @DisplayName("페이지 단위 상위 k개 선택")
+  void paginate() {
+    List<SearchHit> hits = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      // 금리가 높을수록 상위
+      hits.add(SearchHit.exact(product(i, String.format("D%03d", i), "정기예금" + i, "국민은행",
+          100 + i)));
+    }
+
+    RankedPage first = searchRanker.rank("정기예금", hits, 1, 10);
+    RankedPage third = searchRanker.rank("정기예금", hits, 3, 10);
+    RankedPage beyond = searchRanker.rank("정기예금", hits, 6, 10);
+
+    assertThat(first.items()).hasSize(10);
+    assertThat(first.items().get(0).hit().product().finPrdtCd()).isEqualTo("D049");
+    assertThat(third.items()).extracting(hit -> hit.hit().product().finPrdtCd())
+        .first().isEqualTo("D029");
+    assertThat(third.items()).extracting(ScoredHit::score).isSortedAccordingTo(
+        (a, b) -> Double.compare(b, a));
+    assertThat(beyond.items()).isEmpty();
+    assertThat(beyond.total()).isEqualTo(50);
+  }
+
+  private CatalogProduct product(int id, String code, String name, String company, int rateBp) {
+    CatalogRate rate = new CatalogRate("S", null, 12, rateBp - 50, rateBp);
+    return CatalogProduct.of(id, ProductKind.DEPOSIT, code, name, "0010001", company, true,
+        List.of(rate));
+  }
+}
@@ -2,6 +2,7 @@ package com.project.savingbee.filtering.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.project.savingbee.catalog.service.ProductCatalog;
 import com.project.savingbee.common.entity.DepositProducts;
 import com.project.savingbee.common.entity.FinancialCompanies;
 import com.project.savingbee.common.entity.SavingsProducts;
@@ -50,6 +51,9 @@ public class SearchServiceTest {
   @Autowired
   private FinancialCompaniesRepository financialCompaniesRepository;
 
+  @Autowired
+  private ProductCatalog productCatalog;
+
   private FinancialCompanies testBank;
   private DepositProducts testDeposit;
   private SavingsProducts testSavings;
@@ -110,6 +114,9 @@ public class SearchServiceTest {
         .financialCompany(testBank)
         .build();
     savingsProductsRepository.save(testSavings);
+
+    // 검색은 카탈로그 인덱스를 사용하므로 저장한 상품으로 재구성
+    productCatalog.refresh();
   }
 
   @AfterEach
@@ -162,6 +169,48 @@ public class SearchServiceTest {
     log.info("Found {} products", products.size());
   }
 
+  @Test
+  @DisplayName("초성 검색 성공")
+  void searchProductByChosung() {
+    // When
+    ResponseEntity<ProductSearchResponse> response = searchService.searchProduct("ㅌㅅㅌㅈㄱ");
+
+    // Then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getProducts())
+        .extracting(ProductSummaryResponse::getFinPrdtCd)
+        .containsExactly("SAV_TEST001");
+  }
+
+  @Test
+  @DisplayName("금융회사명 검색 성공")
+  void searchProductByCompanyName() {
+    // When
+    ResponseEntity<ProductSearchResponse> response = searchService.searchProduct("테스트은");
+
+    // Then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getProducts()).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("오타 검색 - 오타 허용 결과로 표시")
+  void searchProductWithTypo() {
+    // When
+    ResponseEntity<ProductSearchResponse> response = searchService.searchProduct("테스트얘금상품");
+
+    // Then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+
+    List<ProductSummaryResponse> products = response.getBody().getProducts();
+    assertThat(products).extracting(ProductSummaryResponse::getFinPrdtCd)
+        .containsExactly("DEP_TEST001");
+    assertThat(products.get(0).getMatchType()).isEqualTo(ProductSummaryResponse.MATCH_FUZZY);
+  }
+
   @Test
   @DisplayName("검색 결과 없음, 인기 상품 반환")
   void searchProductNoResults() {
@@ -0,0 +1,110 @@
+package com.project.savingbee.productCompare;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogRate;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.catalog.model.ProductKind;
+import com.project.savingbee.productCompare.service.CompoundCoefficientTable;
+import com.project.savingbee.productCompare.util.CalcEngine;
+import com.project.savingbee.productCompare.util.CalcEngine.CalcResult;
+import com.project.savingbee.util.BasisPoints;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("실수령액 계산 테스트")
+class CalcEngineTest {
+
+  private static final String[] TYPES = {"S", "M"};
+  private static final int[] TERMS = {1, 3, 6, 12, 24, 36};
+
+  @Test
+  @DisplayName("빠른 계산은 BigDecimal 기준 계산과 항상 같음 (무작위 조합)")
+  void fastPathMatchesExact() {
+    Random random = new Random(20250101L);
+    for (int i = 0; i < 20_000; i++) {
+      long amount = switch (random.nextInt(3)) {
+        case 0 -> random.nextInt(1_000) * 10_000L; // 만 원 단위
+        case 1 -> random.nextInt(100_000_000);
+        default -> (long) (Math.pow(10, random.nextInt(13)) * random.nextDouble());
+      };
+      int rateBp = random.nextBoolean() ? (random.nextInt(20) + 1) * 25 : random.nextInt(2_000) + 1;
+      int term = random.nextBoolean() ? TERMS[random.nextInt(TERMS.length)] : random.nextInt(121);
+
+      assertSameAsExact(amount, rateBp, term, TYPES[random.nextInt(TYPES.length)]);
+    }
+  }
+
+  @Test
+  @DisplayName("이자가 정확히 원 단위로 떨어지는 경계값")
+  void integerBoundaries() {
+    // 1,000,000원 * 3.00% * 1년 = 30,000원 (단리), 100,000원 * 0.25% * 78 = 19,500원 (적금 단리)
+    assertThat(CalcEngine.deposit(1_000_000L, 300, 12, "S").getAfterTaxInterest())
+        .isEqualTo(30_000);
+    assertThat(CalcEngine.savings(100_000L, 300, 12, "S").getAfterTaxInterest())
+        .isEqualTo(19_500);
+
+    for (long amount : new long[]{0, 1, 10_000, 1_000_000, 123_456_789, 9_999_999_999_999L}) {
+      for (int rateBp = 1; rateBp <= 1_000; rateBp += 7) {
+        for (int term : new int[]{0, 1, 12, 24, 36, 120}) {
+          for (String type : TYPES) {
+            assertSameAsExact(amount, rateBp, term, type);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("bp로 떨어지지 않는 금리, 원 미만 금액은 기준 계산과 같음")
+  void bigDecimalInputs() {
+    BigDecimal amount = new BigDecimal("10000000.70");
+    for (BigDecimal rate : new BigDecimal[]{new BigDecimal("3.5"), new BigDecimal("3.456")}) {
+      assertSame(CalcEngine.deposit(amount, rate, 12, "M"),
+          CalcEngine.depositExact(amount, rate, 12, "M"));
+      assertSame(CalcEngine.savings(amount, rate, 12, "S"),
+          CalcEngine.savingsExact(amount, rate, 12, "S"));
+    }
+  }
+
+  @Test
+  @DisplayName("카탈로그 복리 계수 표를 써도 결과가 같음")
+  void coefficientTableMatchesExact() {
+    CompoundCoefficientTable table = new CompoundCoefficientTable();
+    table.rebuild(new CatalogSnapshot(1L, LocalDateTime.now(), List.of(
+        CatalogProduct.of(0, ProductKind.SAVING, "S001", "자유적금", "0010001", "테스트은행", true,
+            List.of(new CatalogRate("M", "F", 12, 350, 410),
+                new CatalogRate("M", "F", 24, 380, BasisPoints.NONE))))));
+
+    assertThat(table.size()).isEqualTo(3);
+    for (int rateBp : new int[]{350, 410, 380, 123}) {
+      for (int term : new int[]{12, 24}) {
+        BigDecimal rate = BigDecimal.valueOf(rateBp, 2);
+        BigDecimal amount = new BigDecimal("300000");
+        assertSame(CalcEngine.savings(amount, rate, term, "M", table),
+            CalcEngine.savingsExact(amount, rate, term, "M"));
+        assertSame(CalcEngine.deposit(amount, rate, term, "M", table),
+            CalcEngine.depositExact(amount, rate, term, "M"));
+      }
+    }
+  }
+
+  private static void assertSameAsExact(long amount, int rateBp, int term, String type) {
+    BigDecimal a = BigDecimal.valueOf(amount);
+    BigDecimal rate = BigDecimal.valueOf(rateBp, 2);
+    assertSame(CalcEngine.deposit(amount, rateBp, term, type),
+        CalcEngine.depositExact(a, rate, term, type));
+    assertSame(CalcEngine.savings(amount, rateBp, term, type),
+        CalcEngine.savingsExact(a, rate, term, type));
+  }
+
+  private static void assertSame(CalcResult actual, CalcResult expected) {
+    assertThat(actual.getAfterTaxInterest()).isEqualTo(expected.getAfterTaxInterest());
+    assertThat(actual.getAmountReceived()).isEqualTo(expected.getAmountReceived());
+  }
+}
@@ -1,28 +1,32 @@
 package com.project.savingbee.productCompare;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.BDDMockito.given;
-import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
-
-import com.project.savingbee.common.entity.DepositInterestRates;
-import com.project.savingbee.common.entity.DepositProducts;
-import com.project.savingbee.common.entity.SavingsInterestRates;
+
+import com.project.savingbee.catalog.index.CompareRateIndex;
+import com.project.savingbee.catalog.model.CatalogCompany;
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogRate;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.catalog.model.ProductKind;
 import com.project.savingbee.common.repository.DepositInterestRatesRepository;
 import com.project.savingbee.common.repository.SavingsInterestRatesRepository;
 import com.project.savingbee.productCompare.dto.CompareRequestDto;
 import com.project.savingbee.productCompare.dto.PageResponseDto;
 import com.project.savingbee.productCompare.dto.ProductInfoDto;
+import com.project.savingbee.productCompare.service.CompoundCoefficientTable;
 import com.project.savingbee.productCompare.service.ProductCompareService;
+import com.project.savingbee.productCompare.util.CalcEngine;
+import com.project.savingbee.util.BasisPoints;
 import java.math.BigDecimal;
-import java.util.Arrays;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Answers;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
@@ -35,9 +39,17 @@ class ProductCompareServiceFilteringTest {
   @Mock
   private SavingsInterestRatesRepository savingsInterestRatesRepository;
 
-  @InjectMocks
+  private CompareRateIndex compareRateIndex;
   private ProductCompareService productCompareService;
 
+  @BeforeEach
+  void setUp() {
+    compareRateIndex = new CompareRateIndex();
+    productCompareService = new ProductCompareService(depositInterestRatesRepository,
+        savingsInterestRatesRepository, compareRateIndex,
+        new CompoundCoefficientTable());
+  }
+
   private CompareRequestDto requestDto(String type, String amount, int term, String minRate, String intrType) {
     CompareRequestDto requestDto = new CompareRequestDto();
     requestDto.setType(type); // D / S
@@ -52,81 +64,47 @@ class ProductCompareServiceFilteringTest {
     return PageRequest.of(page, size);
   }
 
-  // 필터링 통과하는 케이스 용
-  private DepositInterestRates depositRateMapped(
-      String prdtCd, String intr2, String intrType,
-      String minAmt, String maxAmt, int term) {
-
-    DepositInterestRates r = mock(DepositInterestRates.class, Answers.RETURNS_DEEP_STUBS);
-    DepositProducts p = r.getDepositProduct();
-
-    given(r.getDepositProduct()).willReturn(p);
+  // 카탈로그 재구성과 같이 상품코드 순으로 id를 매겨 인덱스 구성
+  private CatalogSnapshot catalog(List<CatalogProduct> products) {
+    List<CatalogProduct> sorted = new ArrayList<>(products);
+    sorted.sort(Comparator.comparing(CatalogProduct::kind).thenComparing(CatalogProduct::finPrdtCd));
 
-    given(p.getFinPrdtCd()).willReturn(prdtCd);
-    given(p.getMinAmount()).willReturn(new BigDecimal(minAmt));
-    given(p.getMaxLimit()).willReturn(new BigDecimal(maxAmt));
-
-    // 우대금리, null일 경우 기본금리 값으로 대체(2.50 설정)
-    given(r.getIntrRate2()).willReturn(intr2 != null ? new BigDecimal(intr2) : new BigDecimal("2.50"));
-    given(r.getIntrRateType()).willReturn(intrType);
-    given(r.getIntrRate()).willReturn(new BigDecimal("2.00"));
-    given(r.getSaveTrm()).willReturn(term);
-    return r;
-  }
-
-  // 타입에서 탈락하는 케이스 용
-  private DepositInterestRates depositRateTypeOnly(String intrType) {
-    DepositInterestRates r = mock(DepositInterestRates.class);
-    given(r.getIntrRateType()).willReturn(intrType);
-    return r;
-  }
+    List<CatalogProduct> withIds = new ArrayList<>();
+    for (CatalogProduct p : sorted) {
+      withIds.add(CatalogProduct.of(withIds.size(), p.kind(), p.finPrdtCd(), p.finPrdtNm(),
+          p.finCoNo(), p.korCoNm(), p.active(), p.rates()));
+    }
 
-  // 최소 이자율에서 탈락하는 케이스 용
-  private DepositInterestRates depositRateMinOnly(String intr2, String intrType) {
-    DepositInterestRates r = mock(DepositInterestRates.class);
-    given(r.getIntrRateType()).willReturn(intrType);
-    given(r.getIntrRate2()).willReturn(new BigDecimal(intr2));
-    return r;
+    CatalogSnapshot snapshot = new CatalogSnapshot(1L, LocalDateTime.now(), withIds, List.of(
+        CatalogCompany.of("0010001", "우리은행"), CatalogCompany.of("0010002", "신한은행")));
+    compareRateIndex.rebuild(snapshot);
+    return snapshot;
   }
 
-  // 금액에서 탈락하는 케이스 용
-  private DepositInterestRates depositRateWithAmountOnly(String intr2, String intrType,
-      String minAmt, String maxAmt) {
-    DepositInterestRates r = mock(DepositInterestRates.class, Answers.RETURNS_DEEP_STUBS);
-    given(r.getIntrRateType()).willReturn(intrType);
-    given(r.getIntrRate2()).willReturn(new BigDecimal(intr2));
-    given(r.getDepositProduct().getMinAmount()).willReturn(new BigDecimal(minAmt));
-    given(r.getDepositProduct().getMaxAmount()).willReturn(new BigDecimal(maxAmt));
-    return r;
+  // 예금 금리 옵션 (기본금리 2.00, 우대금리 null이면 없음)
+  private CatalogProduct depositRate(String prdtCd, String intr2, String intrType,
+      String minAmt, String maxAmt, int term) {
+    return product(ProductKind.DEPOSIT, prdtCd, "0010001", "우리은행",
+        rate(intrType, term, intr2).withAmountRange(new BigDecimal(minAmt), new BigDecimal(maxAmt)));
   }
 
-  // 필터링 탈락하는 케이스 용
-  private SavingsInterestRates savingsRateFilter(
-      String prdtCd, String intr2, String intrType,
+  // 적금 금리 옵션 (월 납입금액 범위)
+  private CatalogProduct savingsRate(String prdtCd, String intr2, String intrType,
       String monthlyMin, String monthlyMax, int term) {
-
-    SavingsInterestRates r = mock(SavingsInterestRates.class, Answers.RETURNS_DEEP_STUBS);
-
-    given(r.getMonthlyLimitMin()).willReturn(new BigDecimal(monthlyMin));
-    given(r.getMonthlyLimitMax()).willReturn(new BigDecimal(monthlyMax));
-    given(r.getIntrRate2()).willReturn(new BigDecimal(intr2));
-    given(r.getIntrRateType()).willReturn(intrType);
-
-    return r;
+    return product(ProductKind.SAVING, prdtCd, "0010001", "우리은행",
+        rate(intrType, term, intr2).withAmountRange(new BigDecimal(monthlyMin),
+            new BigDecimal(monthlyMax)));
   }
 
-  // 필터링 통과하는 케이스 용
-  private SavingsInterestRates savingsRateMapped(
-      String prdtCd, String intr2, String intrType,
-      String monthlyMin, String monthlyMax, int term) {
-
-    SavingsInterestRates r = savingsRateFilter(prdtCd, intr2, intrType, monthlyMin, monthlyMax, term);
-
-    given(r.getSavingsProduct().getFinPrdtCd()).willReturn(prdtCd);
-    given(r.getIntrRate()).willReturn(new BigDecimal("2.00"));
-    given(r.getSaveTrm()).willReturn(term);
+  private static CatalogRate rate(String intrType, int term, String intr2) {
+    return new CatalogRate(intrType, null, term, 200,
+        intr2 != null ? BasisPoints.toBp(new BigDecimal(intr2)) : BasisPoints.NONE);
+  }
 
-    return r;
+  private static CatalogProduct product(ProductKind kind, String prdtCd, String finCoNo,
+      String korCoNm, CatalogRate rate) {
+    return CatalogProduct.of(0, kind, prdtCd, prdtCd + " 상품", finCoNo, korCoNm, true,
+        List.of(rate));
   }
 
   @Nested
@@ -138,14 +116,13 @@ class ProductCompareServiceFilteringTest {
     void depositFilter() {
         // given
       int term = 12;
-      DepositInterestRates r1 = depositRateMapped("A", "3.40", "S", "1000000", "5000000", term); // 통과
-      DepositInterestRates r2 = depositRateMapped("B", "3.20", "S", "1000000", "5000000", term); // 통과
-      DepositInterestRates r3 = depositRateTypeOnly("M"); // 타입 불일치
-      DepositInterestRates r4 = depositRateMinOnly("2.90", "S"); // 금리 미달
-      DepositInterestRates r5 = depositRateWithAmountOnly("3.30", "S", "6000000", "10000000"); // 금액 범위 불일치
-
-      given(depositInterestRatesRepository.findAllBySaveTrmOrderByFinPrdtCd(term))
-          .willReturn(Arrays.asList(r1, r2, r3, r4, r5));
+      catalog(List.of(
+          depositRate("A", "3.40", "S", "1000000", "5000000", term), // 통과
+          depositRate("B", "3.20", "S", "1000000", "5000000", term), // 통과
+          depositRate("C", "3.50", "M", "1000000", "5000000", term), // 타입 불일치
+          depositRate("D", "2.90", "S", "1000000", "5000000", term), // 금리 미달
+          depositRate("E", "3.30", "S", "6000000", "10000000", term), // 금액 범위 불일치
+          depositRate("F", "3.60", "S", "1000000", "5000000", 6))); // 기간 불일치
 
       CompareRequestDto dto = requestDto("D", "3000000", term, "3.00", "S");
       Pageable pageable = pageable(0, 20);
@@ -154,11 +131,11 @@ class ProductCompareServiceFilteringTest {
       PageResponseDto<ProductInfoDto> result = productCompareService.findFilteredProducts(dto, pageable);
 
         // then
-      then(depositInterestRatesRepository).should().findAllBySaveTrmOrderByFinPrdtCd(term);
-
       assertThat(result.getPage()).isEqualTo(0);
       assertThat(result.getSize()).isEqualTo(20);
       assertThat(result.getTotalElements()).isEqualTo(2);
+      assertThat(result.getContent().get(0).getIntrRate2()).isEqualByComparingTo("3.40");
+      assertThat(result.getContent().get(0).getTermMonth()).isEqualTo(term);
     }
 
     @Test
@@ -166,25 +143,27 @@ class ProductCompareServiceFilteringTest {
     void depositAmountRangInclusive() {
         // given
       int term = 6;
-      DepositInterestRates rMin = depositRateMapped("MIN", "3.00", "S", "1000000", "5000000", term);
-      DepositInterestRates rMax = depositRateMapped("MAX", "3.10", "S", "1000000", "5000000", term);
-
-      given(depositInterestRatesRepository.findAllBySaveTrmOrderByFinPrdtCd(term))
-          .willReturn(Arrays.asList(rMin, rMax));
+      catalog(List.of(
+          depositRate("MIN", "3.00", "S", "1000000", "5000000", term),
+          depositRate("MAX", "3.10", "S", "1000000", "5000000", term)));
 
       Pageable pageable = pageable(0, 20);
 
         // when
-      CompareRequestDto minDto = requestDto("D", "1000000", term, "0.00", "S"); // min
+      CompareRequestDto minDto = requestDto("D", "1000000", term, "0.00", "s"); // min
       CompareRequestDto maxDto = requestDto("D", "5000000", term, "0.00", "S"); // max
+      CompareRequestDto overDto = requestDto("D", "5000000.01", term, "0.00", "S"); // 초과
 
       PageResponseDto<ProductInfoDto> atMin = productCompareService.findFilteredProducts(minDto, pageable);
       PageResponseDto<ProductInfoDto> atMax = productCompareService.findFilteredProducts(maxDto, pageable);
+      PageResponseDto<ProductInfoDto> over = productCompareService.findFilteredProducts(overDto, pageable);
 
         // then
       assertThat(atMin.getTotalElements()).isEqualTo(2);
       assertThat(atMin.getContent())
-          .extracting(ProductInfoDto::getProductId).containsExactly("MAX", "MIN");  // 상품코드 정렬
+          .extracting(ProductInfoDto::getProductId).containsExactly("MAX", "MIN");  // 금리 내림차순
+      assertThat(atMax.getTotalElements()).isEqualTo(2);
+      assertThat(over.getTotalElements()).isZero();
     }
 
     @Test
@@ -192,15 +171,13 @@ class ProductCompareServiceFilteringTest {
     void depositSortByPrefRateDesc() {
       int term = 12;
 
-      DepositInterestRates c = depositRateMapped("C", "3.40", "S", "1000000", "5000000", term);
-      DepositInterestRates a = depositRateMapped("A", "4.10", "S", "1000000", "5000000", term);
-      DepositInterestRates b = depositRateMapped("B", "3.40", "S", "1000000", "5000000", term);
-      DepositInterestRates e = depositRateMapped("E", null,"S", "1000000", "5000000", term);
-      DepositInterestRates d = depositRateMapped("D", "2.90", "S", "1000000", "5000000", term);
-
-      // 섞어서 반환 -> 서비스에서 정렬되는지 검증
-      given(depositInterestRatesRepository.findAllBySaveTrmOrderByFinPrdtCd(term))
-          .willReturn(Arrays.asList(c, a, b, e, d));
+      // 섞어서 넣음 -> 인덱스에서 정렬되는지 검증
+      catalog(List.of(
+          depositRate("C", "3.40", "S", "1000000", "5000000", term),
+          depositRate("A", "4.10", "S", "1000000", "5000000", term),
+          depositRate("B", "3.40", "S", "1000000", "5000000", term),
+          depositRate("E", null, "S", "1000000", "5000000", term),
+          depositRate("D", "2.90", "S", "1000000", "5000000", term)));
 
       CompareRequestDto dto = requestDto("D", "3000000", term, "0.00", "S");
       Pageable page = pageable(0, 10);
@@ -210,6 +187,79 @@ class ProductCompareServiceFilteringTest {
       // 정렬 - a b c d e 순(우대금리(null일 경우 기본금리 값으로 대체) 내림차순, 동률 시 상품코드 오름차순)
       assertThat(result.getContent()).extracting(ProductInfoDto::getProductId)
           .containsExactly("A", "B", "C", "D", "E");
+      assertThat(result.getContent().get(4).getIntrRate2()).isNull();
+    }
+
+    @Test
+    @DisplayName("금융회사 키워드 필터링과 페이지 나누기")
+    void depositBankKeywordAndPaging() {
+        // given
+      int term = 12;
+      CatalogRate rate = rate("S", term, "3.00");
+      catalog(List.of(
+          product(ProductKind.DEPOSIT, "A", "0010001", "우리은행", rate),
+          product(ProductKind.DEPOSIT, "B", "0010002", "신한은행", rate),
+          product(ProductKind.DEPOSIT, "C", "0010001", "우리은행", rate),
+          product(ProductKind.DEPOSIT, "D", "0010001", "우리은행", rate)));
+
+      CompareRequestDto dto = requestDto("D", "3000000", term, "0.00", "S");
+      dto.setBankKeyword("우리 ");
+
+        // when
+      PageResponseDto<ProductInfoDto> second = productCompareService.findFilteredProducts(dto, pageable(1, 2));
+
+        // then
+      assertThat(second.getTotalElements()).isEqualTo(3);
+      assertThat(second.getPage()).isEqualTo(1);
+      assertThat(second.getContent()).extracting(ProductInfoDto::getProductId)
+          .containsExactly("D");
+      assertThat(second.getMatchedBankInfo().getMatchedBanks()).hasSize(1);
+      assertThat(second.getContent().get(0).getBankName()).isEqualTo("우리은행");
+
+      // 일치하는 금융회사가 없으면 빈 결과
+      dto.setBankKeyword("국민");
+      PageResponseDto<ProductInfoDto> none = productCompareService.findFilteredProducts(dto, pageable(0, 20));
+      assertThat(none.getTotalElements()).isZero();
+      assertThat(none.getMatchedBankInfo().getMatchedBanks()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실수령액 정렬 - 필터와 같은 우대금리(없으면 기본금리)로 계산, 기본금리 순서와 다름")
+    void depositSortByAmountReceived() {
+        // given
+      int term = 12;
+      catalog(List.of(
+          product(ProductKind.DEPOSIT, "A", "0010001", "우리은행",
+              new CatalogRate("S", null, term, 300, 400)), // 우대금리 최고, 기본금리 최저
+          product(ProductKind.DEPOSIT, "B", "0010001", "우리은행",
+              new CatalogRate("S", null, term, 350, BasisPoints.NONE)),
+          product(ProductKind.DEPOSIT, "C", "0010001", "우리은행",
+              new CatalogRate("S", null, term, 350, 360))));
+
+      CompareRequestDto dto = requestDto("D", "3000000", term, "0.00", "S");
+      dto.setSort("amountReceived");
+
+        // when
+      PageResponseDto<ProductInfoDto> byRate = productCompareService.findFilteredProducts(
+          requestDto("D", "3000000", term, "0.00", "S"), pageable(0, 20));
+      PageResponseDto<ProductInfoDto> byAmount = productCompareService.findFilteredProducts(
+          dto, pageable(0, 2));
+
+        // then
+      assertThat(byRate.getContent()).extracting(ProductInfoDto::getProductId)
+          .containsExactly("A", "C", "B");
+      assertThat(byRate.getContent().get(0).getAmountReceived()).isNull();
+
+      assertThat(byAmount.getTotalElements()).isEqualTo(3);
+      // 기본금리로 계산했다면 B, C(3.50%)가 A(3.00%)보다 앞섬
+      assertThat(byAmount.getContent()).extracting(ProductInfoDto::getProductId)
+          .containsExactly("A", "C");
+      assertThat(byAmount.getContent()).extracting(ProductInfoDto::getAmountReceived)
+          .containsExactly(
+              CalcEngine.depositExact(new BigDecimal("3000000"), new BigDecimal("4.00"), term, "S")
+                  .getAmountReceived(),
+              CalcEngine.depositExact(new BigDecimal("3000000"), new BigDecimal("3.60"), term, "S")
+                  .getAmountReceived());
     }
   }
 
@@ -222,11 +272,9 @@ class ProductCompareServiceFilteringTest {
     void savingsMonthlyAmountRangeInclusive() {
         // given
       int term = 24;
-      SavingsInterestRates r1 = savingsRateMapped("S1", "4.00", "S", "100000", "500000", term);
-      SavingsInterestRates r2 = savingsRateMapped("S2", "3.50", "S", "300000", "700000", term);
-
-      given(savingsInterestRatesRepository.findAllBySaveTrmOrderByFinPrdtCd(term))
-          .willReturn(Arrays.asList(r1, r2));
+      catalog(List.of(
+          savingsRate("S1", "4.00", "S", "100000", "500000", term),
+          savingsRate("S2", "3.50", "S", "300000", "700000", term)));
 
       Pageable pageable = PageRequest.of(0, 20);
 
@@ -240,7 +288,6 @@ class ProductCompareServiceFilteringTest {
           productCompareService.findFilteredProducts(dto2, pageable);
 
         // then
-      then(savingsInterestRatesRepository).should(times(2)).findAllBySaveTrmOrderByFinPrdtCd(term);
       assertThat(atLower.getPage()).isEqualTo(0);
       assertThat(atLower.getSize()).isEqualTo(20);
       assertThat(atLower.getTotalElements()).isEqualTo(1);
@@ -261,12 +308,11 @@ class ProductCompareServiceFilteringTest {
     void savingsFilter() {
         // given
       int term = 12;
-      SavingsInterestRates mOk = savingsRateMapped("OK", "4.10", "M", "1", "99999999", term); // 통과
-      SavingsInterestRates mLow = savingsRateFilter("LOW", "3.00", "M", "1", "99999999", term); // 금리 미달
-      SavingsInterestRates sType = savingsRateFilter("S", "5.00", "S", "1", "99999999", term);  // 타입 불일치
-
-      given(savingsInterestRatesRepository.findAllBySaveTrmOrderByFinPrdtCd(term))
-          .willReturn(Arrays.asList(mOk, mLow, sType));
+      catalog(List.of(
+          savingsRate("OK", "4.10", "M", "1", "99999999", term), // 통과
+          savingsRate("LOW", "3.00", "M", "1", "99999999", term), // 금리 미달
+          savingsRate("S", "5.00", "S", "1", "99999999", term), // 타입 불일치
+          depositRate("DEP", "5.00", "M", "1", "99999999", term))); // 예금
 
       CompareRequestDto dto = requestDto("S", "10000", term, "4.00", "M");
 
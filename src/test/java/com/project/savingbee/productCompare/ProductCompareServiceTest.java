@@ -11,9 +11,14 @@ import com.project.savingbee.common.entity.SavingsInterestRates;
 import com.project.savingbee.common.repository.DepositInterestRatesRepository;
 import com.project.savingbee.common.repository.SavingsInterestRatesRepository;
 import com.project.savingbee.productCompare.dto.CompareExecuteRequestDto;
+import com.project.savingbee.productCompare.dto.CompareGridRequestDto;
+import com.project.savingbee.productCompare.dto.CompareGridResponseDto;
+import com.project.savingbee.productCompare.dto.CompareGridResponseDto.GridProduct;
 import com.project.savingbee.productCompare.dto.CompareResponseDto;
 import com.project.savingbee.productCompare.dto.ProductCompareInfosDto;
+import com.project.savingbee.productCompare.service.CompoundCoefficientTable;
 import com.project.savingbee.productCompare.service.ProductCompareService;
+import com.project.savingbee.productCompare.util.CalcEngine;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
@@ -26,6 +31,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +40,8 @@ class ProductCompareServiceTest {
   private DepositInterestRatesRepository depositInterestRatesRepository;
   @Mock
   private SavingsInterestRatesRepository savingsInterestRatesRepository;
+  @Spy
+  private CompoundCoefficientTable compoundCoefficientTable = new CompoundCoefficientTable();
 
   @InjectMocks
   private ProductCompareService productCompareService;
@@ -245,4 +253,155 @@ class ProductCompareServiceTest {
           .hasMessageContaining("Invalid productIds/intrRateType/termMonth.");
     }
   }
+
+  @Nested
+  @DisplayName("여러 상품 비교")
+  class MultiCompare {
+
+    @Test
+    @DisplayName("여러 상품을 한 번의 조회로 비교, 선택한 순서 유지")
+    void depositManyProducts() {
+        // given
+      int term = 12;
+      String intrRateType = "S";
+      List<String> ids = Arrays.asList("E", "C", "A", "D", "B");
+      List<DepositInterestRates> rates = Arrays.asList(
+          depositRate("A", "은행A", "상품A", "3.00", "3.00", intrRateType),
+          depositRate("B", "은행B", "상품B", "3.10", "3.10", intrRateType),
+          depositRate("C", "은행C", "상품C", "3.40", "3.40", intrRateType),
+          depositRate("D", "은행D", "상품D", "3.30", "3.30", intrRateType),
+          depositRate("E", "은행E", "상품E", "3.20", "3.20", intrRateType));
+
+      given(depositInterestRatesRepository.findAllByFinPrdtCdInAndIntrRateTypeAndSaveTrm(ids,
+          intrRateType, term)).willReturn(rates);
+
+        // when
+      CompareResponseDto responseDto = productCompareService.compareProducts(
+          depositRequestDto(ids, "3000000", term, intrRateType));
+
+        // then
+      then(depositInterestRatesRepository).should()
+          .findAllByFinPrdtCdInAndIntrRateTypeAndSaveTrm(ids, intrRateType, term);
+      then(depositInterestRatesRepository).shouldHaveNoMoreInteractions();
+
+      assertThat(responseDto.getInfo()).extracting(ProductCompareInfosDto::getProductId)
+          .containsExactlyElementsOf(ids);
+      assertThat(responseDto.getWinnerId()).isEqualTo("C");
+      assertThat(responseDto.getInfo()).filteredOn(ProductCompareInfosDto::isWinner)
+          .extracting(ProductCompareInfosDto::getProductId)
+          .containsExactly("C");
+    }
+
+    @Test
+    @DisplayName("같은 상품의 적립유형별 옵션이 여럿이면 기본금리가 높은 옵션으로 비교")
+    void savingsDuplicateOptions() {
+        // given
+      int term = 12;
+      String intrRateType = "M";
+      SavingsInterestRates lower = mock(SavingsInterestRates.class, Answers.RETURNS_DEEP_STUBS);
+      given(lower.getSavingsProduct().getFinPrdtCd()).willReturn("X");
+      given(lower.getIntrRate()).willReturn(new BigDecimal("3.00"));
+      SavingsInterestRates X = savingsRate("X", "은행X", "적금X", "3.50", "3.70", intrRateType);
+      SavingsInterestRates Y = savingsRate("Y", "은행Y", "적금Y", "3.20", "3.40", intrRateType);
+
+      given(savingsInterestRatesRepository.findAllByFinPrdtCdInAndIntrRateTypeAndSaveTrm(
+          Arrays.asList("Y", "X"), intrRateType, term)).willReturn(Arrays.asList(lower, X, Y));
+
+        // when
+      CompareResponseDto responseDto = productCompareService.compareProducts(
+          savingsRequestDto(Arrays.asList("Y", "X"), "100000", term, intrRateType));
+
+        // then
+      assertThat(responseDto.getInfo()).extracting(ProductCompareInfosDto::getProductId)
+          .containsExactly("Y", "X");
+      assertThat(responseDto.getInfo().get(1).getIntrRateAfterTax()).isEqualByComparingTo("3.50");
+      assertThat(responseDto.getWinnerId()).isEqualTo("X");
+    }
+  }
+
+  @Nested
+  @DisplayName("금액 x 기간 비교표")
+  class CompareGrid {
+
+    private DepositInterestRates gridDepositRate(String prdtCd, String bank, String name,
+        int term, String intr) {
+      DepositInterestRates r = mock(DepositInterestRates.class, Answers.RETURNS_DEEP_STUBS);
+      given(r.getDepositProduct().getFinPrdtCd()).willReturn(prdtCd);
+      given(r.getDepositProduct().getFinancialCompany().getKorCoNm()).willReturn(bank);
+      given(r.getDepositProduct().getFinPrdtNm()).willReturn(name);
+      given(r.getSaveTrm()).willReturn(term);
+      given(r.getIntrRate()).willReturn(new BigDecimal(intr));
+      return r;
+    }
+
+    private CompareGridRequestDto gridRequestDto(List<String> ids, List<BigDecimal> amounts,
+        List<Integer> terms) {
+      CompareGridRequestDto requestDto = new CompareGridRequestDto();
+      requestDto.setProductIds(ids);
+      requestDto.setType("D");
+      requestDto.setAmounts(amounts);
+      requestDto.setTermMonths(terms);
+      requestDto.setIntrRateType("M");
+      return requestDto;
+    }
+
+    @Test
+    @DisplayName("한 번의 조회로 모든 기간 x 금액 칸을 계산, 칸마다 winner")
+    void depositGrid() {
+        // given
+      List<String> ids = Arrays.asList("B", "A");
+      List<BigDecimal> amounts = List.of(new BigDecimal("1000000"), BigDecimal.ZERO);
+      List<DepositInterestRates> rates = List.of(
+          gridDepositRate("A", "은행A", "상품A", 12, "3.10"),
+          gridDepositRate("A", "은행A", "상품A", 24, "3.30"),
+          gridDepositRate("B", "은행B", "상품B", 12, "3.20"));
+
+      given(depositInterestRatesRepository.findWithProductByFinPrdtCdInAndIntrRateType(ids, "M"))
+          .willReturn(rates);
+
+        // when
+      CompareGridResponseDto responseDto = productCompareService.compareGrid(
+          gridRequestDto(ids, amounts, null));
+
+        // then
+      then(depositInterestRatesRepository).should()
+          .findWithProductByFinPrdtCdInAndIntrRateType(ids, "M");
+      then(depositInterestRatesRepository).shouldHaveNoMoreInteractions();
+
+      // 기간 목록은 상품들의 모든 기간, 상품은 선택한 순서
+      assertThat(responseDto.getTermMonths()).containsExactly(12, 24);
+      assertThat(responseDto.getProducts()).extracting(GridProduct::getProductId)
+          .containsExactly("B", "A");
+
+      // 12개월: B 금리가 더 높으므로 B가 winner, 0원은 동률이라 null
+      assertThat(responseDto.getAmountReceived()[0][0]).containsExactly(
+          CalcEngine.depositExact(amounts.get(0), new BigDecimal("3.20"), 12, "M")
+              .getAmountReceived(),
+          CalcEngine.depositExact(amounts.get(0), new BigDecimal("3.10"), 12, "M")
+              .getAmountReceived());
+      assertThat(responseDto.getWinnerIds()[0]).containsExactly("B", null);
+
+      // 24개월: B는 금리 옵션이 없어 null, A만 계산
+      assertThat(responseDto.getIntrRates()[1]).containsExactly(null, new BigDecimal("3.30"));
+      assertThat(responseDto.getAmountReceived()[1][0][0]).isNull();
+      assertThat(responseDto.getWinnerIds()[1]).containsExactly("A", "A");
+    }
+
+    @Test
+    @DisplayName("금리 정보가 없는 상품코드 오류")
+    void gridInvalidIds() {
+        // given
+      List<String> ids = Arrays.asList("A", "B");
+      given(depositInterestRatesRepository.findWithProductByFinPrdtCdInAndIntrRateType(ids, "M"))
+          .willReturn(List.of(gridDepositRate("A", "은행A", "상품A", 12, "3.10")));
+
+        // when
+
+        // then
+      assertThatThrownBy(() -> productCompareService.compareGrid(
+          gridRequestDto(ids, List.of(new BigDecimal("1000000")), List.of(12))))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("Invalid productIds/intrRateType.");
+    }
+  }
 }
@@ -0,0 +1,159 @@
+package com.project.savingbee.productCompare;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogRate;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.catalog.model.ProductKind;
+import com.project.savingbee.productCompare.dto.DepositAllocationRequestDto;
+import com.project.savingbee.productCompare.dto.DepositAllocationResponseDto;
+import com.project.savingbee.productCompare.dto.SavingsPlanRequestDto;
+import com.project.savingbee.productCompare.dto.SavingsPlanResponseDto;
+import com.project.savingbee.productCompare.dto.SavingsPlanResponseDto.PlanOption;
+import com.project.savingbee.productCompare.service.CompoundCoefficientTable;
+import com.project.savingbee.productCompare.service.SavingsPlanIndex;
+import com.project.savingbee.productCompare.service.SavingsPlanService;
+import com.project.savingbee.productCompare.util.CalcEngine;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("목표 저축 플래너 테스트")
+class SavingsPlanServiceTest {
+
+  private SavingsPlanService savingsPlanService;
+
+  @BeforeEach
+  void setUp() {
+    SavingsPlanIndex index = new SavingsPlanIndex();
+    CompoundCoefficientTable table = new CompoundCoefficientTable();
+    CatalogSnapshot snapshot = new CatalogSnapshot(1L, LocalDateTime.now(), List.of(
+        savings(0, "A", new CatalogRate("S", "F", 12, 350, 400), "10000", "500000"),
+        savings(1, "B", new CatalogRate("M", "F", 12, 330, 330), "10000", "3000000"),
+        savings(2, "C", new CatalogRate("M", "S", 24, 500, 500), "10000", "3000000"), // 기간 초과
+        savings(3, "D", new CatalogRate("S", "F", 6, 300, 300), "2500000", "3000000"),
+        deposit(4, "X1", "0010001", true, 400, 12, "1000000", "30000000"),
+        deposit(5, "X2", "0010001", true, 380, 12, "1000000", null),
+        deposit(6, "X3", "0010001", true, 450, 24, "1000000", null), // 기간 범위 밖
+        deposit(7, "Y1", "0010002", true, 390, 12, "10000000", null),
+        deposit(8, "Y2", "0010002", false, 500, 12, "1000000", null), // 판매 중단
+        deposit(9, "Z1", "0010003", true, 370, 12, "30000000", null),
+        savings(10, "E", false, new CatalogRate("S", "F", 12, 600, 600), "10000",
+            "3000000"))); // 판매 중단
+    index.rebuild(snapshot);
+    table.rebuild(snapshot);
+    savingsPlanService = new SavingsPlanService(index, table);
+  }
+
+  private static CatalogProduct savings(int id, String prdtCd, CatalogRate rate,
+      String monthlyMin, String monthlyMax) {
+    return savings(id, prdtCd, true, rate, monthlyMin, monthlyMax);
+  }
+
+  private static CatalogProduct savings(int id, String prdtCd, boolean active, CatalogRate rate,
+      String monthlyMin, String monthlyMax) {
+    return CatalogProduct.of(id, ProductKind.SAVING, prdtCd, prdtCd + " 적금", "0010001", "우리은행",
+        active,
+        List.of(rate.withAmountRange(new BigDecimal(monthlyMin), new BigDecimal(monthlyMax))));
+  }
+
+  private static CatalogProduct deposit(int id, String prdtCd, String finCoNo, boolean active,
+      int rateBp, int term, String minAmount, String maxLimit) {
+    CatalogRate rate = new CatalogRate("S", null, term, rateBp, rateBp).withAmountRange(
+        new BigDecimal(minAmount), maxLimit != null ? new BigDecimal(maxLimit) : null);
+    return CatalogProduct.of(id, ProductKind.DEPOSIT, prdtCd, prdtCd + " 예금", finCoNo,
+        "은행" + finCoNo, active, List.of(rate));
+  }
+
+  // 목표일까지 12개월
+  private SavingsPlanRequestDto requestDto(String targetAmount, String amount) {
+    SavingsPlanRequestDto requestDto = new SavingsPlanRequestDto();
+    requestDto.setType("S");
+    requestDto.setTargetDate(LocalDate.now().plusMonths(12).plusDays(1));
+    requestDto.setTargetAmount(targetAmount != null ? new BigDecimal(targetAmount) : null);
+    requestDto.setAmount(amount != null ? new BigDecimal(amount) : null);
+    return requestDto;
+  }
+
+  @Test
+  @DisplayName("목표 금액 - 도달하는 최소 월 납입금 오름차순, 월 납입 한도와 기간 반영")
+  void minMonthlyAmount() {
+        // when
+    SavingsPlanResponseDto responseDto = savingsPlanService.plan(requestDto("12000000", null));
+
+        // then
+    assertThat(responseDto.getGoal()).isEqualTo("MIN_AMOUNT");
+    assertThat(responseDto.getHorizonMonths()).isEqualTo(12);
+    // A는 월 한도(50만원)로 도달 불가, C는 기간 초과, E는 판매 중단
+    assertThat(responseDto.getPlans()).extracting(PlanOption::getProductId)
+        .containsExactly("B", "D");
+
+    // 최소 납입금: 그 금액이면 도달, 1원 적으면 미달
+    PlanOption b = responseDto.getPlans().get(0);
+    assertThat(b.getAmountReceived()).isGreaterThanOrEqualTo(12_000_000);
+    assertThat(CalcEngine.savings(b.getAmount() - 1, 330, 12, "M").getAmountReceived())
+        .isLessThan(12_000_000);
+    // 역산한 값이 월 최소 한도보다 작으면 최소 한도
+    assertThat(responseDto.getPlans().get(1).getAmount()).isEqualTo(2_500_000);
+  }
+
+  @Test
+  @DisplayName("정해진 월 납입금 - 실수령액 내림차순 (금리가 높은 단리가 복리보다 많을 수 있음)")
+  void maxPayout() {
+        // when
+    SavingsPlanResponseDto responseDto = savingsPlanService.plan(requestDto(null, "300000"));
+
+        // then
+    assertThat(responseDto.getGoal()).isEqualTo("MAX_PAYOUT");
+    // 금리가 가장 높은 E는 판매 중단이라 제외
+    assertThat(responseDto.getPlans()).extracting(PlanOption::getProductId)
+        .containsExactly("A", "B");
+    assertThat(responseDto.getPlans().get(1).getAmountReceived()).isEqualTo(
+        CalcEngine.savingsExact(new BigDecimal("300000"), new BigDecimal("3.30"), 12, "M")
+            .getAmountReceived());
+  }
+
+  @Test
+  @DisplayName("목표 금액과 월 납입금은 둘 중 하나만")
+  void targetOrAmount() {
+    assertThatThrownBy(() -> savingsPlanService.plan(requestDto("12000000", "300000")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Exactly one of targetAmount/amount is required.");
+  }
+
+  @Test
+  @DisplayName("목돈 배분 - 상품 한도, 금융회사별 한도, 최소 가입금액 안에서 세후 이자 최대")
+  void allocateDeposits() {
+        // given
+    DepositAllocationRequestDto requestDto = new DepositAllocationRequestDto();
+    requestDto.setTotalAmount(new BigDecimal("120000000"));
+    requestDto.setMinTermMonth(6);
+    requestDto.setMaxTermMonth(12);
+    requestDto.setPerBankCap(new BigDecimal("50000000"));
+
+        // when
+    DepositAllocationResponseDto responseDto = savingsPlanService.allocate(requestDto);
+
+        // then
+    // 금리 순으로만 채우면 X1 3천만, Y1 5천만, X2 2천만 후 남은 2천만이 Z1 최소 가입금액(3천만) 미달로 남음
+    // X2를 1천만 줄여 Z1에 최소 가입금액을 넣으면 전액 배분되고 이자도 더 많음
+    assertThat(responseDto.getAllocations()).extracting(PlanOption::getProductId)
+        .containsExactly("X1", "Y1", "X2", "Z1");
+    assertThat(responseDto.getAllocations()).extracting(PlanOption::getAmount)
+        .containsExactly(30_000_000L, 50_000_000L, 10_000_000L, 30_000_000L);
+    assertThat(responseDto.getAllocatedAmount()).isEqualTo(120_000_000);
+    assertThat(responseDto.getUnallocatedAmount()).isZero();
+    assertThat(responseDto.isOptimal()).isTrue();
+    assertThat(responseDto.getTotalIntrAfterTax()).isEqualTo(
+        CalcEngine.deposit(30_000_000L, 400, 12, "S").getAfterTaxInterest()
+            + CalcEngine.deposit(50_000_000L, 390, 12, "S").getAfterTaxInterest()
+            + CalcEngine.deposit(10_000_000L, 380, 12, "S").getAfterTaxInterest()
+            + CalcEngine.deposit(30_000_000L, 370, 12, "S").getAfterTaxInterest());
+  }
+}
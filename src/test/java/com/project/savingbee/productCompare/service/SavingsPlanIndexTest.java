@@ -0,0 +1,63 @@
+package com.project.savingbee.productCompare.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.savingbee.catalog.model.CatalogProduct;
+import com.project.savingbee.catalog.model.CatalogRate;
+import com.project.savingbee.catalog.model.CatalogSnapshot;
+import com.project.savingbee.catalog.model.ProductKind;
+import com.project.savingbee.productCompare.service.SavingsPlanIndex.Allocation;
+import com.project.savingbee.productCompare.service.SavingsPlanIndex.Plan;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("목표 저축 플래너 인덱스 테스트")
+class SavingsPlanIndexTest {
+
+  // 금리 순으로만 채우면 X1, Y1, X2 후 남은 2천만이 Z1 최소 가입금액(3천만) 미달로 남는 카탈로그
+  private static final CatalogSnapshot SNAPSHOT = new CatalogSnapshot(1L, LocalDateTime.now(),
+      List.of(
+          deposit(0, "X1", "0010001", 400, "1000000", "30000000"),
+          deposit(1, "X2", "0010001", 380, "1000000", null),
+          deposit(2, "Y1", "0010002", 390, "10000000", null),
+          deposit(3, "Z1", "0010003", 370, "30000000", null)));
+
+  private static CatalogProduct deposit(int id, String prdtCd, String finCoNo, int rateBp,
+      String minAmount, String maxLimit) {
+    CatalogRate rate = new CatalogRate("S", null, 12, rateBp, rateBp).withAmountRange(
+        new BigDecimal(minAmount), maxLimit != null ? new BigDecimal(maxLimit) : null);
+    return CatalogProduct.of(id, ProductKind.DEPOSIT, prdtCd, prdtCd + " 예금", finCoNo,
+        "은행" + finCoNo, true, List.of(rate));
+  }
+
+  private static Allocation allocate(SavingsPlanIndex index) {
+    index.rebuild(SNAPSHOT);
+    return index.allocate(6, 12, null, 120_000_000L, 50_000_000L,
+        new CompoundCoefficientTable());
+  }
+
+  @Test
+  @DisplayName("탐색을 끝까지 마치면 최적 배분으로 표시")
+  void allocateExhaustive() {
+    Allocation allocation = allocate(new SavingsPlanIndex());
+
+    assertThat(allocation.optimal()).isTrue();
+    assertThat(allocation.plans()).extracting(Plan::amount)
+        .containsExactly(30_000_000L, 50_000_000L, 10_000_000L, 30_000_000L);
+  }
+
+  @Test
+  @DisplayName("탐색 상한에 걸리면 그때까지의 최선(greedy)을 돌려주고 최적으로 표시하지 않음")
+  void allocateTruncated() {
+    Allocation allocation = allocate(new SavingsPlanIndex(0));
+
+    assertThat(allocation.optimal()).isFalse();
+    assertThat(allocation.plans()).extracting(p -> p.product().finPrdtCd())
+        .containsExactly("X1", "Y1", "X2");
+    assertThat(allocation.plans()).extracting(Plan::amount)
+        .containsExactly(30_000_000L, 50_000_000L, 20_000_000L);
+  }
+}
@@ -0,0 +1,49 @@
+package com.project.savingbee.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("상위 k개 선택 테스트")
+class TopKTest {
+
+  private record Item(String code, int bp) {
+
+  }
+
+  @Test
+  @DisplayName("정렬 후 앞 k개와 같음 - 동률이면 입력 순서")
+  void sameAsStableSortPrefix() {
+    Random random = new Random(42);
+    List<Item> items = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      items.add(new Item("P" + i, random.nextInt(20)));
+    }
+
+    for (int k : new int[]{0, 1, 7, 100, 500, 600}) {
+      List<Item> desc = new ArrayList<>(items);
+      desc.sort(Comparator.comparingInt(Item::bp).reversed());
+      List<Item> asc = new ArrayList<>(items);
+      asc.sort(Comparator.comparingInt(Item::bp));
+
+      assertThat(TopK.largest(items, Item::bp, k))
+          .containsExactlyElementsOf(desc.subList(0, Math.min(k, desc.size())));
+      assertThat(TopK.smallest(items, Item::bp, k))
+          .containsExactlyElementsOf(asc.subList(0, Math.min(k, asc.size())));
+      assertThat(TopK.first(items, Comparator.comparing(Item::code), k))
+          .extracting(Item::code)
+          .containsExactlyElementsOf(items.stream().map(Item::code).sorted().limit(k).toList());
+    }
+  }
+
+  @Test
+  @DisplayName("빈 목록")
+  void emptyInput() {
+    assertThat(TopK.largest(List.<Item>of(), Item::bp, 5)).isEmpty();
+  }
+}